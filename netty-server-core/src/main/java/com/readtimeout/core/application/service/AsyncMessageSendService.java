@@ -1,14 +1,22 @@
 package com.readtimeout.core.application.service;
 
+import com.readtimeout.core.domain.exception.DeadlineExceededException;
+import com.readtimeout.core.domain.model.Deadline;
+import com.readtimeout.core.domain.model.MessagePriority;
 import com.readtimeout.core.domain.model.SendMessage;
+import com.readtimeout.core.domain.model.SendResult;
 import com.readtimeout.core.domain.port.inbound.AsyncMessageSendUseCase;
 import com.readtimeout.core.domain.port.outbound.ExternalApiPort;
 import com.readtimeout.core.domain.port.outbound.MessageLogPort;
 import com.readtimeout.core.domain.port.outbound.AsyncMessagePublisher;
 import lombok.RequiredArgsConstructor;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
 
 @RequiredArgsConstructor
 public class AsyncMessageSendService implements AsyncMessageSendUseCase {
@@ -18,12 +26,89 @@ public class AsyncMessageSendService implements AsyncMessageSendUseCase {
     private final AsyncMessagePublisher messagePublisher;
     private final Executor executor;
 
+    /**
+     * 검증/저장/발행 요청은 executor에서 수행하고, 발행 완료는 publisher가 돌려준 Future에 연결
+     * (비동기 confirm publisher라면 confirm을 기다리는 동안 executor 스레드를 점유하지 않음)
+     *
+     * 큐 대기 중 deadline이 지난 요청은 executor에서 꺼낸 뒤 바로 버림 (DB 저장, 발행 없음)
+     * 작업은 메시지 우선순위를 붙여 넘기므로 lane을 가진 executor는 우선순위별로 스케줄링할 수 있음
+     * executor가 작업을 거부하면(lane 몫 초과 등) 예외를 던지지 않고 실패한 Future로 반환
+     * (호출자가 whenComplete에서 동시성 한도 permit을 반환하고 실패 응답을 보낼 수 있도록)
+     */
     @Override
     public CompletableFuture<Void> send(SendMessage message) {
-        return CompletableFuture.runAsync(() -> {
-            externalApiPort.validate(message.getId());
-            messageLogPort.save(message);
-            messagePublisher.publish(message).join();
-        }, executor);
+        Deadline deadline = message.getDeadline();
+        if (deadline.isExpired()) {
+            return CompletableFuture.failedFuture(new DeadlineExceededException("Deadline exceeded before dispatch"));
+        }
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                deadline.check("validate");
+                externalApiPort.validate(message.getId());
+                deadline.check("save");
+                messageLogPort.save(message);
+                deadline.check("publish");
+                return messagePublisher.publish(message);
+            }, laneOf(message)).thenCompose(Function.identity());
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * 검증/저장은 메시지별로 executor에서 병렬 수행하고,
+     * 통과한 메시지만 모아서 한 번에 발행
+     */
+    @Override
+    public CompletableFuture<List<SendResult>> sendBatch(List<SendMessage> messages) {
+        List<CompletableFuture<Void>> prepared = new ArrayList<>(messages.size());
+        for (SendMessage message : messages) {
+            prepared.add(prepare(message));
+        }
+
+        return CompletableFuture.allOf(prepared.toArray(CompletableFuture[]::new))
+                .handle((ignored, error) -> null)
+                .thenCompose(ignored -> {
+                    BatchSendPlan plan = new BatchSendPlan(messages);
+                    for (int i = 0; i < prepared.size(); i++) {
+                        CompletableFuture<Void> future = prepared.get(i);
+                        if (future.isCompletedExceptionally()) {
+                            plan.reject(i, future.exceptionNow());
+                        } else {
+                            plan.accept(i);
+                        }
+                    }
+
+                    plan.rejectExpired();
+                    if (plan.accepted().isEmpty()) {
+                        return CompletableFuture.completedFuture(plan.complete(List.of()));
+                    }
+                    return messagePublisher.publishBatch(plan.accepted())
+                            .handle((results, error) -> error == null
+                                    ? plan.complete(results)
+                                    : plan.completeExceptionally(error));
+                });
+    }
+
+    private CompletableFuture<Void> prepare(SendMessage message) {
+        Deadline deadline = message.getDeadline();
+        if (deadline.isExpired()) {
+            return CompletableFuture.failedFuture(new DeadlineExceededException("Deadline exceeded before dispatch"));
+        }
+        try {
+            return CompletableFuture.runAsync(() -> {
+                deadline.check("validate");
+                externalApiPort.validate(message.getId());
+                deadline.check("save");
+                messageLogPort.save(message);
+            }, laneOf(message));
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private Executor laneOf(SendMessage message) {
+        MessagePriority priority = message.getPriority();
+        return task -> executor.execute(new PrioritizedTask(priority, task));
     }
 }
@@ -0,0 +1,84 @@
+package com.readtimeout.core.application.service;
+
+import com.readtimeout.core.domain.exception.DeadlineExceededException;
+import com.readtimeout.core.domain.model.SendMessage;
+import com.readtimeout.core.domain.model.SendResult;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 배치 발행 진행 상태
+ *
+ * 검증/저장 단계에서 실패한 메시지는 즉시 실패 결과로 확정하고,
+ * 통과한 메시지만 모아서 한 번에 발행한 뒤 원래 순서대로 결과를 합침.
+ * 단일 스레드(또는 순차적인 리액티브 시그널)에서만 사용.
+ */
+final class BatchSendPlan {
+
+    private final List<SendMessage> messages;
+    private final SendResult[] results;
+    private final int[] acceptedIndexes;
+    private final List<SendMessage> accepted;
+
+    BatchSendPlan(List<SendMessage> messages) {
+        this.messages = messages;
+        this.results = new SendResult[messages.size()];
+        this.acceptedIndexes = new int[messages.size()];
+        this.accepted = new ArrayList<>(messages.size());
+    }
+
+    void accept(int index) {
+        acceptedIndexes[accepted.size()] = index;
+        accepted.add(messages.get(index));
+    }
+
+    void reject(int index, Throwable error) {
+        results[index] = SendResult.failure(messages.get(index).getId(), error);
+    }
+
+    /**
+     * 검증/저장을 통과했지만 발행 전에 deadline이 지난 메시지를 실패 처리 (발행 대상에서 제외)
+     */
+    void rejectExpired() {
+        int kept = 0;
+        for (int i = 0; i < accepted.size(); i++) {
+            SendMessage message = accepted.get(i);
+            if (message.getDeadline().isExpired()) {
+                results[acceptedIndexes[i]] = SendResult.failure(
+                        message.getId(), new DeadlineExceededException("Deadline exceeded before publish"));
+                continue;
+            }
+            acceptedIndexes[kept] = acceptedIndexes[i];
+            accepted.set(kept++, message);
+        }
+        accepted.subList(kept, accepted.size()).clear();
+    }
+
+    List<SendMessage> accepted() {
+        return accepted;
+    }
+
+    /**
+     * 발행 결과를 원래 순서에 반영
+     *
+     * @param publishResults accepted() 순서와 동일한 발행 결과
+     */
+    List<SendResult> complete(List<SendResult> publishResults) {
+        for (int i = 0; i < accepted.size(); i++) {
+            results[acceptedIndexes[i]] = publishResults.get(i);
+        }
+        return Arrays.asList(results);
+    }
+
+    /**
+     * 발행 단계 자체가 실패한 경우 통과한 메시지 전부를 실패 처리
+     */
+    List<SendResult> completeExceptionally(Throwable error) {
+        for (int i = 0; i < accepted.size(); i++) {
+            results[acceptedIndexes[i]] = SendResult.failure(accepted.get(i).getId(), error);
+        }
+        return Arrays.asList(results);
+    }
+}
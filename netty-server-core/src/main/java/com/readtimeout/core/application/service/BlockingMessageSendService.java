@@ -1,12 +1,16 @@
 package com.readtimeout.core.application.service;
 
+import com.readtimeout.core.domain.model.Deadline;
 import com.readtimeout.core.domain.model.SendMessage;
+import com.readtimeout.core.domain.model.SendResult;
 import com.readtimeout.core.domain.port.inbound.MessageSendUseCase;
 import com.readtimeout.core.domain.port.outbound.ExternalApiPort;
 import com.readtimeout.core.domain.port.outbound.MessageLogPort;
 import com.readtimeout.core.domain.port.outbound.MessagePublisher;
 import lombok.RequiredArgsConstructor;
 
+import java.util.List;
+
 @RequiredArgsConstructor
 public class BlockingMessageSendService implements MessageSendUseCase {
 
@@ -14,10 +18,44 @@ public class BlockingMessageSendService implements MessageSendUseCase {
     private final MessageLogPort messageLogPort;
     private final MessagePublisher messagePublisher;
 
+    /**
+     * 단계마다 deadline을 확인하고, 만료된 요청은 남은 단계(DB 저장, 발행)를 수행하지 않음
+     */
     @Override
     public void send(SendMessage message) {
+        Deadline deadline = message.getDeadline();
+        deadline.check("validate");
         externalApiPort.validate(message.getId());
+        deadline.check("save");
         messageLogPort.save(message);
+        deadline.check("publish");
         messagePublisher.publish(message);
     }
+
+    @Override
+    public List<SendResult> sendBatch(List<SendMessage> messages) {
+        BatchSendPlan plan = new BatchSendPlan(messages);
+        for (int i = 0; i < messages.size(); i++) {
+            SendMessage message = messages.get(i);
+            try {
+                message.getDeadline().check("validate");
+                externalApiPort.validate(message.getId());
+                message.getDeadline().check("save");
+                messageLogPort.save(message);
+                plan.accept(i);
+            } catch (RuntimeException e) {
+                plan.reject(i, e);
+            }
+        }
+
+        plan.rejectExpired();
+        if (plan.accepted().isEmpty()) {
+            return plan.complete(List.of());
+        }
+        try {
+            return plan.complete(messagePublisher.publishBatch(plan.accepted()));
+        } catch (RuntimeException e) {
+            return plan.completeExceptionally(e);
+        }
+    }
 }
@@ -0,0 +1,29 @@
+package com.readtimeout.core.application.service;
+
+import com.readtimeout.core.domain.model.MessagePriority;
+
+/**
+ * 우선순위가 붙은 executor 작업
+ *
+ * 서비스가 executor에 넘기는 작업을 감싸서, 우선순위별 lane을 가진 큐(예: 가중치 기반 작업 큐)가
+ * 작업을 어느 lane에 넣을지 알 수 있게 함. 일반 executor에서는 그냥 감싼 작업을 실행.
+ */
+public final class PrioritizedTask implements Runnable {
+
+    private final MessagePriority priority;
+    private final Runnable task;
+
+    public PrioritizedTask(MessagePriority priority, Runnable task) {
+        this.priority = priority;
+        this.task = task;
+    }
+
+    public MessagePriority priority() {
+        return priority;
+    }
+
+    @Override
+    public void run() {
+        task.run();
+    }
+}
@@ -1,13 +1,18 @@
 package com.readtimeout.core.application.service;
 
 import com.readtimeout.core.domain.model.SendMessage;
+import com.readtimeout.core.domain.model.SendResult;
 import com.readtimeout.core.domain.port.inbound.ReactiveMessageSendUseCase;
 import com.readtimeout.core.domain.port.outbound.ReactiveExternalApiPort;
 import com.readtimeout.core.domain.port.outbound.ReactiveMessageLogPort;
 import com.readtimeout.core.domain.port.outbound.ReactiveMessagePublisher;
 import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+import java.util.Optional;
+
 @RequiredArgsConstructor
 public class ReactiveMessageSendService implements ReactiveMessageSendUseCase {
 
@@ -15,10 +20,55 @@ public class ReactiveMessageSendService implements ReactiveMessageSendUseCase {
     private final ReactiveMessageLogPort messageLogPort;
     private final ReactiveMessagePublisher messagePublisher;
 
+    /**
+     * 단계마다 구독 시점에 deadline을 확인하고, 만료된 요청은 남은 단계(DB 저장, 발행)를 구독하지 않음
+     */
     @Override
     public Mono<Void> send(SendMessage message) {
-        return externalApiPort.validate(message.getId())
+        return checkDeadline(message, "validate")
+                .then(externalApiPort.validate(message.getId()))
+                .then(checkDeadline(message, "save"))
                 .then(messageLogPort.save(message))
+                .then(checkDeadline(message, "publish"))
                 .then(messagePublisher.publish(message));
     }
+
+    /**
+     * 검증/저장은 메시지별로 동시에 구독하고,
+     * 통과한 메시지만 모아서 한 번에 발행
+     */
+    @Override
+    public Mono<List<SendResult>> sendBatch(List<SendMessage> messages) {
+        return Flux.fromIterable(messages)
+                .flatMapSequential(message -> checkDeadline(message, "validate")
+                        .then(externalApiPort.validate(message.getId()))
+                        .then(checkDeadline(message, "save"))
+                        .then(messageLogPort.save(message))
+                        .then(Mono.just(Optional.<Throwable>empty()))
+                        .onErrorResume(error -> Mono.just(Optional.of(error))))
+                .collectList()
+                .flatMap(outcomes -> {
+                    BatchSendPlan plan = new BatchSendPlan(messages);
+                    for (int i = 0; i < outcomes.size(); i++) {
+                        Optional<Throwable> error = outcomes.get(i);
+                        if (error.isPresent()) {
+                            plan.reject(i, error.get());
+                        } else {
+                            plan.accept(i);
+                        }
+                    }
+
+                    plan.rejectExpired();
+                    if (plan.accepted().isEmpty()) {
+                        return Mono.just(plan.complete(List.of()));
+                    }
+                    return messagePublisher.publishBatch(plan.accepted())
+                            .map(plan::complete)
+                            .onErrorResume(error -> Mono.just(plan.completeExceptionally(error)));
+                });
+    }
+
+    private static Mono<Void> checkDeadline(SendMessage message, String stage) {
+        return Mono.fromRunnable(() -> message.getDeadline().check(stage));
+    }
 }
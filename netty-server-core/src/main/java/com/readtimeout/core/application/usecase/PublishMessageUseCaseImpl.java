@@ -2,6 +2,7 @@ package com.readtimeout.core.application.usecase;
 
 import com.readtimeout.core.application.dto.PublishRequest;
 import com.readtimeout.core.application.dto.PublishResponse;
+import com.readtimeout.core.domain.exception.DeadlineExceededException;
 import com.readtimeout.core.domain.exception.MessagePublishException;
 import com.readtimeout.core.domain.exception.ValidationException;
 import com.readtimeout.core.domain.model.SendMessage;
@@ -12,6 +13,8 @@ import com.readtimeout.core.domain.port.outbound.TimeProvider;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import java.time.Instant;
+
 @Slf4j
 @RequiredArgsConstructor
 public class PublishMessageUseCaseImpl implements MessagePublishUseCase {
@@ -27,7 +30,9 @@ public class PublishMessageUseCaseImpl implements MessagePublishUseCase {
 
         try {
             // 1. Domain 객체 생성
-            SendMessage sendMessage = new SendMessage(request.getRequestId(), request.getContent());
+            SendMessage sendMessage = new SendMessage(request.getRequestId(), request.getContent(),
+                    Instant.now(), request.getMetadata().deadline());
+            sendMessage.getDeadline().check("publish");
 
             // 2. Fire-and-forget publish (즉시 반환)
             messagePublisher.publish(sendMessage);
@@ -45,6 +50,11 @@ public class PublishMessageUseCaseImpl implements MessagePublishUseCase {
             metricsCollector.recordPublishFailure();
             return PublishResponse.failure(request.getRequestId(), e.getMessage());
 
+        } catch (DeadlineExceededException e) {
+            log.debug("Request dropped: {}", e.getMessage());
+            metricsCollector.recordPublishFailure();
+            return PublishResponse.failure(request.getRequestId(), e.getMessage());
+
         } catch (MessagePublishException e) {
             // Queue overload or submission failure
             log.error("Message publish rejected: {}", e.getMessage(), e);
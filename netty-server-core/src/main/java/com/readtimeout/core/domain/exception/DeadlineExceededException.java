@@ -0,0 +1,13 @@
+package com.readtimeout.core.domain.exception;
+
+/**
+ * DeadlineExceededException
+ *
+ * 요청의 deadline이 지났거나 요청자가 연결을 끊어 더 이상 처리할 필요가 없을 때 발생하는 예외.
+ * 예: 큐 대기 중 클라이언트 타임아웃, 처리 중 연결 종료
+ */
+public class DeadlineExceededException extends DomainException {
+    public DeadlineExceededException(String message) {
+        super(message);
+    }
+}
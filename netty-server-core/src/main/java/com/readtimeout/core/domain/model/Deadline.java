@@ -0,0 +1,85 @@
+package com.readtimeout.core.domain.model;
+
+import com.readtimeout.core.domain.exception.DeadlineExceededException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Deadline Value Object
+ *
+ * 요청을 처리할 가치가 있는 시한.
+ * 만료 시각이 지났거나, 요청자가 떠났으면(연결 종료 등 cancelled 조건) 만료로 봄.
+ * 각 처리 단계(검증, 저장, 발행)는 시작 전에 check()로 확인하고, 만료된 요청은 일을 하지 않고 버림.
+ */
+public final class Deadline {
+
+    private static final BooleanSupplier NEVER = () -> false;
+    private static final Deadline NONE = new Deadline(null, NEVER);
+
+    private final Instant expiresAt;
+    private final BooleanSupplier cancelled;
+
+    private Deadline(Instant expiresAt, BooleanSupplier cancelled) {
+        this.expiresAt = expiresAt;
+        this.cancelled = cancelled;
+    }
+
+    /**
+     * 만료되지 않는 deadline
+     */
+    public static Deadline none() {
+        return NONE;
+    }
+
+    public static Deadline at(Instant expiresAt) {
+        return new Deadline(expiresAt, NEVER);
+    }
+
+    public static Deadline after(Duration timeout) {
+        return at(Instant.now().plus(timeout));
+    }
+
+    /**
+     * 조건이 참이 되면(요청자가 떠나면) 만료 시각과 무관하게 만료로 보는 deadline
+     */
+    public Deadline cancelledWhen(BooleanSupplier condition) {
+        return new Deadline(expiresAt, condition);
+    }
+
+    public boolean isExpired() {
+        return isExpired(Instant.now());
+    }
+
+    public boolean isExpired(Instant now) {
+        if (cancelled.getAsBoolean()) {
+            return true;
+        }
+        return expiresAt != null && !now.isBefore(expiresAt);
+    }
+
+    /**
+     * 단계 시작 전 확인
+     *
+     * @param stage 오류 메시지에 쓸 단계 이름
+     * @throws DeadlineExceededException 만료된 경우
+     */
+    public void check(String stage) {
+        if (isExpired()) {
+            throw new DeadlineExceededException("Deadline exceeded before " + stage);
+        }
+    }
+
+    /**
+     * @return 만료 시각 (만료 시각이 없으면 null)
+     */
+    public Instant expiresAt() {
+        return expiresAt;
+    }
+
+    @Override
+    public String toString() {
+        return expiresAt == null ? "Deadline{none}" : "Deadline{" + expiresAt + "}";
+    }
+}
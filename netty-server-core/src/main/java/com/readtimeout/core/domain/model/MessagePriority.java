@@ -0,0 +1,59 @@
+package com.readtimeout.core.domain.model;
+
+import com.readtimeout.core.domain.exception.ValidationException;
+
+import java.util.Locale;
+
+/**
+ * MessagePriority Enum
+ *
+ * 발행 요청의 우선순위 (예: OTP = HIGH, 마케팅 캠페인 = LOW).
+ * 과부하 시 낮은 우선순위부터 거부되고, 대기 중인 작업은 우선순위별 가중치로 꺼내짐.
+ * 선언 순서가 높은 우선순위 → 낮은 우선순위 (ordinal을 lane 인덱스로 사용).
+ */
+public enum MessagePriority {
+    HIGH("high", 2),
+    NORMAL("normal", 1),
+    LOW("low", 0);
+
+    private final String value;
+    private final int amqpPriority;
+
+    MessagePriority(String value, int amqpPriority) {
+        this.value = value;
+        this.amqpPriority = amqpPriority;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * AMQP basic.properties priority 값 (x-max-priority = 2인 큐 기준, priority queue가 아니면 broker가 무시)
+     */
+    public int getAmqpPriority() {
+        return amqpPriority;
+    }
+
+    /**
+     * "high" | "normal" | "low" (대소문자 무시, null/빈 값은 NORMAL)
+     *
+     * @throws ValidationException 알 수 없는 값
+     */
+    public static MessagePriority parse(String value) {
+        if (value == null || value.isBlank()) {
+            return NORMAL;
+        }
+        return switch (value.trim().toLowerCase(Locale.ROOT)) {
+            case "high" -> HIGH;
+            case "normal" -> NORMAL;
+            case "low" -> LOW;
+            default -> throw new ValidationException("Unknown priority: " + value);
+        };
+    }
+
+    @Override
+    public String toString() {
+        return value;
+    }
+}
@@ -11,8 +11,9 @@ import java.time.Instant;
  * RequestMetadata Value Object
  * <p>
  * HTTP 요청에 대한 메타데이터를 표현하는 불변 값 객체.
+ * deadline이 없으면(null) 시한 없음으로 취급.
  */
-public record RequestMetadata(String requestId, String clientIp, Instant timestamp) {
+public record RequestMetadata(String requestId, String clientIp, Instant timestamp, Deadline deadline) {
     public RequestMetadata {
         if (requestId == null || requestId.isBlank()) {
             throw new ValidationException("Request ID cannot be null or blank");
@@ -23,6 +24,13 @@ public record RequestMetadata(String requestId, String clientIp, Instant timesta
         if (timestamp == null) {
             throw new ValidationException("Timestamp cannot be null");
         }
+        if (deadline == null) {
+            deadline = Deadline.none();
+        }
+
+    }
 
+    public RequestMetadata(String requestId, String clientIp, Instant timestamp) {
+        this(requestId, clientIp, timestamp, Deadline.none());
     }
 }
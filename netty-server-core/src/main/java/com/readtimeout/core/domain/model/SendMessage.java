@@ -20,6 +20,8 @@ public class SendMessage {
     private final String id;
     private final String content;
     private final Instant createdAt;
+    private final Deadline deadline;
+    private final MessagePriority priority;
 
     /**
      * Message 생성자 (현재 시간 자동 설정)
@@ -41,6 +43,33 @@ public class SendMessage {
      * @throws ValidationException 필수 값이 null이거나 빈 값인 경우
      */
     public SendMessage(String id, String content, Instant createdAt) {
+        this(id, content, createdAt, Deadline.none());
+    }
+
+    /**
+     * Message 생성자 (처리 시한 지정)
+     *
+     * @param id 메시지 식별자 (필수, null 불가)
+     * @param content 메시지 내용 (필수, null 불가)
+     * @param createdAt 생성 시간 (필수, null 불가)
+     * @param deadline 처리 시한 (null이면 시한 없음)
+     * @throws ValidationException 필수 값이 null이거나 빈 값인 경우
+     */
+    public SendMessage(String id, String content, Instant createdAt, Deadline deadline) {
+        this(id, content, createdAt, deadline, MessagePriority.NORMAL);
+    }
+
+    /**
+     * Message 생성자 (처리 시한, 우선순위 지정)
+     *
+     * @param id 메시지 식별자 (필수, null 불가)
+     * @param content 메시지 내용 (필수, null 불가)
+     * @param createdAt 생성 시간 (필수, null 불가)
+     * @param deadline 처리 시한 (null이면 시한 없음)
+     * @param priority 우선순위 (null이면 NORMAL)
+     * @throws ValidationException 필수 값이 null이거나 빈 값인 경우
+     */
+    public SendMessage(String id, String content, Instant createdAt, Deadline deadline, MessagePriority priority) {
         if (id == null || id.isBlank()) {
             throw new ValidationException("Message ID cannot be null or blank");
         }
@@ -54,6 +83,8 @@ public class SendMessage {
         this.id = id;
         this.content = content;
         this.createdAt = createdAt;
+        this.deadline = deadline != null ? deadline : Deadline.none();
+        this.priority = priority != null ? priority : MessagePriority.NORMAL;
     }
 
     @Override
@@ -62,6 +93,7 @@ public class SendMessage {
                 "id='" + id + '\'' +
                 ", contentLength=" + content.length() +
                 ", createdAt=" + createdAt +
+                ", priority=" + priority +
                 '}';
     }
 }
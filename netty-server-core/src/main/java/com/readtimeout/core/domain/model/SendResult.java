@@ -0,0 +1,38 @@
+package com.readtimeout.core.domain.model;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * SendResult Value Object
+ *
+ * 배치 발행 시 개별 메시지의 처리 결과.
+ * 일부 메시지만 실패하는 부분 실패(partial failure)를 표현하기 위해 사용.
+ *
+ * @param messageId 메시지 식별자
+ * @param published 브로커 confirm까지 완료되었는지 여부
+ * @param reason 실패 사유 (성공 시 null)
+ */
+public record SendResult(String messageId, boolean published, String reason) {
+
+    public static SendResult success(String messageId) {
+        return new SendResult(messageId, true, null);
+    }
+
+    public static SendResult failure(String messageId, String reason) {
+        return new SendResult(messageId, false, reason);
+    }
+
+    /**
+     * 예외로부터 실패 결과 생성 (CompletableFuture 래핑 예외는 원인으로 unwrap)
+     */
+    public static SendResult failure(String messageId, Throwable error) {
+        Throwable cause = error;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException)
+                && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        String reason = cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName();
+        return new SendResult(messageId, false, reason);
+    }
+}
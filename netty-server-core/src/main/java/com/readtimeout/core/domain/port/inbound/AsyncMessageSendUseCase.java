@@ -1,9 +1,13 @@
 package com.readtimeout.core.domain.port.inbound;
 
 import com.readtimeout.core.domain.model.SendMessage;
+import com.readtimeout.core.domain.model.SendResult;
 
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 public interface AsyncMessageSendUseCase {
     CompletableFuture<Void> send(SendMessage message);
+
+    CompletableFuture<List<SendResult>> sendBatch(List<SendMessage> messages);
 }
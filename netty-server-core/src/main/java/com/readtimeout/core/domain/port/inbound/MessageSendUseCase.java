@@ -1,7 +1,12 @@
 package com.readtimeout.core.domain.port.inbound;
 
 import com.readtimeout.core.domain.model.SendMessage;
+import com.readtimeout.core.domain.model.SendResult;
+
+import java.util.List;
 
 public interface MessageSendUseCase {
     void send(SendMessage message);
+
+    List<SendResult> sendBatch(List<SendMessage> messages);
 }
@@ -1,8 +1,13 @@
 package com.readtimeout.core.domain.port.inbound;
 
 import com.readtimeout.core.domain.model.SendMessage;
+import com.readtimeout.core.domain.model.SendResult;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 public interface ReactiveMessageSendUseCase {
     Mono<Void> send(SendMessage message);
+
+    Mono<List<SendResult>> sendBatch(List<SendMessage> messages);
 }
@@ -1,7 +1,9 @@
 package com.readtimeout.core.domain.port.outbound;
 
 import com.readtimeout.core.domain.model.SendMessage;
+import com.readtimeout.core.domain.model.SendResult;
 
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -24,4 +26,31 @@ public interface AsyncMessagePublisher {
      *         - 실패 시: MessagePublishException으로 완료
      */
     CompletableFuture<Void> publish(SendMessage sendMessage);
+
+    /**
+     * 여러 메시지를 비동기로 한 번에 발행
+     *
+     * 기본 구현은 메시지마다 publish()를 호출하고 모두 완료될 때까지 기다림.
+     *
+     * @param sendMessages 발행할 메시지 목록
+     * @return 입력 순서와 동일한 메시지별 발행 결과 (개별 실패는 예외가 아닌 실패 결과로 표현)
+     */
+    default CompletableFuture<List<SendResult>> publishBatch(List<SendMessage> sendMessages) {
+        List<CompletableFuture<SendResult>> futures = sendMessages.stream()
+                .map(sendMessage -> {
+                    CompletableFuture<Void> published;
+                    try {
+                        published = publish(sendMessage);
+                    } catch (RuntimeException e) {
+                        published = CompletableFuture.failedFuture(e);
+                    }
+                    return published.handle((ignored, error) -> error == null
+                            ? SendResult.success(sendMessage.getId())
+                            : SendResult.failure(sendMessage.getId(), error));
+                })
+                .toList();
+
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> futures.stream().map(CompletableFuture::join).toList());
+    }
 }
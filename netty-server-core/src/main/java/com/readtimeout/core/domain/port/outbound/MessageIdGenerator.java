@@ -0,0 +1,15 @@
+package com.readtimeout.core.domain.port.outbound;
+
+/**
+ * MessageIdGenerator Port
+ *
+ * 요청에 requestId가 없을 때 메시지 ID를 발급하는 출력 포트.
+ * 발급한 ID는 message_log의 인덱스 키가 되므로, 시간 순으로 증가하는 ID를 권장.
+ */
+public interface MessageIdGenerator {
+
+    /**
+     * 새 메시지 ID (호출 스레드 내에서 단조 증가, 전역으로 유일)
+     */
+    String nextId();
+}
@@ -2,8 +2,34 @@ package com.readtimeout.core.domain.port.outbound;
 
 import com.readtimeout.core.domain.exception.MessagePublishException;
 import com.readtimeout.core.domain.model.SendMessage;
+import com.readtimeout.core.domain.model.SendResult;
+
+import java.util.ArrayList;
+import java.util.List;
 
 public interface MessagePublisher {
 
     void publish(SendMessage sendMessage) throws MessagePublishException;
+
+    /**
+     * 여러 메시지를 한 번에 발행
+     *
+     * 기본 구현은 메시지마다 publish()를 호출함.
+     * 구현체는 하나의 채널에서 발행 후 confirm을 한 번만 대기하도록 재정의할 수 있음.
+     *
+     * @param sendMessages 발행할 메시지 목록
+     * @return 입력 순서와 동일한 메시지별 발행 결과
+     */
+    default List<SendResult> publishBatch(List<SendMessage> sendMessages) {
+        List<SendResult> results = new ArrayList<>(sendMessages.size());
+        for (SendMessage sendMessage : sendMessages) {
+            try {
+                publish(sendMessage);
+                results.add(SendResult.success(sendMessage.getId()));
+            } catch (RuntimeException e) {
+                results.add(SendResult.failure(sendMessage.getId(), e));
+            }
+        }
+        return results;
+    }
 }
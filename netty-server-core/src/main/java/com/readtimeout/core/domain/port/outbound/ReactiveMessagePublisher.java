@@ -1,8 +1,12 @@
 package com.readtimeout.core.domain.port.outbound;
 
 import com.readtimeout.core.domain.model.SendMessage;
+import com.readtimeout.core.domain.model.SendResult;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 /**
  * 리액티브 메시지 발행을 위한 Outbound Port
  *
@@ -23,4 +27,20 @@ public interface ReactiveMessagePublisher {
      *         - 실패 시: MessagePublishException으로 에러 시그널
      */
     Mono<Void> publish(SendMessage sendMessage);
+
+    /**
+     * 여러 메시지를 리액티브하게 한 번에 발행
+     *
+     * 기본 구현은 메시지마다 publish()를 동시에 구독하고 입력 순서대로 결과를 모음.
+     *
+     * @param sendMessages 발행할 메시지 목록
+     * @return 입력 순서와 동일한 메시지별 발행 결과 (개별 실패는 에러 시그널이 아닌 실패 결과로 표현)
+     */
+    default Mono<List<SendResult>> publishBatch(List<SendMessage> sendMessages) {
+        return Flux.fromIterable(sendMessages)
+                .flatMapSequential(sendMessage -> publish(sendMessage)
+                        .thenReturn(SendResult.success(sendMessage.getId()))
+                        .onErrorResume(error -> Mono.just(SendResult.failure(sendMessage.getId(), error))))
+                .collectList();
+    }
 }
@@ -0,0 +1,91 @@
+package com.readtimeout.core.application.service;
+
+import com.readtimeout.core.domain.model.Deadline;
+import com.readtimeout.core.domain.model.MessagePriority;
+import com.readtimeout.core.domain.model.SendMessage;
+import com.readtimeout.core.domain.model.SendResult;
+import com.readtimeout.core.domain.port.outbound.AsyncMessagePublisher;
+import com.readtimeout.core.domain.port.outbound.ExternalApiPort;
+import com.readtimeout.core.domain.port.outbound.MessageLogPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AsyncMessageSendService")
+class AsyncMessageSendServiceTest {
+
+    @Mock
+    private ExternalApiPort externalApiPort;
+
+    @Mock
+    private MessageLogPort messageLogPort;
+
+    @Mock
+    private AsyncMessagePublisher messagePublisher;
+
+    private AsyncMessageSendService service;
+
+    @BeforeEach
+    void setUp() {
+        // lane 몫을 넘긴 executor처럼 모든 작업을 거부
+        Executor fullLane = task -> {
+            throw new RejectedExecutionException("lane full");
+        };
+        service = new AsyncMessageSendService(externalApiPort, messageLogPort, messagePublisher, fullLane);
+    }
+
+    @Nested
+    @DisplayName("send")
+    class Send {
+
+        @Test
+        @DisplayName("executor가 작업을 거부하면 예외를 던지지 않고 실패한 Future를 반환한다")
+        void shouldReturnFailedFutureWhenRejected() {
+            // given
+            SendMessage message = new SendMessage("msg-1", "campaign", Instant.now(),
+                    Deadline.none(), MessagePriority.LOW);
+
+            // when
+            CompletableFuture<Void> future = service.send(message);
+
+            // then
+            assertThat(future).isCompletedExceptionally();
+            assertThat(future.exceptionNow()).isInstanceOf(RejectedExecutionException.class);
+            verifyNoInteractions(externalApiPort, messageLogPort, messagePublisher);
+        }
+    }
+
+    @Nested
+    @DisplayName("sendBatch")
+    class SendBatch {
+
+        @Test
+        @DisplayName("executor가 거부한 메시지는 실패 결과로 확정하고 발행하지 않는다")
+        void shouldRejectItemsWhenExecutorRejects() {
+            // given
+            SendMessage message = new SendMessage("msg-1", "campaign", Instant.now(),
+                    Deadline.none(), MessagePriority.LOW);
+
+            // when
+            List<SendResult> results = service.sendBatch(List.of(message)).join();
+
+            // then
+            assertThat(results).extracting(SendResult::published).containsExactly(false);
+            verifyNoInteractions(messagePublisher);
+        }
+    }
+}
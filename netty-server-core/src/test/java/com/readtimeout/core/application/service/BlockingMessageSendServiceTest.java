@@ -0,0 +1,177 @@
+package com.readtimeout.core.application.service;
+
+import com.readtimeout.core.domain.exception.DeadlineExceededException;
+import com.readtimeout.core.domain.exception.MessagePublishException;
+import com.readtimeout.core.domain.exception.ValidationException;
+import com.readtimeout.core.domain.model.Deadline;
+import com.readtimeout.core.domain.model.SendMessage;
+import com.readtimeout.core.domain.model.SendResult;
+import com.readtimeout.core.domain.port.outbound.ExternalApiPort;
+import com.readtimeout.core.domain.port.outbound.MessageLogPort;
+import com.readtimeout.core.domain.port.outbound.MessagePublisher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BlockingMessageSendService")
+class BlockingMessageSendServiceTest {
+
+    @Mock
+    private ExternalApiPort externalApiPort;
+
+    @Mock
+    private MessageLogPort messageLogPort;
+
+    @Mock
+    private MessagePublisher messagePublisher;
+
+    private BlockingMessageSendService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new BlockingMessageSendService(externalApiPort, messageLogPort, messagePublisher);
+    }
+
+    @Nested
+    @DisplayName("send")
+    class Send {
+
+        @Test
+        @DisplayName("deadline이 지난 요청은 검증/저장/발행을 하지 않는다")
+        void shouldSkipAllStagesWhenExpired() {
+            // given
+            SendMessage message = new SendMessage("msg-1", "first", Instant.now(),
+                    Deadline.at(Instant.now().minusSeconds(1)));
+
+            // when & then
+            assertThatThrownBy(() -> service.send(message))
+                    .isInstanceOf(DeadlineExceededException.class);
+            verifyNoInteractions(externalApiPort, messageLogPort, messagePublisher);
+        }
+
+        @Test
+        @DisplayName("검증 중 연결이 끊기면 저장/발행을 하지 않는다")
+        void shouldStopWhenCancelledDuringValidation() {
+            // given
+            AtomicBoolean disconnected = new AtomicBoolean();
+            SendMessage message = new SendMessage("msg-1", "first", Instant.now(),
+                    Deadline.none().cancelledWhen(disconnected::get));
+            doAnswer(invocation -> {
+                disconnected.set(true);
+                return null;
+            }).when(externalApiPort).validate("msg-1");
+
+            // when & then
+            assertThatThrownBy(() -> service.send(message))
+                    .isInstanceOf(DeadlineExceededException.class)
+                    .hasMessageContaining("save");
+            verifyNoInteractions(messageLogPort, messagePublisher);
+        }
+    }
+
+    @Nested
+    @DisplayName("sendBatch")
+    class SendBatch {
+
+        @Test
+        @DisplayName("검증을 통과한 메시지만 한 번에 발행한다")
+        void shouldPublishOnlyValidatedMessages() {
+            // given
+            SendMessage first = new SendMessage("msg-1", "first");
+            SendMessage second = new SendMessage("msg-2", "second");
+            SendMessage third = new SendMessage("msg-3", "third");
+            doAnswer(invocation -> {
+                if ("msg-2".equals(invocation.getArgument(0))) {
+                    throw new ValidationException("invalid");
+                }
+                return null;
+            }).when(externalApiPort).validate(anyString());
+            when(messagePublisher.publishBatch(List.of(first, third)))
+                    .thenReturn(List.of(SendResult.success("msg-1"), SendResult.success("msg-3")));
+
+            // when
+            List<SendResult> results = service.sendBatch(List.of(first, second, third));
+
+            // then
+            assertThat(results).containsExactly(
+                    SendResult.success("msg-1"),
+                    SendResult.failure("msg-2", "invalid"),
+                    SendResult.success("msg-3"));
+            verify(messageLogPort, never()).save(second);
+            verify(messagePublisher).publishBatch(List.of(first, third));
+        }
+
+        @Test
+        @DisplayName("발행 자체가 실패하면 검증을 통과한 메시지 전부가 실패한다")
+        void shouldFailAcceptedMessagesWhenPublishFails() {
+            // given
+            SendMessage first = new SendMessage("msg-1", "first");
+            SendMessage second = new SendMessage("msg-2", "second");
+            when(messagePublisher.publishBatch(any()))
+                    .thenThrow(new MessagePublishException("channel closed"));
+
+            // when
+            List<SendResult> results = service.sendBatch(List.of(first, second));
+
+            // then
+            assertThat(results).extracting(SendResult::published).containsExactly(false, false);
+            assertThat(results).extracting(SendResult::reason).containsOnly("channel closed");
+        }
+
+        @Test
+        @DisplayName("모든 메시지가 검증에 실패하면 발행하지 않는다")
+        void shouldNotPublishWhenNothingAccepted() {
+            // given
+            SendMessage message = new SendMessage("msg-1", "first");
+            doThrow(new ValidationException("invalid")).when(externalApiPort).validate("msg-1");
+
+            // when
+            List<SendResult> results = service.sendBatch(List.of(message));
+
+            // then
+            assertThat(results).containsExactly(SendResult.failure("msg-1", "invalid"));
+            verifyNoInteractions(messagePublisher);
+        }
+
+        @Test
+        @DisplayName("저장 후 deadline이 지난 메시지는 발행 대상에서 제외한다")
+        void shouldExcludeMessagesExpiredBeforePublish() {
+            // given
+            AtomicBoolean disconnected = new AtomicBoolean();
+            SendMessage first = new SendMessage("msg-1", "first");
+            SendMessage second = new SendMessage("msg-2", "second", Instant.now(),
+                    Deadline.none().cancelledWhen(disconnected::get));
+            doAnswer(invocation -> {
+                if (invocation.getArgument(0) == second) {
+                    disconnected.set(true);
+                }
+                return null;
+            }).when(messageLogPort).save(any());
+            when(messagePublisher.publishBatch(List.of(first)))
+                    .thenReturn(List.of(SendResult.success("msg-1")));
+
+            // when
+            List<SendResult> results = service.sendBatch(List.of(first, second));
+
+            // then
+            assertThat(results).extracting(SendResult::published).containsExactly(true, false);
+            assertThat(results.get(1).reason()).contains("Deadline exceeded");
+            verify(messagePublisher).publishBatch(List.of(first));
+        }
+    }
+}
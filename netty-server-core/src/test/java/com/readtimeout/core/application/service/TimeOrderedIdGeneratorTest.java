@@ -0,0 +1,152 @@
+package com.readtimeout.core.application.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("TimeOrderedIdGenerator")
+class TimeOrderedIdGeneratorTest {
+
+    private static final long NOW = 1735689600000L; // 2025-01-01T00:00:00Z
+
+    @Nested
+    @DisplayName("nextId")
+    class NextId {
+
+        @Test
+        @DisplayName("13자 Crockford Base32 문자열을 발급한다")
+        void shouldIssueCompactId() {
+            // given
+            TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(3, () -> NOW);
+
+            // when
+            String id = generator.nextId();
+
+            // then
+            assertThat(id).hasSize(13).matches("[0-9A-HJKMNP-TV-Z]+");
+        }
+
+        @Test
+        @DisplayName("발급 시각과 node id가 ID에 담긴다")
+        void shouldEmbedTimestampAndNodeId() {
+            // given
+            TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(7, () -> NOW);
+
+            // when
+            long value = TimeOrderedIdGenerator.decode(generator.nextId());
+
+            // then
+            assertThat(TimeOrderedIdGenerator.timestampOf(value)).isEqualTo(NOW);
+            assertThat(TimeOrderedIdGenerator.nodeIdOf(value)).isEqualTo(7);
+        }
+
+        @Test
+        @DisplayName("같은 스레드에서는 문자열 순서가 발급 순서와 같다")
+        void shouldBeMonotonicWithinThread() {
+            // given
+            AtomicLong clock = new AtomicLong(NOW);
+            TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(0, clock::get);
+            List<String> ids = new ArrayList<>();
+
+            // when
+            for (int i = 0; i < 10000; i++) {
+                if (i % 1000 == 0) {
+                    clock.incrementAndGet();
+                }
+                ids.add(generator.nextId());
+            }
+
+            // then
+            assertThat(ids).isSorted().doesNotHaveDuplicates();
+        }
+
+        @Test
+        @DisplayName("같은 ms에 sequence를 다 쓰면 다음 ms를 앞당겨 사용한다")
+        void shouldBorrowNextMillisecondWhenSequenceExhausted() {
+            // given
+            TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(0, () -> NOW);
+
+            // when
+            String last = null;
+            for (int i = 0; i <= 4096; i++) {
+                last = generator.nextId();
+            }
+
+            // then
+            assertThat(TimeOrderedIdGenerator.timestampOf(TimeOrderedIdGenerator.decode(last))).isEqualTo(NOW + 1);
+        }
+
+        @Test
+        @DisplayName("시계가 뒤로 가도 ID는 계속 증가한다")
+        void shouldStayMonotonicWhenClockMovesBackwards() {
+            // given
+            AtomicLong clock = new AtomicLong(NOW);
+            TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(0, clock::get);
+            String before = generator.nextId();
+
+            // when
+            clock.set(NOW - 1000);
+            String after = generator.nextId();
+
+            // then
+            assertThat(after).isGreaterThan(before);
+        }
+
+        @Test
+        @DisplayName("여러 스레드가 동시에 발급해도 중복되지 않는다")
+        void shouldBeUniqueAcrossThreads() throws InterruptedException {
+            // given
+            TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(1);
+            Set<String> ids = ConcurrentHashMap.newKeySet();
+            int threads = 40; // slot 수(32)보다 많아 일부 스레드는 slot을 공유
+            int perThread = 5000;
+            CountDownLatch start = new CountDownLatch(1);
+            List<Thread> workers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                Thread worker = new Thread(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    for (int i = 0; i < perThread; i++) {
+                        ids.add(generator.nextId());
+                    }
+                });
+                worker.start();
+                workers.add(worker);
+            }
+
+            // when
+            start.countDown();
+            for (Thread worker : workers) {
+                worker.join();
+            }
+
+            // then
+            assertThat(ids).hasSize(threads * perThread);
+        }
+    }
+
+    @Test
+    @DisplayName("node id가 범위를 벗어나면 예외가 발생한다")
+    void shouldRejectInvalidNodeId() {
+        // when & then
+        assertThatThrownBy(() -> new TimeOrderedIdGenerator(32))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("32");
+        assertThatThrownBy(() -> new TimeOrderedIdGenerator(-1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
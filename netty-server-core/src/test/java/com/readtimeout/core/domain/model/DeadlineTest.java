@@ -0,0 +1,97 @@
+package com.readtimeout.core.domain.model;
+
+import com.readtimeout.core.domain.exception.DeadlineExceededException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Deadline Value Object")
+class DeadlineTest {
+
+    @Nested
+    @DisplayName("만료 판단")
+    class Expiry {
+
+        @Test
+        @DisplayName("만료 시각 이전에는 만료되지 않는다")
+        void shouldNotExpireBeforeExpiresAt() {
+            // given
+            Instant expiresAt = Instant.parse("2024-01-01T00:00:10Z");
+            Deadline deadline = Deadline.at(expiresAt);
+
+            // when & then
+            assertThat(deadline.isExpired(expiresAt.minusMillis(1))).isFalse();
+        }
+
+        @Test
+        @DisplayName("만료 시각부터는 만료된다")
+        void shouldExpireAtExpiresAt() {
+            // given
+            Instant expiresAt = Instant.parse("2024-01-01T00:00:10Z");
+            Deadline deadline = Deadline.at(expiresAt);
+
+            // when & then
+            assertThat(deadline.isExpired(expiresAt)).isTrue();
+            assertThat(deadline.isExpired(expiresAt.plusSeconds(1))).isTrue();
+        }
+
+        @Test
+        @DisplayName("none은 만료되지 않는다")
+        void shouldNeverExpireWhenNone() {
+            // when & then
+            assertThat(Deadline.none().isExpired(Instant.MAX)).isFalse();
+            assertThat(Deadline.none().expiresAt()).isNull();
+        }
+
+        @Test
+        @DisplayName("취소 조건이 참이 되면 만료 시각 전이라도 만료된다")
+        void shouldExpireWhenCancelled() {
+            // given
+            AtomicBoolean disconnected = new AtomicBoolean();
+            Deadline deadline = Deadline.after(Duration.ofMinutes(1)).cancelledWhen(disconnected::get);
+
+            // when
+            boolean before = deadline.isExpired();
+            disconnected.set(true);
+
+            // then
+            assertThat(before).isFalse();
+            assertThat(deadline.isExpired()).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("check")
+    class Check {
+
+        @Test
+        @DisplayName("만료되었으면 단계 이름을 담은 DeadlineExceededException이 발생한다")
+        void shouldThrowWhenExpired() {
+            // given
+            Deadline deadline = Deadline.at(Instant.now().minusSeconds(1));
+
+            // when & then
+            assertThatThrownBy(() -> deadline.check("save"))
+                    .isInstanceOf(DeadlineExceededException.class)
+                    .hasMessageContaining("save");
+        }
+
+        @Test
+        @DisplayName("만료되지 않았으면 예외가 발생하지 않는다")
+        void shouldPassWhenNotExpired() {
+            // given
+            Deadline deadline = Deadline.after(Duration.ofMinutes(1));
+
+            // when & then
+            assertThatCode(() -> deadline.check("save")).doesNotThrowAnyException();
+        }
+    }
+}
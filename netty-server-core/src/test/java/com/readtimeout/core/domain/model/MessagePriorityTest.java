@@ -0,0 +1,67 @@
+package com.readtimeout.core.domain.model;
+
+import com.readtimeout.core.domain.exception.ValidationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("MessagePriority Enum")
+class MessagePriorityTest {
+
+    @Nested
+    @DisplayName("parse")
+    class Parse {
+
+        @Test
+        @DisplayName("대소문자와 공백을 무시하고 변환한다")
+        void shouldParseIgnoringCase() {
+            // when & then
+            assertThat(MessagePriority.parse("HIGH")).isEqualTo(MessagePriority.HIGH);
+            assertThat(MessagePriority.parse(" normal ")).isEqualTo(MessagePriority.NORMAL);
+            assertThat(MessagePriority.parse("Low")).isEqualTo(MessagePriority.LOW);
+        }
+
+        @Test
+        @DisplayName("null이나 빈 값은 NORMAL이다")
+        void shouldDefaultToNormal() {
+            // when & then
+            assertThat(MessagePriority.parse(null)).isEqualTo(MessagePriority.NORMAL);
+            assertThat(MessagePriority.parse(" ")).isEqualTo(MessagePriority.NORMAL);
+        }
+
+        @Test
+        @DisplayName("알 수 없는 값이면 ValidationException이 발생한다")
+        void shouldRejectUnknownValue() {
+            // when & then
+            assertThatThrownBy(() -> MessagePriority.parse("urgent"))
+                    .isInstanceOf(ValidationException.class)
+                    .hasMessageContaining("urgent");
+        }
+    }
+
+    @Test
+    @DisplayName("높은 우선순위일수록 AMQP priority 값이 크다")
+    void shouldOrderAmqpPriorityByPriority() {
+        // when & then
+        assertThat(MessagePriority.HIGH.getAmqpPriority())
+                .isGreaterThan(MessagePriority.NORMAL.getAmqpPriority());
+        assertThat(MessagePriority.NORMAL.getAmqpPriority())
+                .isGreaterThan(MessagePriority.LOW.getAmqpPriority());
+    }
+
+    @Test
+    @DisplayName("우선순위를 지정하지 않은 메시지는 NORMAL이다")
+    void shouldDefaultMessagePriorityToNormal() {
+        // when
+        SendMessage message = new SendMessage("msg-1", "content", Instant.now(), null, null);
+
+        // then
+        assertThat(message.getPriority()).isEqualTo(MessagePriority.NORMAL);
+        assertThat(new SendMessage("msg-2", "content").getPriority()).isEqualTo(MessagePriority.NORMAL);
+    }
+}
@@ -11,6 +11,8 @@ import org.springframework.context.annotation.ComponentScan;
  * 서버 모드 설정 (application.yml의 server.mode):
  * - blocking: EventLoop Thread에서 직접 블로킹 작업 수행 (재현용)
  * - non-blocking: 별도 Thread Pool에서 비동기 처리 (개선 버전)
+ * - micro-batch: EventLoop별로 발행을 모아 한 번에 confirm (group commit)
+ * - async-confirm: amqp-client ConfirmListener로 confirm을 비동기 수신 (waitForConfirms 없음)
  *
  * Non-blocking 모드의 특징:
  * - RabbitMQ Publish를 별도 Thread Pool에서 비동기 처리
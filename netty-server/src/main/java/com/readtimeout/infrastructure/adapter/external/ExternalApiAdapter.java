@@ -9,7 +9,7 @@ import org.springframework.stereotype.Component;
 
 @Slf4j
 @Component
-@ConditionalOnExpression("'${server.mode:non-blocking}'.equals('blocking') or '${server.mode:non-blocking}'.equals('non-blocking') or '${server.mode:non-blocking}'.equals('virtual')")
+@ConditionalOnExpression("'${server.mode:non-blocking}'.equals('blocking') or '${server.mode:non-blocking}'.equals('non-blocking') or '${server.mode:non-blocking}'.equals('virtual') or '${server.mode:non-blocking}'.equals('async-confirm')")
 public class ExternalApiAdapter implements ExternalApiPort {
 
     private final ExternalApiSimulator simulator;
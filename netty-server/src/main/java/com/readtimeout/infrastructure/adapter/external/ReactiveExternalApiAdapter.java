@@ -8,7 +8,7 @@ import reactor.core.publisher.Mono;
 
 @Component
 @RequiredArgsConstructor
-@ConditionalOnExpression("'${server.mode}'.equals('reactive') or '${server.mode}'.equals('reactive-pool')")
+@ConditionalOnExpression("'${server.mode}'.equals('reactive') or '${server.mode}'.equals('reactive-pool') or '${server.mode}'.equals('micro-batch')")
 public class ReactiveExternalApiAdapter implements ReactiveExternalApiPort {
 
     private final ExternalApiSimulator simulator;
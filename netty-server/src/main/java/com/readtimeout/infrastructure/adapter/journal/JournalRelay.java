@@ -0,0 +1,137 @@
+package com.readtimeout.infrastructure.adapter.journal;
+
+import com.readtimeout.core.domain.model.SendMessage;
+import com.readtimeout.core.domain.model.SendResult;
+import com.readtimeout.core.domain.port.outbound.AsyncMessagePublisher;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * SpillJournal → RabbitMQ 전달 스레드
+ *
+ * checkpoint부터 fsync된 레코드를 batchSize씩 읽어 모드의 AsyncMessagePublisher로 발행하고,
+ * 배치 전체가 broker confirm을 받은 뒤에만 checkpoint를 전진(→ 다 옮긴 세그먼트 삭제).
+ * - 실패한 메시지는 지수 백오프(최대 MAX_BACKOFF)로 성공할 때까지 재발행
+ *   → broker 장애는 클라이언트 실패가 아니라 relay 지연(journal.segments 증가)으로 나타남
+ * - 재시작/재시도 시 같은 메시지가 다시 발행될 수 있음 (at-least-once)
+ */
+@Slf4j
+public final class JournalRelay implements AutoCloseable {
+
+    private static final long IDLE_WAIT_MILLIS = 10;
+    private static final long INITIAL_BACKOFF_MILLIS = 10;
+    private static final long MAX_BACKOFF_MILLIS = 5_000;
+
+    private final SpillJournal journal;
+    private final AsyncMessagePublisher publisher;
+    private final int batchSize;
+    private final Thread worker;
+
+    private final Counter relayedCounter;
+    private final Counter retriedCounter;
+
+    private volatile boolean running = true;
+
+    public JournalRelay(SpillJournal journal, AsyncMessagePublisher publisher, int batchSize,
+                        MeterRegistry meterRegistry) {
+        this.journal = journal;
+        this.publisher = publisher;
+        this.batchSize = batchSize;
+
+        this.relayedCounter = Counter.builder("journal.relay.published")
+                .description("Journaled messages confirmed by the broker")
+                .register(meterRegistry);
+        this.retriedCounter = Counter.builder("journal.relay.retried")
+                .description("Journaled messages republished after a failed publish")
+                .register(meterRegistry);
+
+        this.worker = new Thread(this::run, "journal-relay");
+        this.worker.setDaemon(true);
+    }
+
+    public void start() {
+        worker.start();
+        log.info("JournalRelay started (batchSize={}, from={})", batchSize, journal.checkpoint());
+    }
+
+    private void run() {
+        SpillJournal.Position cursor = journal.checkpoint();
+
+        while (running) {
+            SpillJournal.ReadBatch batch = journal.read(cursor, batchSize);
+            if (batch.messages().isEmpty()) {
+                if (!batch.next().equals(cursor)) {
+                    // 빈 세그먼트를 건너뜀
+                    cursor = batch.next();
+                    journal.commit(cursor);
+                }
+                journal.awaitDurable(IDLE_WAIT_MILLIS, TimeUnit.MILLISECONDS);
+                continue;
+            }
+
+            if (!publishUntilConfirmed(batch.messages())) {
+                return;
+            }
+            cursor = batch.next();
+            journal.commit(cursor);
+        }
+    }
+
+    /**
+     * 배치의 모든 메시지가 confirm될 때까지 실패분만 재발행
+     *
+     * @return 종료 요청으로 중단되면 false
+     */
+    private boolean publishUntilConfirmed(List<SendMessage> messages) {
+        List<SendMessage> remaining = messages;
+        long backoff = INITIAL_BACKOFF_MILLIS;
+
+        while (running) {
+            List<SendResult> results;
+            try {
+                results = publisher.publishBatch(remaining).join();
+            } catch (RuntimeException e) {
+                results = remaining.stream().map(m -> SendResult.failure(m.getId(), e)).toList();
+            }
+
+            List<SendMessage> failed = new ArrayList<>();
+            String reason = null;
+            for (int i = 0; i < results.size(); i++) {
+                SendResult result = results.get(i);
+                if (!result.published()) {
+                    failed.add(remaining.get(i));
+                    reason = result.reason();
+                }
+            }
+            relayedCounter.increment(remaining.size() - failed.size());
+            if (failed.isEmpty()) {
+                return true;
+            }
+
+            retriedCounter.increment(failed.size());
+            log.warn("Journal relay failed to publish {} of {} messages, retrying in {}ms: {}",
+                    failed.size(), remaining.size(), backoff, reason);
+            LockSupport.parkNanos(this, TimeUnit.MILLISECONDS.toNanos(backoff));
+            backoff = Math.min(backoff * 2, MAX_BACKOFF_MILLIS);
+            remaining = failed;
+        }
+        return false;
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(worker);
+        try {
+            worker.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
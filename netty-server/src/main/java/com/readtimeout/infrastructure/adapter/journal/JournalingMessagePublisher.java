@@ -0,0 +1,26 @@
+package com.readtimeout.infrastructure.adapter.journal;
+
+import com.readtimeout.core.domain.model.SendMessage;
+import com.readtimeout.core.domain.port.outbound.AsyncMessagePublisher;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * SpillJournal 기록을 발행 완료로 보는 AsyncMessagePublisher
+ *
+ * 클라이언트 응답은 journal fsync 시점에 나가고, broker 발행은 JournalRelay가 비동기로 수행.
+ * publishBatch의 기본 구현도 메시지마다 append하므로 같은 group fsync에 묶임.
+ */
+public class JournalingMessagePublisher implements AsyncMessagePublisher {
+
+    private final SpillJournal journal;
+
+    public JournalingMessagePublisher(SpillJournal journal) {
+        this.journal = journal;
+    }
+
+    @Override
+    public CompletableFuture<Void> publish(SendMessage sendMessage) {
+        return journal.append(sendMessage);
+    }
+}
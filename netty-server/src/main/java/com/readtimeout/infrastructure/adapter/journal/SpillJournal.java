@@ -0,0 +1,646 @@
+package com.readtimeout.infrastructure.adapter.journal;
+
+import com.readtimeout.core.domain.exception.BackpressureRejectedException;
+import com.readtimeout.core.domain.exception.MessagePublishException;
+import com.readtimeout.core.domain.model.Deadline;
+import com.readtimeout.core.domain.model.MessagePriority;
+import com.readtimeout.core.domain.model.SendMessage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * 발행 전 메시지를 로컬 디스크에 남기는 write-ahead 저널
+ *
+ * broker가 느리거나 내려가도 클라이언트 요청을 실패시키지 않기 위해,
+ * 메시지를 먼저 저널에 기록(fsync)하고 응답한 뒤 JournalRelay가 broker로 옮김.
+ * - 세그먼트 파일(segmentSize)을 mmap하여 순차 append (레코드: length | crc32c | payload)
+ * - group fsync: flusher 스레드가 fsyncInterval마다 그 사이 기록된 범위를 한 번에 force하고 대기 Future를 일괄 완료
+ * - relay는 force된 범위만 읽고, broker confirm을 받은 위치까지 commit → 이전 세그먼트 삭제
+ * - 재시작 시 checkpoint 이후 레코드를 다시 relay (at-least-once, 소비자는 messageId로 중복 제거)
+ *
+ * 세그먼트 수가 maxSegments에 도달하면(relay가 따라가지 못하면) append를 BackpressureRejectedException으로 거부.
+ *
+ * fsync가 실패하면 그때까지 force되지 않은 레코드는 모두 실패로 응답하므로, 이 레코드들이 나중에 relay되지 않도록
+ * 해당 세그먼트를 마지막 fsync 위치에서 봉인(poison)하고 다음 append부터 새 세그먼트를 씀.
+ * 봉인 위치에 끝 표시(length 0)를 남겨 재시작 후 복구에서도 제외 (디스크가 쓰기를 받지 않으면 best-effort).
+ * 재시작 후에는 복구한 세그먼트를 모두 봉인하고 새 세그먼트부터 쓰므로 끝 표시 뒤의 레코드 위에 이어 쓰지 않음.
+ * 거부된 append 수는 journal.fsync.failed로 기록.
+ */
+@Slf4j
+public final class SpillJournal implements AutoCloseable {
+
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final String CHECKPOINT_FILE = "relay.checkpoint";
+    // length(4) + crc(4)
+    private static final int RECORD_HEADER = 8;
+    private static final MessagePriority[] PRIORITIES = MessagePriority.values();
+
+    /**
+     * 저널 내 위치 (세그먼트 id, 세그먼트 내 offset)
+     */
+    public record Position(long segmentId, int offset) {
+    }
+
+    /**
+     * relay가 읽은 레코드 묶음과 그 다음 위치
+     */
+    public record ReadBatch(List<SendMessage> messages, Position next) {
+    }
+
+    private final Path directory;
+    private final int segmentSize;
+    private final int maxSegments;
+    private final long fsyncIntervalNanos;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    // flush끼리 겹치면 durable이 뒤로 갈 수 있으므로 직렬화 (append와는 경쟁하지 않음)
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final ArrayDeque<Segment> segments = new ArrayDeque<>();
+    private final FileChannel checkpointChannel;
+    private Segment active;
+    private List<CompletableFuture<Void>> waiting = new ArrayList<>();
+    private boolean closed;
+
+    private final Thread flusher;
+    private volatile Thread relayThread;
+    private volatile boolean running = true;
+    private volatile Position checkpoint;
+
+    private final Timer fsyncTimer;
+    private final DistributionSummary fsyncBatchSize;
+    private final Counter fsyncFailedCounter;
+
+    private SpillJournal(Path directory, int segmentSize, int maxSegments, long fsyncIntervalNanos,
+                         MeterRegistry meterRegistry) throws IOException {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.maxSegments = maxSegments;
+        this.fsyncIntervalNanos = fsyncIntervalNanos;
+
+        Files.createDirectories(directory);
+        this.checkpointChannel = FileChannel.open(directory.resolve(CHECKPOINT_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        recover();
+
+        this.fsyncTimer = Timer.builder("journal.fsync.duration")
+                .description("Time spent in a group fsync of the spill journal")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.fsyncFailedCounter = Counter.builder("journal.fsync.failed")
+                .description("Appends rejected because the group fsync covering them failed")
+                .register(meterRegistry);
+        this.fsyncBatchSize = DistributionSummary.builder("journal.fsync.batch")
+                .description("Appends made durable by one group fsync")
+                .register(meterRegistry);
+        Gauge.builder("journal.segments", this, SpillJournal::segmentCount)
+                .description("Live spill journal segments (not yet fully relayed)")
+                .register(meterRegistry);
+
+        this.flusher = new Thread(this::runFlusher, "journal-flusher");
+        this.flusher.setDaemon(true);
+    }
+
+    public static SpillJournal open(Path directory, int segmentSize, int maxSegments, long fsyncInterval,
+                                    TimeUnit unit, MeterRegistry meterRegistry) throws IOException {
+        SpillJournal journal = new SpillJournal(
+                directory, segmentSize, maxSegments, unit.toNanos(fsyncInterval), meterRegistry);
+        journal.flusher.start();
+        log.info("SpillJournal opened (dir={}, segments={}, checkpoint={}, segmentSize={}MB, fsyncInterval={}μs)",
+                directory, journal.segments.size(), journal.checkpoint, segmentSize >> 20,
+                unit.toMicros(fsyncInterval));
+        return journal;
+    }
+
+    /**
+     * 메시지 기록
+     *
+     * @return 기록이 디스크에 fsync되면 완료
+     */
+    public CompletableFuture<Void> append(SendMessage message) {
+        byte[] payload = encode(message);
+        int recordSize = RECORD_HEADER + payload.length;
+        if (recordSize + Integer.BYTES > segmentSize) {
+            return CompletableFuture.failedFuture(
+                    new MessagePublishException("Message too large for journal segment [id=" + message.getId() + "]"));
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(payload);
+
+        CompletableFuture<Void> durable = new CompletableFuture<>();
+        lock.lock();
+        try {
+            if (closed) {
+                return CompletableFuture.failedFuture(new MessagePublishException("Journal is closed"));
+            }
+            // 다음 레코드의 length(0 = 끝) 자리를 남겨 둠
+            if (active.poisoned || active.written + recordSize + Integer.BYTES > segmentSize) {
+                if (segments.size() >= maxSegments) {
+                    return CompletableFuture.failedFuture(new BackpressureRejectedException(
+                            "Spill journal is full (" + maxSegments + " segments)"));
+                }
+                roll();
+            }
+
+            MappedByteBuffer buffer = active.buffer;
+            int position = active.written;
+            buffer.putInt(position + Integer.BYTES, (int) crc.getValue());
+            buffer.put(position + RECORD_HEADER, payload);
+            buffer.putInt(position, payload.length);
+            active.written = position + recordSize;
+            waiting.add(durable);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(new MessagePublishException("Failed to roll journal segment", e));
+        } finally {
+            lock.unlock();
+        }
+        return durable;
+    }
+
+    /**
+     * relay가 마지막으로 commit한 위치 (재시작 시 이어서 읽을 위치)
+     */
+    public Position checkpoint() {
+        return checkpoint;
+    }
+
+    /**
+     * from부터 fsync된 레코드를 최대 maxRecords개 읽음 (relay 스레드 전용)
+     */
+    public ReadBatch read(Position from, int maxRecords) {
+        List<SendMessage> messages = new ArrayList<>(Math.min(maxRecords, 1024));
+        Position cursor = from;
+
+        while (messages.size() < maxRecords) {
+            Segment segment = find(cursor.segmentId());
+            if (segment == null) {
+                Segment first = first();
+                if (first == null || first.id <= cursor.segmentId()) {
+                    break;
+                }
+                cursor = new Position(first.id, 0);
+                continue;
+            }
+
+            int offset = cursor.offset();
+            int durable = segment.durable;
+            ByteBuffer view = segment.buffer.duplicate();
+            while (offset < durable && messages.size() < maxRecords) {
+                int length = view.getInt(offset);
+                byte[] payload = new byte[length];
+                view.get(offset + RECORD_HEADER, payload);
+                messages.add(decode(payload));
+                offset += RECORD_HEADER + length;
+            }
+            cursor = new Position(segment.id, offset);
+
+            // 봉인된 세그먼트는 끝(sealedLength)까지 읽었고 그 범위가 모두 fsync된 뒤에만 넘어감
+            // (roll 직후에는 마지막 레코드들의 fsync가 아직 끝나지 않았을 수 있음)
+            if (!segment.sealed || offset < segment.sealedLength || segment.durable < segment.sealedLength) {
+                break;
+            }
+            Segment next = after(segment.id);
+            if (next == null) {
+                break;
+            }
+            cursor = new Position(next.id, 0);
+        }
+
+        return new ReadBatch(messages, cursor);
+    }
+
+    /**
+     * relay가 position 이전까지 broker confirm을 받았음을 기록하고, 다 옮긴 세그먼트를 삭제
+     */
+    public void commit(Position position) {
+        List<Segment> released = new ArrayList<>();
+        lock.lock();
+        try {
+            while (segments.size() > 1 && segments.peekFirst().id < position.segmentId()) {
+                released.add(segments.pollFirst());
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        try {
+            writeCheckpoint(position, !released.isEmpty());
+        } catch (IOException e) {
+            log.warn("Failed to write journal checkpoint: {}", e.getMessage());
+        }
+        checkpoint = position;
+
+        for (Segment segment : released) {
+            segment.delete();
+        }
+    }
+
+    /**
+     * 새 레코드가 fsync될 때까지 최대 timeout 동안 대기 (relay 스레드 전용)
+     */
+    public void awaitDurable(long timeout, TimeUnit unit) {
+        relayThread = Thread.currentThread();
+        LockSupport.parkNanos(this, unit.toNanos(timeout));
+    }
+
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            closed = true;
+        } finally {
+            lock.unlock();
+        }
+        running = false;
+        LockSupport.unpark(flusher);
+        try {
+            flusher.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+
+        try {
+            checkpointChannel.close();
+        } catch (IOException e) {
+            log.debug("Failed to close checkpoint file: {}", e.getMessage());
+        }
+        for (Segment segment : segments) {
+            segment.close();
+        }
+    }
+
+    private void runFlusher() {
+        while (running) {
+            LockSupport.parkNanos(this, fsyncIntervalNanos);
+            flush();
+        }
+    }
+
+    /**
+     * group fsync: 기록은 되었지만 force되지 않은 범위를 한 번에 force하고 대기 Future 완료
+     * (flusher 스레드와 close에서 호출, 테스트에서는 직접 호출)
+     */
+    void flush() {
+        flushLock.lock();
+        try {
+            forceWritten();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void forceWritten() {
+        List<CompletableFuture<Void>> batch;
+        List<Segment> dirty = new ArrayList<>(2);
+        List<Integer> writtenUpTo = new ArrayList<>(2);
+
+        lock.lock();
+        try {
+            if (waiting.isEmpty()) {
+                return;
+            }
+            batch = waiting;
+            waiting = new ArrayList<>();
+            for (Segment segment : segments) {
+                if (!segment.poisoned && segment.written > segment.durable) {
+                    dirty.add(segment);
+                    writtenUpTo.add(segment.written);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        long start = System.nanoTime();
+        try {
+            for (int i = 0; i < dirty.size(); i++) {
+                Segment segment = dirty.get(i);
+                int from = segment.durable;
+                segment.buffer.force(from, writtenUpTo.get(i) - from);
+            }
+        } catch (UncheckedIOException | IllegalStateException e) {
+            failUnforced(batch, e);
+            return;
+        }
+        // 모든 세그먼트가 force된 뒤에 공개 (일부만 성공했을 때 실패로 응답한 레코드가 relay되지 않도록)
+        for (int i = 0; i < dirty.size(); i++) {
+            dirty.get(i).durable = writtenUpTo.get(i);
+        }
+        fsyncTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        fsyncBatchSize.record(batch.size());
+
+        for (CompletableFuture<Void> future : batch) {
+            future.complete(null);
+        }
+        Thread relay = relayThread;
+        if (relay != null) {
+            LockSupport.unpark(relay);
+        }
+    }
+
+    /**
+     * fsync 실패: force되지 않은 레코드가 있는 세그먼트를 durable 위치에서 봉인하고,
+     * 이번 batch와 그 사이 대기열에 들어온 append를 모두 실패 처리 (모두 봉인된 범위에 있음)
+     */
+    private void failUnforced(List<CompletableFuture<Void>> batch, RuntimeException cause) {
+        List<CompletableFuture<Void>> rejected = new ArrayList<>(batch);
+        lock.lock();
+        try {
+            rejected.addAll(waiting);
+            waiting = new ArrayList<>();
+            for (Segment segment : segments) {
+                if (!segment.poisoned && segment.written > segment.durable) {
+                    segment.poison();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        fsyncFailedCounter.increment(rejected.size());
+        log.error("Journal fsync failed, rejected {} appends and sealed their segments", rejected.size(), cause);
+        MessagePublishException ex = new MessagePublishException("Journal fsync failed", cause);
+        for (CompletableFuture<Void> future : rejected) {
+            future.completeExceptionally(ex);
+        }
+    }
+
+    /**
+     * 락 보유 상태에서 호출
+     */
+    private void roll() throws IOException {
+        if (!active.sealed) {
+            active.sealedLength = active.written;
+            active.sealed = true;
+        }
+        active = Segment.create(directory, active.id + 1, segmentSize);
+        segments.addLast(active);
+    }
+
+    private void recover() throws IOException {
+        Position saved = readCheckpoint();
+
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(directory)) {
+            files = listing.filter(path -> path.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                    .sorted()
+                    .toList();
+        }
+
+        for (Path file : files) {
+            long id = Segment.idOf(file);
+            if (saved != null && id < saved.segmentId()) {
+                Files.deleteIfExists(file);
+                continue;
+            }
+            Segment segment = Segment.recover(file, id, segmentSize);
+            segment.sealedLength = segment.written;
+            segment.sealed = true;
+            segments.addLast(segment);
+        }
+
+        // 복구한 세그먼트는 이어 쓰지 않고 항상 새 세그먼트에 append
+        // (봉인/거부된 레코드가 끝 표시 뒤에 남아 있을 수 있어, 그 위에 쓰면 다음 복구에서 다시 relay됨)
+        Segment last = segments.peekLast();
+        long id = last != null ? last.id + 1 : saved != null ? saved.segmentId() : 0L;
+        active = Segment.create(directory, id, segmentSize);
+        segments.addLast(active);
+
+        Segment first = segments.peekFirst();
+        checkpoint = saved != null && saved.segmentId() >= first.id ? saved : new Position(first.id, 0);
+    }
+
+    private Position readCheckpoint() throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES + Integer.BYTES);
+        if (checkpointChannel.read(buffer, 0) < buffer.capacity()) {
+            return null;
+        }
+        buffer.flip();
+        return new Position(buffer.getLong(), buffer.getInt());
+    }
+
+    private void writeCheckpoint(Position position, boolean force) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES + Integer.BYTES);
+        buffer.putLong(position.segmentId()).putInt(position.offset()).flip();
+        checkpointChannel.write(buffer, 0);
+        // 세그먼트를 지우기 전에는 checkpoint가 디스크에 있어야 재시작 시 지워진 세그먼트를 찾지 않음
+        if (force) {
+            checkpointChannel.force(false);
+        }
+    }
+
+    private Segment find(long segmentId) {
+        lock.lock();
+        try {
+            for (Segment segment : segments) {
+                if (segment.id == segmentId) {
+                    return segment;
+                }
+            }
+            return null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Segment after(long segmentId) {
+        lock.lock();
+        try {
+            for (Segment segment : segments) {
+                if (segment.id > segmentId) {
+                    return segment;
+                }
+            }
+            return null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Segment first() {
+        lock.lock();
+        try {
+            return segments.peekFirst();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private double segmentCount() {
+        lock.lock();
+        try {
+            return segments.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * payload: idLength(2) | id | contentLength(4) | content | epochSecond(8) | nano(4) | priority(1)
+     *
+     * priority는 MessagePriority ordinal. 이 필드가 없던 이전 형식의 레코드는 NORMAL로 읽음.
+     */
+    private static byte[] encode(SendMessage message) {
+        byte[] id = message.getId().getBytes(StandardCharsets.UTF_8);
+        byte[] content = message.getContent().getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocate(Short.BYTES + id.length + Integer.BYTES + content.length
+                + Long.BYTES + Integer.BYTES + Byte.BYTES);
+        buffer.putShort((short) id.length).put(id)
+                .putInt(content.length).put(content)
+                .putLong(message.getCreatedAt().getEpochSecond())
+                .putInt(message.getCreatedAt().getNano())
+                .put((byte) message.getPriority().ordinal());
+        return buffer.array();
+    }
+
+    private static SendMessage decode(byte[] payload) {
+        ByteBuffer buffer = ByteBuffer.wrap(payload);
+        byte[] id = new byte[buffer.getShort()];
+        buffer.get(id);
+        byte[] content = new byte[buffer.getInt()];
+        buffer.get(content);
+        Instant createdAt = Instant.ofEpochSecond(buffer.getLong(), buffer.getInt());
+        MessagePriority priority = buffer.hasRemaining() ? PRIORITIES[buffer.get()] : MessagePriority.NORMAL;
+        return new SendMessage(new String(id, StandardCharsets.UTF_8), new String(content, StandardCharsets.UTF_8),
+                createdAt, Deadline.none(), priority);
+    }
+
+    /**
+     * mmap된 세그먼트 파일 하나
+     *
+     * written은 락 안에서만 변경, durable은 flusher만 변경하고 relay가 읽음.
+     * sealedLength는 봉인 시점의 written (sealed보다 먼저 기록되므로 sealed를 본 relay는 최종 길이를 봄).
+     * poisoned는 락 안에서만 읽고 씀.
+     */
+    private static final class Segment {
+
+        private final long id;
+        private final Path path;
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;
+        private int written;
+        private volatile int durable;
+        private volatile int sealedLength;
+        private volatile boolean sealed;
+        private boolean poisoned;
+
+        private Segment(long id, Path path, FileChannel channel, MappedByteBuffer buffer) {
+            this.id = id;
+            this.path = path;
+            this.channel = channel;
+            this.buffer = buffer;
+        }
+
+        static Segment create(Path directory, long id, int size) throws IOException {
+            Path path = directory.resolve(String.format("%020d%s", id, SEGMENT_SUFFIX));
+            FileChannel channel = FileChannel.open(path,
+                    StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            return new Segment(id, path, channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, size));
+        }
+
+        /**
+         * 기존 세그먼트를 열고 CRC가 맞는 마지막 레코드까지를 유효 범위로 복구
+         */
+        static Segment recover(Path path, long id, int size) throws IOException {
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            Segment segment = new Segment(id, path, channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, size));
+
+            MappedByteBuffer buffer = segment.buffer;
+            int offset = 0;
+            boolean torn = false;
+            while (offset + RECORD_HEADER <= size) {
+                int length = buffer.getInt(offset);
+                if (length == 0) {
+                    break;
+                }
+                if (length < 0 || offset + RECORD_HEADER + length > size) {
+                    torn = true;
+                    break;
+                }
+                byte[] payload = new byte[length];
+                buffer.get(offset + RECORD_HEADER, payload);
+                CRC32C crc = new CRC32C();
+                crc.update(payload);
+                if ((int) crc.getValue() != buffer.getInt(offset + Integer.BYTES)) {
+                    torn = true;
+                    break;
+                }
+                offset += RECORD_HEADER + length;
+            }
+
+            if (torn) {
+                // 중간에 끊긴 레코드를 지워 이후 append와 섞이지 않게 함
+                buffer.put(offset, new byte[size - offset]);
+                buffer.force();
+                log.warn("Truncated torn journal record in {} at offset {}", path.getFileName(), offset);
+            }
+            segment.written = offset;
+            segment.durable = offset;
+            return segment;
+        }
+
+        /**
+         * fsync에 실패한 세그먼트를 durable 위치에서 봉인 (락 보유 상태에서 호출)
+         *
+         * 이후 이 세그먼트에는 append/fsync하지 않고, relay는 durable까지만 읽고 다음 세그먼트로 넘어감.
+         */
+        void poison() {
+            int end = durable;
+            poisoned = true;
+            sealedLength = end;
+            sealed = true;
+            try {
+                buffer.putInt(end, 0);
+                buffer.force(end, Integer.BYTES);
+            } catch (RuntimeException e) {
+                log.warn("Failed to write end marker to journal segment {}: {}", path.getFileName(), e.getMessage());
+            }
+        }
+
+        static long idOf(Path path) {
+            String name = path.getFileName().toString();
+            return Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+        }
+
+        void close() {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                log.debug("Failed to close journal segment {}: {}", path.getFileName(), e.getMessage());
+            }
+        }
+
+        void delete() {
+            close();
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                log.warn("Failed to delete journal segment {}: {}", path.getFileName(), e.getMessage());
+            }
+        }
+    }
+}
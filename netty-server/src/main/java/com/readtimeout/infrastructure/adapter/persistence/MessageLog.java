@@ -8,6 +8,12 @@ import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 
+/**
+ * JPA Entity (Blocking) - V1, V2용
+ *
+ * id는 sequence에서 ID_ALLOCATION_SIZE 단위로 미리 할당 (pooled-lo: 조회한 값 v부터 v + ID_ALLOCATION_SIZE - 1까지 사용).
+ * IDENTITY와 달리 insert 전에 id를 알 수 있어 여러 행을 JDBC batch로 보낼 수 있음 (WriteBehindMessageLogAdapter도 같은 규칙 사용).
+ */
 @Entity
 @Table(name = "message_log")
 @Getter
@@ -16,8 +22,12 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 public class MessageLog {
 
+    public static final String ID_SEQUENCE = "message_log_seq";
+    public static final int ID_ALLOCATION_SIZE = 500;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "message_log_id")
+    @SequenceGenerator(name = "message_log_id", sequenceName = ID_SEQUENCE, allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false)
@@ -8,9 +8,12 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.stereotype.Component;
 
+/**
+ * 메시지마다 요청 경로에서 JPA save (message-log.write-behind.enabled=false일 때)
+ */
 @Slf4j
 @Component
-@ConditionalOnExpression("'${server.mode:non-blocking}'.equals('blocking') or '${server.mode:non-blocking}'.equals('non-blocking') or '${server.mode:non-blocking}'.equals('virtual')")
+@ConditionalOnExpression("!${message-log.write-behind.enabled:false} and ('${server.mode:non-blocking}'.equals('blocking') or '${server.mode:non-blocking}'.equals('non-blocking') or '${server.mode:non-blocking}'.equals('virtual') or '${server.mode:non-blocking}'.equals('async-confirm'))")
 public class MessageLogAdapter implements MessageLogPort {
 
     private final MessageLogRepository repository;
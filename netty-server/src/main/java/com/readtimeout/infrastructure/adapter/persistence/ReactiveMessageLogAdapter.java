@@ -9,7 +9,7 @@ import reactor.core.publisher.Mono;
 
 @Component
 @RequiredArgsConstructor
-@ConditionalOnExpression("'${server.mode}'.equals('reactive') or '${server.mode}'.equals('reactive-pool')")
+@ConditionalOnExpression("'${server.mode}'.equals('reactive') or '${server.mode}'.equals('reactive-pool') or '${server.mode}'.equals('micro-batch')")
 public class ReactiveMessageLogAdapter implements ReactiveMessageLogPort {
 
     private final ReactiveMessageLogRepository repository;
@@ -0,0 +1,331 @@
+package com.readtimeout.infrastructure.adapter.persistence;
+
+import com.readtimeout.core.domain.exception.BackpressureRejectedException;
+import com.readtimeout.core.domain.model.SendMessage;
+import com.readtimeout.core.domain.port.outbound.MessageLogPort;
+import com.readtimeout.infrastructure.config.MessageLogProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 경로 밖에서 message_log를 batch로 기록 (message-log.write-behind.enabled=true일 때)
+ *
+ * 요청 스레드는 행을 bounded 큐에 넣기만 하고, 전용 writer 스레드가 모아서 한 트랜잭션의 JDBC batch insert로 기록.
+ * - batchSize 행이 모이거나 첫 행을 꺼낸 뒤 maxDelay가 지나면 flush
+ * - id는 writer마다 sequence에서 ID_ALLOCATION_SIZE 블록을 받아 DB 왕복 없이 할당 (MessageLog와 같은 pooled-lo 규칙)
+ * - durability=enqueue: 큐에 넣으면 반환. flush에 실패한 행은 로그와 카운터로만 남음
+ * - durability=flush: 자신이 포함된 batch가 commit될 때까지 대기 (group commit), 실패하면 예외 전파
+ * - batch insert가 실패하면 행 단위로 다시 기록해 문제가 있는 행만 실패 처리
+ * - 큐가 가득 차면(writer가 DB를 따라가지 못하면) BackpressureRejectedException
+ *
+ * 메트릭:
+ * - db.save.duration: 요청 스레드에서 소비한 시간 (enqueue, flush 모드면 commit 대기 포함)
+ * - db.write_behind.queue.depth: flush 대기 중인 행 수
+ * - db.write_behind.flush.duration / db.write_behind.batch.size: batch 하나의 insert+commit 시간과 행 수
+ * - db.write_behind.failed: 기록하지 못한 행 수
+ */
+@Slf4j
+@Component
+@ConditionalOnExpression("${message-log.write-behind.enabled:false} and ('${server.mode:non-blocking}'.equals('blocking') or '${server.mode:non-blocking}'.equals('non-blocking') or '${server.mode:non-blocking}'.equals('virtual') or '${server.mode:non-blocking}'.equals('async-confirm'))")
+public class WriteBehindMessageLogAdapter implements MessageLogPort {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO message_log (id, message_id, content, created_at, status) VALUES (?, ?, ?, ?, ?)";
+    private static final String NEXT_ID_SQL = "SELECT NEXT VALUE FOR " + MessageLog.ID_SEQUENCE;
+    private static final String STATUS_PENDING = "PENDING";
+    private static final long POLL_TIMEOUT_MS = 100;
+    private static final long CLOSE_TIMEOUT_MS = 5000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean ackAfterFlush;
+    private final int batchSize;
+    private final long maxDelayNanos;
+    private final BlockingQueue<PendingLog> queue;
+    private final List<Thread> writers = new ArrayList<>();
+    private volatile boolean running = true;
+
+    private final Timer dbTimer;
+    private final Timer flushTimer;
+    private final DistributionSummary batchSizeSummary;
+    private final Counter failedCounter;
+
+    public WriteBehindMessageLogAdapter(MessageLogProperties properties,
+                                        JdbcTemplate jdbcTemplate,
+                                        PlatformTransactionManager transactionManager,
+                                        MeterRegistry meterRegistry) {
+        MessageLogProperties.WriteBehindConfig config = properties.writeBehind();
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.ackAfterFlush = config.ackAfterFlush();
+        this.batchSize = config.batchSize();
+        this.maxDelayNanos = TimeUnit.MICROSECONDS.toNanos(config.maxDelayMicros());
+        this.queue = new ArrayBlockingQueue<>(config.queueCapacity());
+
+        this.dbTimer = Timer.builder("db.save.duration")
+                .description("Database save duration")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("db.write_behind.flush.duration")
+                .description("Time to insert and commit one write-behind batch")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("db.write_behind.batch.size")
+                .description("Rows inserted by one write-behind batch")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("db.write_behind.failed")
+                .description("Message log rows that could not be written")
+                .register(meterRegistry);
+        Gauge.builder("db.write_behind.queue.depth", queue, BlockingQueue::size)
+                .description("Message log rows waiting to be flushed")
+                .register(meterRegistry);
+
+        for (int i = 0; i < config.writers(); i++) {
+            Thread writer = new Thread(this::runWriter, "message-log-writer-" + i);
+            writer.setDaemon(true);
+            writers.add(writer);
+            writer.start();
+        }
+
+        log.info("WriteBehindMessageLogAdapter started: durability={}, queue={}, batch={}, maxDelay={}μs, writers={}",
+                config.durability(), config.queueCapacity(), batchSize, config.maxDelayMicros(), config.writers());
+    }
+
+    @Override
+    public void save(SendMessage message) {
+        long startTime = System.nanoTime();
+        try {
+            if (!running) {
+                throw new IllegalStateException("Message log writer is closed");
+            }
+            PendingLog pending = new PendingLog(message.getId(), message.getContent(), LocalDateTime.now(),
+                    ackAfterFlush ? new CompletableFuture<>() : null);
+            if (!queue.offer(pending)) {
+                throw new BackpressureRejectedException("Message log queue is full (" + queue.size() + " rows)");
+            }
+            if (pending.flushed != null) {
+                awaitFlush(pending.flushed);
+            }
+        } finally {
+            dbTimer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static void awaitFlush(CompletableFuture<Void> flushed) {
+        try {
+            flushed.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 새 저장을 막고, writer가 큐를 비우고 끝날 때까지 대기. 그래도 남은 행은 호출 스레드에서 기록
+     */
+    @PreDestroy
+    public void close() {
+        running = false;
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(CLOSE_TIMEOUT_MS);
+        try {
+            for (Thread writer : writers) {
+                writer.join(Math.max(1, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        IdBlock ids = new IdBlock();
+        List<PendingLog> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            flush(batch, ids);
+            batch.clear();
+        }
+    }
+
+    private void runWriter() {
+        IdBlock ids = new IdBlock();
+        List<PendingLog> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                collect(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            }
+            if (!batch.isEmpty()) {
+                flush(batch, ids);
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 첫 행을 기다린 뒤, batchSize가 차거나 maxDelay가 지날 때까지 이어서 모음
+     */
+    private void collect(List<PendingLog> batch) throws InterruptedException {
+        PendingLog first = queue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+
+        long deadline = System.nanoTime() + maxDelayNanos;
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0) {
+                return;
+            }
+            PendingLog next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void flush(List<PendingLog> batch, IdBlock ids) {
+        long startTime = System.nanoTime();
+        try {
+            for (PendingLog pending : batch) {
+                pending.id = ids.next();
+            }
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement ps, int i) throws SQLException {
+                            bind(ps, batch.get(i));
+                        }
+
+                        @Override
+                        public int getBatchSize() {
+                            return batch.size();
+                        }
+                    }));
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                fail(batch, e);
+                return;
+            }
+            log.warn("Batch insert of {} message logs failed, retrying row by row: {}", batch.size(), e.getMessage());
+            flushEach(batch, ids);
+            return;
+        }
+
+        flushTimer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+        batchSizeSummary.record(batch.size());
+        for (PendingLog pending : batch) {
+            pending.complete(null);
+        }
+    }
+
+    /**
+     * batch 실패 시 행 단위로 기록 (실패한 batch는 rollback되었으므로 할당한 id를 그대로 사용)
+     */
+    private void flushEach(List<PendingLog> batch, IdBlock ids) {
+        for (PendingLog pending : batch) {
+            try {
+                if (pending.id == 0) {
+                    pending.id = ids.next();
+                }
+                jdbcTemplate.update(INSERT_SQL, ps -> bind(ps, pending));
+                pending.complete(null);
+            } catch (RuntimeException e) {
+                fail(List.of(pending), e);
+            }
+        }
+    }
+
+    private void fail(List<PendingLog> rows, RuntimeException e) {
+        failedCounter.increment(rows.size());
+        log.error("Failed to write {} message log(s) [first id={}]: {}",
+                rows.size(), rows.get(0).messageId, e.getMessage());
+        for (PendingLog pending : rows) {
+            pending.complete(e);
+        }
+    }
+
+    private static void bind(PreparedStatement ps, PendingLog pending) throws SQLException {
+        ps.setLong(1, pending.id);
+        ps.setString(2, pending.messageId);
+        ps.setString(3, pending.content);
+        ps.setTimestamp(4, Timestamp.valueOf(pending.createdAt));
+        ps.setString(5, STATUS_PENDING);
+    }
+
+    /**
+     * 기록 대기 중인 행 (id는 writer가 flush 직전에 할당)
+     */
+    private static final class PendingLog {
+        private final String messageId;
+        private final String content;
+        private final LocalDateTime createdAt;
+        private final CompletableFuture<Void> flushed;
+        private long id;
+
+        private PendingLog(String messageId, String content, LocalDateTime createdAt,
+                           CompletableFuture<Void> flushed) {
+            this.messageId = messageId;
+            this.content = content;
+            this.createdAt = createdAt;
+            this.flushed = flushed;
+        }
+
+        private void complete(RuntimeException error) {
+            if (flushed == null) {
+                return;
+            }
+            if (error == null) {
+                flushed.complete(null);
+            } else {
+                flushed.completeExceptionally(error);
+            }
+        }
+    }
+
+    /**
+     * writer 전용 id 블록: sequence 값 v를 받으면 v부터 v + ID_ALLOCATION_SIZE - 1까지 사용
+     */
+    private final class IdBlock {
+        private long next;
+        private long limit;
+
+        private long next() {
+            if (next == limit) {
+                Long start = jdbcTemplate.queryForObject(NEXT_ID_SQL, Long.class);
+                if (start == null) {
+                    throw new IllegalStateException("Sequence " + MessageLog.ID_SEQUENCE + " returned no value");
+                }
+                next = start;
+                limit = start + MessageLog.ID_ALLOCATION_SIZE;
+            }
+            return next++;
+        }
+    }
+}
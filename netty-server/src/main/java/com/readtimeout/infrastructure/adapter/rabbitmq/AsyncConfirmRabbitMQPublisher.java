@@ -0,0 +1,108 @@
+package com.readtimeout.infrastructure.adapter.rabbitmq;
+
+import com.readtimeout.core.domain.exception.MessagePublishException;
+import com.readtimeout.core.domain.model.SendMessage;
+import com.readtimeout.core.domain.port.outbound.AsyncMessagePublisher;
+import com.readtimeout.infrastructure.config.RabbitMQProperties;
+import com.readtimeout.infrastructure.support.AmqpConnectionPool;
+import com.readtimeout.infrastructure.support.ConfirmTimeoutWheel;
+import com.readtimeout.infrastructure.support.MessagePublisherMetrics;
+import com.readtimeout.infrastructure.support.MessageSerializer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * V6: ConfirmListener 기반 비동기 Publisher
+ *
+ * RabbitTemplate 기반 Publisher(V1/V2/V4)는 메시지마다 waitForConfirms에서 스레드를 재우고,
+ * Reactive Publisher(V3)는 Reactor 연산자와 boundedElastic 전환 비용이 듦.
+ * 이 Publisher는 amqp-client Channel을 직접 사용:
+ * - basicPublish 후 바로 반환, confirm은 ConfirmListener 콜백으로 수신
+ * - 대기 중인 delivery tag는 채널별 DeliveryTagTable로 관리 (multiple ack는 일괄 완료)
+ * - confirm 타임아웃은 모든 채널이 공유하는 ConfirmTimeoutWheel로 처리
+ * - 연결 풀(AmqpConnectionPool)의 여러 연결에 채널을 나눠 두고, 미확인 메시지가 적은 채널로 발행
+ *
+ * 어떤 스레드도 broker 응답을 기다리며 블로킹되지 않음.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "server.mode", havingValue = "async-confirm")
+public class AsyncConfirmRabbitMQPublisher implements AsyncMessagePublisher {
+
+    private final RabbitMQProperties properties;
+    private final MessageSerializer serializer;
+    private final MessagePublisherMetrics metrics;
+    private final long confirmTimeoutMs;
+
+    private final ConfirmTimeoutWheel timeoutWheel;
+    private final ConfirmingChannelGroup channels;
+
+    public AsyncConfirmRabbitMQPublisher(
+            AmqpConnectionPool asyncConfirmConnectionPool,
+            RabbitMQProperties properties,
+            MessageSerializer serializer,
+            MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.serializer = serializer;
+        this.metrics = MessagePublisherMetrics.builder(meterRegistry)
+                .mode("async-confirm")
+                .version("v6")
+                .highLatencyThresholdMs(properties.metrics() != null
+                        ? properties.metrics().highLatencyThresholdMs() : 5L)
+                .build();
+        this.confirmTimeoutMs = properties.confirmTimeoutMs() > 0 ? properties.confirmTimeoutMs() : 5000L;
+
+        this.timeoutWheel = ConfirmTimeoutWheel.start(
+                "async-confirm-timeout", confirmTimeoutMs, TimeUnit.MILLISECONDS, meterRegistry, "async-confirm");
+
+        this.channels = new ConfirmingChannelGroup(asyncConfirmConnectionPool, properties.asyncConfirm().channels(),
+                properties.exchange(), properties.routingKey(), timeoutWheel);
+
+        Gauge.builder("rabbitmq.confirm.outstanding", channels, ConfirmingChannelGroup::outstanding)
+                .description("Messages published but not yet confirmed by broker")
+                .tag("mode", "async-confirm")
+                .register(meterRegistry);
+
+        log.info("AsyncConfirmRabbitMQPublisher initialized (connections={}, channels={}, confirmTimeout={}ms)",
+                asyncConfirmConnectionPool.size(), channels.size(), confirmTimeoutMs);
+    }
+
+    @Override
+    public CompletableFuture<Void> publish(SendMessage sendMessage) {
+        long startTime = System.nanoTime();
+        String messageId = sendMessage.getId();
+
+        MessageSerializer.RawMessage raw;
+        try {
+            raw = serializer.serializeRaw(sendMessage);
+        } catch (RuntimeException e) {
+            MessagePublishException ex = new MessagePublishException("Failed to serialize message: " + e.getMessage(), e);
+            metrics.recordPublishFailure(messageId, startTime, ex);
+            return CompletableFuture.failedFuture(ex);
+        }
+
+        return channels.publish(raw.properties(), raw.body()).handle((ignored, error) -> {
+            if (error == null) {
+                metrics.recordPublishSuccess(messageId, startTime);
+                return null;
+            }
+            MessagePublishException ex = ConfirmingChannelGroup.toPublishException(messageId, error);
+            metrics.recordPublishFailure(messageId, startTime, ex);
+            throw new CompletionException(ex);
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        channels.close();
+        timeoutWheel.close();
+    }
+}
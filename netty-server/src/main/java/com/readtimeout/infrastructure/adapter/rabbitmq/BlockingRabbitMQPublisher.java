@@ -2,6 +2,7 @@ package com.readtimeout.infrastructure.adapter.rabbitmq;
 
 import com.readtimeout.core.domain.exception.MessagePublishException;
 import com.readtimeout.core.domain.model.SendMessage;
+import com.readtimeout.core.domain.model.SendResult;
 import com.readtimeout.core.domain.port.outbound.MessagePublisher;
 import com.readtimeout.infrastructure.config.RabbitMQProperties;
 import com.readtimeout.infrastructure.support.BlockingMetrics;
@@ -13,6 +14,8 @@ import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Slf4j
 @Component
 @ConditionalOnProperty(name = "server.mode", havingValue = "blocking")
@@ -23,6 +26,7 @@ public class BlockingRabbitMQPublisher implements MessagePublisher {
     private final MessageSerializer serializer;
     private final BlockingMetrics metrics;
     private final long confirmTimeout;
+    private final ConfirmedBatchPublisher batchPublisher;
 
     public BlockingRabbitMQPublisher(
             RabbitTemplate rabbitTemplate,
@@ -34,6 +38,7 @@ public class BlockingRabbitMQPublisher implements MessagePublisher {
         this.serializer = serializer;
         this.metrics = BlockingMetrics.create(meterRegistry);
         this.confirmTimeout = properties.confirmTimeoutMs() > 0 ? properties.confirmTimeoutMs() : 5000L;
+        this.batchPublisher = new ConfirmedBatchPublisher(rabbitTemplate, properties, serializer, confirmTimeout);
 
         log.info("BlockingRabbitMQPublisher initialized (confirmTimeout={}ms)", confirmTimeout);
     }
@@ -64,4 +69,12 @@ public class BlockingRabbitMQPublisher implements MessagePublisher {
             throw new MessagePublishException("Failed to publish message: " + e.getMessage(), e);
         }
     }
+
+    @Override
+    public List<SendResult> publishBatch(List<SendMessage> sendMessages) {
+        long startTime = System.nanoTime();
+        List<SendResult> results = batchPublisher.publish(sendMessages);
+        metrics.recordBatchLatency(results.size(), startTime);
+        return results;
+    }
 }
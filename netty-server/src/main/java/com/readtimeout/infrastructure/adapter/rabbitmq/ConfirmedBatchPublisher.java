@@ -0,0 +1,83 @@
+package com.readtimeout.infrastructure.adapter.rabbitmq;
+
+import com.readtimeout.core.domain.model.SendMessage;
+import com.readtimeout.core.domain.model.SendResult;
+import com.readtimeout.infrastructure.config.RabbitMQProperties;
+import com.readtimeout.infrastructure.support.MessageSerializer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * RabbitTemplate 기반 배치 발행
+ *
+ * 메시지마다 invoke + waitForConfirms를 반복하는 대신
+ * 하나의 채널에서 전부 발행한 뒤 confirm을 한 번만 대기.
+ * waitForConfirms는 채널 단위 결과만 알려주므로 NACK/timeout 시 배치 전체를 실패로 처리하고,
+ * 직렬화 실패만 메시지 단위로 구분함.
+ */
+@Slf4j
+final class ConfirmedBatchPublisher {
+
+    private final RabbitTemplate rabbitTemplate;
+    private final RabbitMQProperties properties;
+    private final MessageSerializer serializer;
+    private final long confirmTimeout;
+
+    ConfirmedBatchPublisher(RabbitTemplate rabbitTemplate, RabbitMQProperties properties,
+                            MessageSerializer serializer, long confirmTimeout) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.properties = properties;
+        this.serializer = serializer;
+        this.confirmTimeout = confirmTimeout;
+    }
+
+    List<SendResult> publish(List<SendMessage> sendMessages) {
+        SendResult[] results = new SendResult[sendMessages.size()];
+        List<Message> amqpMessages = new ArrayList<>(sendMessages.size());
+        int[] indexes = new int[sendMessages.size()];
+
+        for (int i = 0; i < sendMessages.size(); i++) {
+            SendMessage sendMessage = sendMessages.get(i);
+            try {
+                indexes[amqpMessages.size()] = i;
+                amqpMessages.add(serializer.serialize(sendMessage));
+            } catch (RuntimeException e) {
+                results[i] = SendResult.failure(sendMessage.getId(), e);
+            }
+        }
+
+        if (amqpMessages.isEmpty()) {
+            return Arrays.asList(results);
+        }
+
+        String failure = null;
+        try {
+            Boolean confirmed = rabbitTemplate.invoke(operations -> {
+                for (Message amqpMessage : amqpMessages) {
+                    operations.convertAndSend(properties.exchange(), properties.routingKey(), amqpMessage);
+                }
+                return operations.waitForConfirms(confirmTimeout);
+            });
+
+            if (confirmed == null || !confirmed) {
+                failure = "Batch NACK'd or confirm timeout";
+            }
+        } catch (Exception e) {
+            log.error("Failed to publish batch of {} messages: {}", amqpMessages.size(), e.getMessage(), e);
+            failure = "Failed to publish: " + e.getMessage();
+        }
+
+        for (int j = 0; j < amqpMessages.size(); j++) {
+            String messageId = sendMessages.get(indexes[j]).getId();
+            results[indexes[j]] = failure == null
+                    ? SendResult.success(messageId)
+                    : SendResult.failure(messageId, failure);
+        }
+        return Arrays.asList(results);
+    }
+}
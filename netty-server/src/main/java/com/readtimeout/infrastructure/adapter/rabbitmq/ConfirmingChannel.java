@@ -0,0 +1,266 @@
+package com.readtimeout.infrastructure.adapter.rabbitmq;
+
+import com.rabbitmq.client.AMQP;
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.ConfirmListener;
+import com.rabbitmq.client.ShutdownSignalException;
+import com.readtimeout.core.domain.exception.MessagePublishException;
+import com.readtimeout.infrastructure.support.AmqpConnectionPool;
+import com.readtimeout.infrastructure.support.ConfirmTimeoutWheel;
+import com.readtimeout.infrastructure.support.DeliveryTagTable;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Publisher Confirm을 비동기로 받는 AMQP 채널 하나
+ *
+ * waitForConfirms로 스레드를 재우는 대신:
+ * - publish: 락 안에서 다음 delivery tag를 얻어 대기 목록에 등록 후 basicPublish (브로커 응답을 기다리지 않음)
+ * - ConfirmListener: 커넥션의 dispatch 스레드에서 ack/nack를 받아 대기 목록에서 꺼냄
+ *   multiple=true면 tag 이하 전부를 한 번에 꺼내 Future를 일괄 완료
+ * - Future 완료(후속 콜백 실행)는 항상 락 밖에서 수행
+ * - 타임아웃은 공유 ConfirmTimeoutWheel에 등록 (대기 목록에서 먼저 꺼낸 쪽이 결과를 전달)
+ *
+ * 채널이 닫히면 대기 중인 Future를 모두 실패시키고, 다음 publish에서 채널을 다시 엶.
+ * 미확인 메시지 수(outstanding)는 락 없이 읽을 수 있어 Publisher의 채널 선택에 사용됨.
+ */
+@Slf4j
+final class ConfirmingChannel {
+
+    private final AmqpConnectionPool.Member member;
+    private final String exchange;
+    private final String routingKey;
+    private final ConfirmTimeoutWheel timeoutWheel;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final DeliveryTagTable<PendingConfirm> pending = new DeliveryTagTable<>();
+    // ConfirmListener 전용 (채널당 confirm 콜백은 한 스레드에서 순서대로 호출됨)
+    private final List<PendingConfirm> confirmed = new ArrayList<>();
+
+    private Channel channel;
+    // 락 안에서만 기록, 채널 선택 시 락 없이 읽음
+    private volatile int outstanding;
+
+    ConfirmingChannel(AmqpConnectionPool.Member member, String exchange, String routingKey, ConfirmTimeoutWheel timeoutWheel) {
+        this.member = member;
+        this.exchange = exchange;
+        this.routingKey = routingKey;
+        this.timeoutWheel = timeoutWheel;
+    }
+
+    /**
+     * @return broker ack 시 완료, nack/타임아웃/채널 종료 시 MessagePublishException으로 실패
+     */
+    CompletableFuture<Void> publish(AMQP.BasicProperties properties, byte[] body) {
+        PendingConfirm confirm = new PendingConfirm();
+        List<PendingConfirm> orphaned = null;
+        Exception failure = null;
+
+        lock.lock();
+        try {
+            if (channel == null || !channel.isOpen()) {
+                orphaned = drain();
+                channel = open();
+            }
+
+            confirm.channel = channel;
+            confirm.deliveryTag = channel.getNextPublishSeqNo();
+            confirm.publishedAt = System.nanoTime();
+            pending.add(confirm.deliveryTag, confirm);
+            timeoutWheel.schedule(confirm);
+            try {
+                channel.basicPublish(exchange, routingKey, false, properties, body);
+                member.onPublish();
+            } catch (IOException | RuntimeException e) {
+                pending.remove(confirm.deliveryTag);
+                timeoutWheel.cancel(confirm);
+                failure = e;
+            }
+            outstanding = pending.outstanding();
+        } catch (IOException e) {
+            failure = e;
+        } finally {
+            lock.unlock();
+        }
+
+        failAll(orphaned, null);
+        if (failure != null) {
+            confirm.future.completeExceptionally(
+                    new MessagePublishException("Failed to publish: " + failure.getMessage(), failure));
+        }
+        return confirm.future;
+    }
+
+    int outstanding() {
+        return outstanding;
+    }
+
+    void close() {
+        lock.lock();
+        try {
+            if (channel != null && channel.isOpen()) {
+                channel.close();
+            }
+        } catch (IOException | TimeoutException | ShutdownSignalException e) {
+            log.debug("Failed to close confirming channel: {}", e.getMessage());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 락 보유 상태에서 호출
+     */
+    private Channel open() throws IOException {
+        Channel opened = member.connection().createChannel();
+        if (opened == null) {
+            throw new IOException("No channel available on connection");
+        }
+        opened.confirmSelect();
+        pending.reset(opened.getNextPublishSeqNo());
+
+        opened.addConfirmListener(new ConfirmListener() {
+            @Override
+            public void handleAck(long deliveryTag, boolean multiple) {
+                onConfirm(opened, deliveryTag, multiple, true);
+            }
+
+            @Override
+            public void handleNack(long deliveryTag, boolean multiple) {
+                onConfirm(opened, deliveryTag, multiple, false);
+            }
+        });
+        opened.addShutdownListener(cause -> onShutdown(opened, cause));
+
+        log.debug("Confirming channel opened (channel={})", opened.getChannelNumber());
+        return opened;
+    }
+
+    private void onConfirm(Channel source, long deliveryTag, boolean multiple, boolean ack) {
+        PendingConfirm single = null;
+
+        lock.lock();
+        try {
+            if (source != channel) {
+                return;
+            }
+            if (multiple) {
+                pending.removeUpTo(deliveryTag, confirmed::add);
+            } else {
+                single = pending.remove(deliveryTag);
+            }
+            outstanding = pending.outstanding();
+        } finally {
+            lock.unlock();
+        }
+
+        if (single != null) {
+            complete(single, ack);
+            return;
+        }
+        for (int i = 0; i < confirmed.size(); i++) {
+            complete(confirmed.get(i), ack);
+        }
+        confirmed.clear();
+    }
+
+    /**
+     * 타임아웃 만료 (휠 스레드)
+     */
+    private boolean onExpire(PendingConfirm confirm) {
+        boolean removed;
+
+        lock.lock();
+        try {
+            // 채널이 바뀌었다면 drain에서 이미 처리됨 (새 채널의 같은 tag를 지우지 않도록 확인)
+            removed = confirm.channel == channel && pending.remove(confirm.deliveryTag) == confirm;
+            outstanding = pending.outstanding();
+        } finally {
+            lock.unlock();
+        }
+
+        if (removed) {
+            member.onAbandon();
+            confirm.future.completeExceptionally(new MessagePublishException("Confirm timeout"));
+        }
+        return removed;
+    }
+
+    private void onShutdown(Channel source, ShutdownSignalException cause) {
+        List<PendingConfirm> orphaned;
+
+        lock.lock();
+        try {
+            if (source != channel) {
+                return;
+            }
+            orphaned = drain();
+        } finally {
+            lock.unlock();
+        }
+
+        if (!orphaned.isEmpty()) {
+            log.warn("Confirming channel closed with {} unconfirmed messages: {}", orphaned.size(), cause.getMessage());
+        }
+        failAll(orphaned, cause);
+    }
+
+    /**
+     * 락 보유 상태에서 호출
+     */
+    private List<PendingConfirm> drain() {
+        if (pending.isEmpty()) {
+            return List.of();
+        }
+        List<PendingConfirm> orphaned = new ArrayList<>(pending.outstanding());
+        pending.removeAll(orphaned::add);
+        outstanding = 0;
+        return orphaned;
+    }
+
+    private void complete(PendingConfirm confirm, boolean ack) {
+        timeoutWheel.confirm(confirm);
+        member.onConfirm(confirm.publishedAt);
+        if (ack) {
+            confirm.future.complete(null);
+        } else {
+            confirm.future.completeExceptionally(new MessagePublishException("Message NACK'd by broker"));
+        }
+    }
+
+    private void failAll(List<PendingConfirm> orphaned, Throwable cause) {
+        if (orphaned == null || orphaned.isEmpty()) {
+            return;
+        }
+        MessagePublishException ex = new MessagePublishException("Channel closed before confirm", cause);
+        for (PendingConfirm confirm : orphaned) {
+            timeoutWheel.cancel(confirm);
+            member.onAbandon();
+            confirm.future.completeExceptionally(ex);
+        }
+    }
+
+    /**
+     * 대기 목록 항목이자 타임아웃 휠 노드
+     *
+     * channel/deliveryTag는 락 안에서 기록되고, 만료 시에도 락 안에서 읽음.
+     */
+    private final class PendingConfirm extends ConfirmTimeoutWheel.Entry {
+
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+        private Channel channel;
+        private long deliveryTag;
+        private long publishedAt;
+
+        @Override
+        protected boolean expire() {
+            return onExpire(this);
+        }
+    }
+}
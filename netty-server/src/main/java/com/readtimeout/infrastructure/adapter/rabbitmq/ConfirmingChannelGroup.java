@@ -0,0 +1,90 @@
+package com.readtimeout.infrastructure.adapter.rabbitmq;
+
+import com.rabbitmq.client.AMQP;
+import com.readtimeout.core.domain.exception.MessagePublishException;
+import com.readtimeout.infrastructure.support.AmqpConnectionPool;
+import com.readtimeout.infrastructure.support.ConfirmTimeoutWheel;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 연결 풀에 나눠 배치한 ConfirmingChannel 묶음 (async-confirm, virtual 모드 공용)
+ *
+ * - 연결마다 채널이 최소 하나는 있도록 하고, 채널은 연결에 번갈아 배치
+ * - 발행 시 미확인 메시지가 적은 채널을 선택 (power of two choices)
+ *
+ * 채널 선택과 발행 모두 monitor(synchronized)를 쓰지 않으므로 Virtual Thread에서 호출해도 carrier에 고정되지 않음.
+ */
+final class ConfirmingChannelGroup {
+
+    private final ConfirmingChannel[] channels;
+
+    ConfirmingChannelGroup(AmqpConnectionPool connectionPool, int channels, String exchange, String routingKey,
+                           ConfirmTimeoutWheel timeoutWheel) {
+        int channelCount = Math.max(channels, connectionPool.size());
+        this.channels = new ConfirmingChannel[channelCount];
+        for (int i = 0; i < channelCount; i++) {
+            this.channels[i] = new ConfirmingChannel(
+                    connectionPool.member(i % connectionPool.size()), exchange, routingKey, timeoutWheel);
+        }
+    }
+
+    /**
+     * @return broker ack 시 완료, nack/타임아웃/채널 종료 시 MessagePublishException으로 실패
+     */
+    CompletableFuture<Void> publish(AMQP.BasicProperties properties, byte[] body) {
+        return nextChannel().publish(properties, body);
+    }
+
+    int size() {
+        return channels.length;
+    }
+
+    double outstanding() {
+        int total = 0;
+        for (ConfirmingChannel channel : channels) {
+            total += channel.outstanding();
+        }
+        return total;
+    }
+
+    void close() {
+        for (ConfirmingChannel channel : channels) {
+            channel.close();
+        }
+    }
+
+    /**
+     * 미확인 메시지가 적은 채널 선택 (power of two choices)
+     *
+     * 전체 채널을 훑는 대신 임의의 두 채널만 비교해 O(1)로 선택하고,
+     * 느린 연결(노드)의 채널에는 confirm이 쌓이므로 자연스럽게 발행이 줄어듦.
+     */
+    private ConfirmingChannel nextChannel() {
+        if (channels.length == 1) {
+            return channels[0];
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(channels.length);
+        int second = random.nextInt(channels.length - 1);
+        if (second >= first) {
+            second++;
+        }
+        ConfirmingChannel a = channels[first];
+        ConfirmingChannel b = channels[second];
+        return a.outstanding() <= b.outstanding() ? a : b;
+    }
+
+    /**
+     * 발행 실패를 메시지 id가 포함된 MessagePublishException으로 변환
+     */
+    static MessagePublishException toPublishException(String messageId, Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof MessagePublishException e) {
+            return new MessagePublishException(e.getMessage() + " [id=" + messageId + "]", e.getCause());
+        }
+        return new MessagePublishException("Failed to publish [id=" + messageId + "]: " + cause.getMessage(), cause);
+    }
+}
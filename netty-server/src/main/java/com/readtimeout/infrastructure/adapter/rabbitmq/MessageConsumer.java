@@ -1,9 +1,14 @@
 package com.readtimeout.infrastructure.adapter.rabbitmq;
 
+import com.readtimeout.core.domain.model.SendMessage;
+import com.readtimeout.infrastructure.support.codec.PayloadCodecs;
+import com.readtimeout.infrastructure.support.codec.PayloadCompressor;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
@@ -13,6 +18,8 @@ import org.springframework.stereotype.Component;
  *
  * 역할:
  * - 큐에서 메시지 소비
+ * - contentEncoding이 있으면 압축 해제 후, contentType 속성에 맞는 PayloadCodec으로 디코딩
+ *   (발행 측 코덱/압축 설정이 바뀌어도 큐에 남은 메시지를 읽을 수 있음)
  * - 로그 기록 후 즉시 ACK
  * - 메시지 쌓임 방지
  *
@@ -26,10 +33,14 @@ public class MessageConsumer {
 
     private static final Logger log = LoggerFactory.getLogger(MessageConsumer.class);
 
+    private final PayloadCodecs codecs;
+    private final PayloadCompressor compressor;
     private final Counter consumedCounter;
     private final Counter errorCounter;
 
-    public MessageConsumer(MeterRegistry meterRegistry) {
+    public MessageConsumer(PayloadCodecs codecs, PayloadCompressor compressor, MeterRegistry meterRegistry) {
+        this.codecs = codecs;
+        this.compressor = compressor;
         this.consumedCounter = Counter.builder("rabbitmq_messages_consumed_total")
                 .description("Total messages consumed")
                 .register(meterRegistry);
@@ -41,12 +52,15 @@ public class MessageConsumer {
     }
 
     @RabbitListener(queues = "${rabbitmq.queue-name}", concurrency = "${consumer.concurrency:10}")
-    public void consume(byte[] message) {
+    public void consume(Message message) {
         try {
+            MessageProperties properties = message.getMessageProperties();
+            byte[] body = compressor.decompress(message.getBody(), properties.getContentEncoding());
+            SendMessage sendMessage = codecs.forContentType(properties.getContentType()).decode(body);
             consumedCounter.increment();
 
             if (log.isDebugEnabled()) {
-                log.debug("Consumed message: {} bytes", message.length);
+                log.debug("Consumed message [id={}]: {} bytes", sendMessage.getId(), body.length);
             }
             // ACK는 자동으로 처리됨 (acknowledge-mode: auto가 기본값)
         } catch (Exception e) {
@@ -0,0 +1,246 @@
+package com.readtimeout.infrastructure.adapter.rabbitmq;
+
+import com.readtimeout.core.domain.exception.MessagePublishException;
+import com.readtimeout.core.domain.model.SendMessage;
+import com.readtimeout.core.domain.port.outbound.ReactiveMessagePublisher;
+import com.readtimeout.infrastructure.config.RabbitMQProperties;
+import com.readtimeout.infrastructure.support.EventLoopAffinity;
+import com.readtimeout.infrastructure.support.MessagePublisherMetrics;
+import com.readtimeout.infrastructure.support.MessageSerializer;
+import com.readtimeout.infrastructure.support.MicroBatchMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.DefaultEventLoop;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.ScheduledFuture;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.rabbitmq.CorrelableOutboundMessage;
+import reactor.rabbitmq.Sender;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * V5: EventLoop 마이크로 배치 Publisher (group commit)
+ *
+ * 요청마다 발행 + confirm 왕복을 하는 대신:
+ * - 요청을 받은 EventLoop별 누적기에 메시지를 모음 (EventLoop 단일 스레드 → 락 없음)
+ * - maxMessages건이 모이거나 첫 메시지 후 maxDelay가 지나면 flush
+ * - flush 한 번 = sendWithPublishConfirms(Flux) 한 번 → 하나의 채널에서 연속 발행, 브로커의 multiple ack로 confirm
+ * - 배치의 confirm이 모두 도착하면 원래 EventLoop로 한 번만 넘어가 각 요청의 Mono를 완료
+ *   (응답 write도 같은 EventLoop에서 바로 수행됨)
+ *
+ * EventLoop는 EventLoopAffinity로 Reactor Context에 전달받으며, 없으면 전용 fallback 루프 사용.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "server.mode", havingValue = "micro-batch")
+public class MicroBatchRabbitMQPublisher implements ReactiveMessagePublisher {
+
+    private final Sender sender;
+    private final RabbitMQProperties properties;
+    private final MessageSerializer serializer;
+    private final MessagePublisherMetrics metrics;
+    private final MicroBatchMetrics batchMetrics;
+    private final Duration confirmTimeout;
+    private final int maxMessages;
+    private final long maxDelayNanos;
+
+    private final ConcurrentHashMap<EventExecutor, Accumulator> accumulators = new ConcurrentHashMap<>();
+    private final DefaultEventLoop fallbackLoop;
+
+    public MicroBatchRabbitMQPublisher(
+            Sender sender,
+            RabbitMQProperties properties,
+            MessageSerializer serializer,
+            MeterRegistry meterRegistry) {
+        this.sender = sender;
+        this.properties = properties;
+        this.serializer = serializer;
+        this.metrics = MessagePublisherMetrics.builder(meterRegistry)
+                .mode("micro-batch")
+                .version("v5")
+                .build();
+        this.batchMetrics = MicroBatchMetrics.create(meterRegistry);
+        this.confirmTimeout = Duration.ofMillis(
+                properties.confirmTimeoutMs() > 0 ? properties.confirmTimeoutMs() : 5000L);
+        this.maxMessages = properties.microBatch().maxMessages();
+        this.maxDelayNanos = TimeUnit.MICROSECONDS.toNanos(properties.microBatch().maxDelayMicros());
+        this.fallbackLoop = new DefaultEventLoop(new DefaultThreadFactory("micro-batch-fallback", true));
+
+        meterRegistry.gauge("rabbitmq.microbatch.accumulators", accumulators, ConcurrentHashMap::size);
+
+        log.info("MicroBatchRabbitMQPublisher initialized (maxMessages={}, maxDelay={}μs, confirmTimeout={}ms)",
+                maxMessages, properties.microBatch().maxDelayMicros(), confirmTimeout.toMillis());
+    }
+
+    @Override
+    public Mono<Void> publish(SendMessage sendMessage) {
+        return Mono.deferContextual(context -> {
+            EventExecutor eventLoop = EventLoopAffinity.from(context);
+            Accumulator accumulator = accumulators.computeIfAbsent(
+                    eventLoop != null ? eventLoop : fallbackLoop, Accumulator::new);
+
+            CorrelableOutboundMessage<Pending> outbound;
+            Pending pending = new Pending(sendMessage.getId());
+            try {
+                outbound = createOutboundMessage(sendMessage, pending);
+            } catch (RuntimeException e) {
+                return Mono.error(new MessagePublishException("Failed to serialize message: " + e.getMessage(), e));
+            }
+
+            return Mono.<Void>create(sink -> {
+                pending.sink = sink;
+                pending.startTime = System.nanoTime();
+                accumulator.offer(outbound);
+            });
+        });
+    }
+
+    private CorrelableOutboundMessage<Pending> createOutboundMessage(SendMessage sendMessage, Pending pending) {
+        MessageSerializer.RawMessage raw = serializer.serializeRaw(sendMessage);
+
+        return new CorrelableOutboundMessage<>(
+                properties.exchange(),
+                properties.routingKey(),
+                raw.properties(),
+                raw.body(),
+                pending
+        );
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        fallbackLoop.shutdownGracefully(0, 5, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 발행 대기 중인 요청 하나
+     *
+     * acked/error는 confirm 스레드에서 기록되고, EventLoop로 넘어간 뒤(execute의 happens-before) 읽힘.
+     */
+    private static final class Pending {
+        private final String messageId;
+        private MonoSink<Void> sink;
+        private long startTime;
+        private boolean acked;
+        private boolean nacked;
+
+        private Pending(String messageId) {
+            this.messageId = messageId;
+        }
+    }
+
+    /**
+     * EventLoop 하나에 대응하는 누적기 (해당 EventLoop에서만 상태 접근)
+     */
+    private final class Accumulator {
+
+        private final EventExecutor eventLoop;
+        private List<CorrelableOutboundMessage<Pending>> buffer;
+        private ScheduledFuture<?> lingerTimer;
+        private long firstEnqueuedAt;
+
+        private Accumulator(EventExecutor eventLoop) {
+            this.eventLoop = eventLoop;
+            this.buffer = new ArrayList<>(maxMessages);
+        }
+
+        void offer(CorrelableOutboundMessage<Pending> outbound) {
+            if (eventLoop.inEventLoop()) {
+                add(outbound);
+                return;
+            }
+            try {
+                eventLoop.execute(() -> add(outbound));
+            } catch (RejectedExecutionException e) {
+                Pending pending = outbound.getCorrelationMetadata();
+                pending.sink.error(new MessagePublishException("Event loop is shutting down", e));
+            }
+        }
+
+        private void add(CorrelableOutboundMessage<Pending> outbound) {
+            buffer.add(outbound);
+            if (buffer.size() == 1) {
+                firstEnqueuedAt = System.nanoTime();
+                lingerTimer = eventLoop.schedule(() -> flush(false), maxDelayNanos, TimeUnit.NANOSECONDS);
+            }
+            if (buffer.size() >= maxMessages) {
+                flush(true);
+            }
+        }
+
+        private void flush(boolean sizeTriggered) {
+            if (buffer.isEmpty()) {
+                return;
+            }
+            if (lingerTimer != null) {
+                lingerTimer.cancel(false);
+                lingerTimer = null;
+            }
+
+            List<CorrelableOutboundMessage<Pending>> batch = buffer;
+            buffer = new ArrayList<>(maxMessages);
+            batchMetrics.recordFlush(batch.size(), sizeTriggered, firstEnqueuedAt);
+
+            long flushedAt = System.nanoTime();
+            sender.sendWithPublishConfirms(Flux.fromIterable(batch))
+                    .timeout(confirmTimeout)
+                    .subscribe(
+                            result -> {
+                                Pending pending = result.getOutboundMessage().getCorrelationMetadata();
+                                pending.acked = result.isAck();
+                                pending.nacked = !result.isAck();
+                            },
+                            error -> complete(batch, flushedAt, error),
+                            () -> complete(batch, flushedAt, null));
+        }
+
+        /**
+         * 배치 결과를 원래 EventLoop에서 한 번에 전달
+         */
+        private void complete(List<CorrelableOutboundMessage<Pending>> batch, long flushedAt, Throwable error) {
+            batchMetrics.recordConfirm(flushedAt);
+            Runnable fanOut = () -> {
+                for (CorrelableOutboundMessage<Pending> outbound : batch) {
+                    completeOne(outbound.getCorrelationMetadata(), error);
+                }
+            };
+
+            try {
+                eventLoop.execute(fanOut);
+            } catch (RejectedExecutionException e) {
+                fanOut.run();
+            }
+        }
+
+        private void completeOne(Pending pending, Throwable error) {
+            if (pending.acked) {
+                metrics.recordPublishSuccess(pending.messageId, pending.startTime);
+                pending.sink.success();
+                return;
+            }
+
+            MessagePublishException ex;
+            if (pending.nacked) {
+                ex = new MessagePublishException("Message NACK'd by broker [id=" + pending.messageId + "]");
+            } else if (error != null) {
+                ex = new MessagePublishException("Micro-batch publish failed [id=" + pending.messageId + "]", error);
+            } else {
+                ex = new MessagePublishException("No confirm received [id=" + pending.messageId + "]");
+            }
+            metrics.recordPublishFailure(pending.messageId, pending.startTime, ex);
+            pending.sink.error(ex);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.readtimeout.infrastructure.adapter.rabbitmq;
 
 import com.readtimeout.core.domain.exception.MessagePublishException;
 import com.readtimeout.core.domain.model.SendMessage;
+import com.readtimeout.core.domain.model.SendResult;
 import com.readtimeout.core.domain.port.outbound.AsyncMessagePublisher;
 import com.readtimeout.infrastructure.config.RabbitMQProperties;
 import com.readtimeout.infrastructure.support.MessagePublisherMetrics;
@@ -13,6 +14,7 @@ import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 @Slf4j
@@ -25,6 +27,7 @@ public class NonBlockingRabbitMQPublisher implements AsyncMessagePublisher {
     private final MessageSerializer serializer;
     private final MessagePublisherMetrics metrics;
     private final long confirmTimeout;
+    private final ConfirmedBatchPublisher batchPublisher;
 
     public NonBlockingRabbitMQPublisher(
             RabbitTemplate rabbitTemplate,
@@ -36,6 +39,7 @@ public class NonBlockingRabbitMQPublisher implements AsyncMessagePublisher {
         this.serializer = serializer;
         this.metrics = MessagePublisherMetrics.forNonBlocking(meterRegistry, null);
         this.confirmTimeout = properties.confirmTimeoutMs() > 0 ? properties.confirmTimeoutMs() : 5000L;
+        this.batchPublisher = new ConfirmedBatchPublisher(rabbitTemplate, properties, serializer, confirmTimeout);
 
         log.info("NonBlockingRabbitMQPublisher initialized (confirmTimeout={}ms)", confirmTimeout);
     }
@@ -70,4 +74,12 @@ public class NonBlockingRabbitMQPublisher implements AsyncMessagePublisher {
             return CompletableFuture.failedFuture(ex);
         }
     }
+
+    @Override
+    public CompletableFuture<List<SendResult>> publishBatch(List<SendMessage> sendMessages) {
+        long startTime = System.nanoTime();
+        List<SendResult> results = batchPublisher.publish(sendMessages);
+        metrics.recordBatch(results, startTime);
+        return CompletableFuture.completedFuture(results);
+    }
 }
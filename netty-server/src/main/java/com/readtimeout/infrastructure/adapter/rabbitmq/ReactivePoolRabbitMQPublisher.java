@@ -1,23 +1,32 @@
 package com.readtimeout.infrastructure.adapter.rabbitmq;
 
-import com.rabbitmq.client.AMQP;
 import com.readtimeout.core.domain.exception.MessagePublishException;
 import com.readtimeout.core.domain.model.SendMessage;
+import com.readtimeout.core.domain.model.SendResult;
 import com.readtimeout.core.domain.port.outbound.ReactiveMessagePublisher;
 import com.readtimeout.infrastructure.config.RabbitMQProperties;
+import com.readtimeout.infrastructure.support.ConfirmTimeoutWheel;
 import com.readtimeout.infrastructure.support.MessagePublisherMetrics;
 import com.readtimeout.infrastructure.support.MessageSerializer;
 import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.amqp.core.Message;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.rabbitmq.CorrelableOutboundMessage;
 import reactor.rabbitmq.OutboundMessage;
 import reactor.rabbitmq.OutboundMessageResult;
 import reactor.rabbitmq.Sender;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Component
@@ -29,6 +38,7 @@ public class ReactivePoolRabbitMQPublisher implements ReactiveMessagePublisher {
     private final MessageSerializer serializer;
     private final MessagePublisherMetrics metrics;
     private final Duration confirmTimeout;
+    private final ConfirmTimeoutWheel timeoutWheel;
 
     public ReactivePoolRabbitMQPublisher(
             Sender sender,
@@ -41,6 +51,9 @@ public class ReactivePoolRabbitMQPublisher implements ReactiveMessagePublisher {
         this.metrics = MessagePublisherMetrics.forReactive(meterRegistry);
         this.confirmTimeout = Duration.ofMillis(
                 properties.confirmTimeoutMs() > 0 ? properties.confirmTimeoutMs() : 5000L);
+        this.timeoutWheel = ConfirmTimeoutWheel.start(
+                "reactive-pool-confirm-timeout", confirmTimeout.toMillis(), TimeUnit.MILLISECONDS,
+                meterRegistry, "reactive-pool");
 
         log.info("ReactivePoolRabbitMQPublisher initialized (confirmTimeout={}ms)", confirmTimeout.toMillis());
     }
@@ -52,37 +65,143 @@ public class ReactivePoolRabbitMQPublisher implements ReactiveMessagePublisher {
 
         OutboundMessage outboundMessage = createOutboundMessage(sendMessage);
 
-        return sender.sendWithPublishConfirms(Mono.just(outboundMessage))
-                .single()
-                .timeout(confirmTimeout)
-                .flatMap(result -> handleConfirmResult(result, messageId, startTime));
+        return Mono.create(sink -> {
+            PendingConfirm pending = new PendingConfirm(sink, messageId, startTime);
+            timeoutWheel.schedule(pending);
+
+            pending.subscription = sender.sendWithPublishConfirms(Mono.just(outboundMessage))
+                    .subscribe(
+                            result -> {
+                                if (timeoutWheel.confirm(pending)) {
+                                    handleConfirmResult(result, pending);
+                                }
+                            },
+                            error -> {
+                                if (timeoutWheel.cancel(pending)) {
+                                    sink.error(error);
+                                }
+                            });
+            sink.onCancel(() -> {
+                if (timeoutWheel.cancel(pending)) {
+                    pending.subscription.dispose();
+                }
+            });
+        });
     }
 
-    private Mono<Void> handleConfirmResult(OutboundMessageResult result, String messageId, long startTime) {
+    private void handleConfirmResult(OutboundMessageResult<OutboundMessage> result, PendingConfirm pending) {
         if (result.isAck()) {
-            metrics.recordPublishSuccess(messageId, startTime);
-            log.debug("Message [id={}] confirmed by broker", messageId);
-            return Mono.empty();
+            metrics.recordPublishSuccess(pending.messageId, pending.startTime);
+            log.debug("Message [id={}] confirmed by broker", pending.messageId);
+            pending.sink.success();
+            return;
         }
 
-        MessagePublishException ex = new MessagePublishException("Message NACK'd by broker [id=" + messageId + "]");
-        metrics.recordPublishFailure(messageId, startTime, ex);
-        log.warn("Message [id={}] rejected by broker", messageId);
-        return Mono.error(ex);
+        MessagePublishException ex = new MessagePublishException("Message NACK'd by broker [id=" + pending.messageId + "]");
+        metrics.recordPublishFailure(pending.messageId, pending.startTime, ex);
+        log.warn("Message [id={}] rejected by broker", pending.messageId);
+        pending.sink.error(ex);
+    }
+
+    /**
+     * 배치 발행
+     *
+     * 메시지마다 sendWithPublishConfirms를 구독하면 채널을 메시지 수만큼 빌려야 하므로,
+     * 배치 전체를 하나의 Flux로 넘겨 한 채널에서 발행하고 confirm을 모아서 받음.
+     * 메시지 순번을 correlation metadata로 실어 confirm 결과를 원래 위치에 기록.
+     */
+    @Override
+    public Mono<List<SendResult>> publishBatch(List<SendMessage> sendMessages) {
+        return Mono.defer(() -> {
+            long startTime = System.nanoTime();
+            SendResult[] results = new SendResult[sendMessages.size()];
+            List<CorrelableOutboundMessage<Integer>> outboundMessages = new ArrayList<>(sendMessages.size());
+
+            for (int i = 0; i < sendMessages.size(); i++) {
+                SendMessage sendMessage = sendMessages.get(i);
+                try {
+                    MessageSerializer.RawMessage raw = serializer.serializeRaw(sendMessage);
+                    outboundMessages.add(new CorrelableOutboundMessage<>(
+                            properties.exchange(),
+                            properties.routingKey(),
+                            raw.properties(),
+                            raw.body(),
+                            i));
+                } catch (RuntimeException e) {
+                    results[i] = SendResult.failure(sendMessage.getId(), e);
+                }
+            }
+
+            return sender.sendWithPublishConfirms(Flux.fromIterable(outboundMessages))
+                    .timeout(confirmTimeout)
+                    .doOnNext(result -> {
+                        int index = result.getOutboundMessage().getCorrelationMetadata();
+                        String messageId = sendMessages.get(index).getId();
+                        results[index] = result.isAck()
+                                ? SendResult.success(messageId)
+                                : SendResult.failure(messageId, "Message NACK'd by broker");
+                    })
+                    .then()
+                    .onErrorResume(e -> {
+                        log.warn("Batch publish interrupted: {}", e.getMessage());
+                        return Mono.empty();
+                    })
+                    .then(Mono.fromSupplier(() -> {
+                        for (int i = 0; i < results.length; i++) {
+                            if (results[i] == null) {
+                                results[i] = SendResult.failure(sendMessages.get(i).getId(), "Confirm timeout");
+                            }
+                        }
+                        List<SendResult> completed = Arrays.asList(results);
+                        metrics.recordBatch(completed, startTime);
+                        return completed;
+                    }));
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        timeoutWheel.close();
     }
 
     private OutboundMessage createOutboundMessage(SendMessage sendMessage) {
-        Message amqpMessage = serializer.serialize(sendMessage);
+        MessageSerializer.RawMessage raw = serializer.serializeRaw(sendMessage);
 
         return new OutboundMessage(
                 properties.exchange(),
                 properties.routingKey(),
-                new AMQP.BasicProperties.Builder()
-                        .contentType("application/json")
-                        .deliveryMode(2)
-                        .correlationId(sendMessage.getId())
-                        .build(),
-                amqpMessage.getBody()
+                raw.properties(),
+                raw.body()
         );
     }
+
+    /**
+     * 단건 발행 대기 항목이자 타임아웃 휠 노드
+     *
+     * 휠에서 먼저 해제한 쪽(confirm, 오류, 구독 취소, 만료)만 결과를 전달함.
+     */
+    private final class PendingConfirm extends ConfirmTimeoutWheel.Entry {
+        private final MonoSink<Void> sink;
+        private final String messageId;
+        private final long startTime;
+        private volatile Disposable subscription;
+
+        private PendingConfirm(MonoSink<Void> sink, String messageId, long startTime) {
+            this.sink = sink;
+            this.messageId = messageId;
+            this.startTime = startTime;
+        }
+
+        @Override
+        protected boolean expire() {
+            Disposable current = subscription;
+            if (current != null) {
+                current.dispose();
+            }
+            MessagePublishException ex = new MessagePublishException("Confirm timeout [id=" + messageId + "]");
+            metrics.recordPublishFailure(messageId, startTime, ex);
+            sink.error(ex);
+            return true;
+        }
+    }
 }
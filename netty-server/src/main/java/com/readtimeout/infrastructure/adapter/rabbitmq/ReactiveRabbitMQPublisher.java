@@ -6,34 +6,52 @@ import com.readtimeout.core.domain.exception.MessagePublishException;
 import com.readtimeout.core.domain.model.SendMessage;
 import com.readtimeout.core.domain.port.outbound.ReactiveMessagePublisher;
 import com.readtimeout.infrastructure.config.RabbitMQProperties;
+import com.readtimeout.infrastructure.support.AmqpConnectionPool;
+import com.readtimeout.infrastructure.support.ConfirmTimeoutWheel;
+import com.readtimeout.infrastructure.support.DeliveryTagTable;
+import com.readtimeout.infrastructure.support.EventLoopAffinity;
 import com.readtimeout.infrastructure.support.MessagePublisherMetrics;
 import com.readtimeout.infrastructure.support.MessageSerializer;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.DefaultEventLoop;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import io.netty.util.concurrent.EventExecutor;
 import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.amqp.core.Message;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 import reactor.core.Disposable;
 import reactor.core.publisher.Mono;
 import reactor.core.publisher.MonoSink;
 import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
-import reactor.rabbitmq.OutboundMessage;
+import reactor.rabbitmq.CorrelableOutboundMessage;
 import reactor.rabbitmq.OutboundMessageResult;
+import reactor.rabbitmq.SendOptions;
 import reactor.rabbitmq.Sender;
+import reactor.util.concurrent.Queues;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.TimeoutException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * V4: Reactive Sink 기반 Publisher (Publisher Confirms 적용)
  *
  * 특징:
- * - per-EventLoop Sink: 스레드별 전용 무한 스트림
- * - Channel 재활용: 스트림 기반으로 채널 효율적 사용
- * - Publisher Confirms: correlationId로 결과 매핑
+ * - per-EventLoop Sink: 요청을 받은 EventLoop(EventLoopAffinity)별 전용 무한 스트림 + 전용 AMQP 채널
+ *   (채널은 AmqpConnectionPool의 연결에 번갈아 배치)
+ * - 발행(emit)은 소유 EventLoop에서 수행, confirm도 소유 EventLoop로 모아서 전달 (boundedElastic 전환 없음)
+ * - Backpressure: 채널당 미확인 메시지 수(maxInFlight)를 넘으면 Sink 큐에 쌓이고,
+ *   큐(SINK_CAPACITY)가 가득 차면 즉시 BackpressureRejectedException
+ * - Publisher Confirms: 스트림 내 발행 순번으로 결과 매핑 (SinkContext별 DeliveryTagTable)
+ * - Confirm 타임아웃: 메시지별 Mono.timeout 대신 공유 ConfirmTimeoutWheel
  * - 200 = RabbitMQ ACK 확인됨
  * - 503 = Backpressure 또는 NACK/timeout
  */
@@ -43,153 +61,176 @@ import java.util.concurrent.TimeoutException;
 public class ReactiveRabbitMQPublisher implements ReactiveMessagePublisher {
 
     private static final int MAX_PENDING_REQUESTS = 12000;
+    // EventLoop(채널)당 broker 미확인 메시지 상한
+    private static final int MAX_IN_FLIGHT_PER_SINK = 1024;
+    // EventLoop당 발행 대기 큐 (maxInFlight에 막혀 아직 채널로 나가지 못한 메시지)
+    private static final int SINK_CAPACITY = 4096;
 
     private final Sender sender;
+    private final AmqpConnectionPool connectionPool;
     private final RabbitMQProperties properties;
     private final MessageSerializer serializer;
     private final MessagePublisherMetrics metrics;
     private final Duration confirmTimeout;
+    private final ConfirmTimeoutWheel timeoutWheel;
 
-    private final ConcurrentHashMap<Thread, SinkContext> sinkContexts;
-    private final ConcurrentHashMap<String, PendingRequest> pendingRequests;
+    private final ConcurrentHashMap<EventExecutor, SinkContext> sinkContexts;
+    private final AtomicInteger pendingCount;
+    private final DefaultEventLoop fallbackLoop;
 
     public ReactiveRabbitMQPublisher(
             Sender sender,
+            AmqpConnectionPool reactiveConnectionPool,
             RabbitMQProperties properties,
             MessageSerializer serializer,
             MeterRegistry meterRegistry) {
         this.sender = sender;
+        this.connectionPool = reactiveConnectionPool;
         this.properties = properties;
         this.serializer = serializer;
         this.metrics = MessagePublisherMetrics.forReactive(meterRegistry);
         this.confirmTimeout = Duration.ofMillis(
                 properties.confirmTimeoutMs() > 0 ? properties.confirmTimeoutMs() : 5000L);
+        this.timeoutWheel = ConfirmTimeoutWheel.start(
+                "reactive-confirm-timeout", confirmTimeout.toMillis(), TimeUnit.MILLISECONDS, meterRegistry, "reactive");
         this.sinkContexts = new ConcurrentHashMap<>();
-        this.pendingRequests = new ConcurrentHashMap<>();
+        this.pendingCount = new AtomicInteger();
+        this.fallbackLoop = new DefaultEventLoop(new DefaultThreadFactory("reactive-publisher-fallback", true));
 
         meterRegistry.gauge("reactive_sink_contexts", sinkContexts, ConcurrentHashMap::size);
-        meterRegistry.gauge("reactive_pending_requests", pendingRequests, ConcurrentHashMap::size);
+        meterRegistry.gauge("reactive_pending_requests", pendingCount);
 
-        log.info("ReactiveRabbitMQPublisher created with Sink + Publisher Confirms (timeout={}ms)",
-                confirmTimeout.toMillis());
+        log.info("ReactiveRabbitMQPublisher created with per-EventLoop Sink + Publisher Confirms "
+                        + "(timeout={}ms, maxInFlight={}, sinkCapacity={})",
+                confirmTimeout.toMillis(), MAX_IN_FLIGHT_PER_SINK, SINK_CAPACITY);
     }
 
     @Override
     public Mono<Void> publish(SendMessage sendMessage) {
-        if (pendingRequests.size() >= MAX_PENDING_REQUESTS) {
-            return Mono.error(new BackpressureRejectedException(
-                    String.format("Too many pending requests (%d)", MAX_PENDING_REQUESTS)));
-        }
+        return Mono.deferContextual(context -> {
+            if (pendingCount.incrementAndGet() > MAX_PENDING_REQUESTS) {
+                pendingCount.decrementAndGet();
+                return Mono.error(new BackpressureRejectedException(
+                        String.format("Too many pending requests (%d)", MAX_PENDING_REQUESTS)));
+            }
+
+            EventExecutor eventLoop = EventLoopAffinity.from(context);
+            SinkContext ctx = sinkContexts.computeIfAbsent(
+                    eventLoop != null ? eventLoop : fallbackLoop, this::createSinkContext);
+            PendingRequest pending = new PendingRequest(sendMessage.getId(), System.nanoTime());
 
-        String messageId = sendMessage.getId();
-        long startTime = System.nanoTime();
-
-        return Mono.<Void>create(monoSink -> {
-                    PendingRequest pending = new PendingRequest(monoSink, startTime);
-                    pendingRequests.put(messageId, pending);
-
-                    SinkContext ctx = getOrCreateSinkContext();
-                    OutboundMessage outboundMessage = createOutboundMessage(sendMessage);
-
-                    Sinks.EmitResult result = ctx.sink().tryEmitNext(outboundMessage);
-
-                    if (result.isFailure()) {
-                        pendingRequests.remove(messageId);
-                        metrics.recordPublishFailure(messageId, startTime,
-                                new RuntimeException("Failed to emit: " + result));
-                        monoSink.error(new BackpressureRejectedException("Sink buffer full: " + result));
-                    }
-                })
-                .timeout(confirmTimeout)
-                .doOnError(TimeoutException.class, e -> {
-                    PendingRequest pending = pendingRequests.remove(messageId);
-                    if (pending != null) {
-                        metrics.recordPublishFailure(messageId, startTime,
-                                new MessagePublishException("Confirm timeout"));
-                    }
-                });
+            return Mono.<Void>create(monoSink -> {
+                pending.sink = monoSink;
+                if (ctx.eventLoop.inEventLoop()) {
+                    emit(ctx, sendMessage, pending);
+                    return;
+                }
+                try {
+                    ctx.eventLoop.execute(() -> emit(ctx, sendMessage, pending));
+                } catch (RejectedExecutionException e) {
+                    pendingCount.decrementAndGet();
+                    monoSink.error(new MessagePublishException("Event loop is shutting down", e));
+                }
+            });
+        });
     }
 
-    private SinkContext getOrCreateSinkContext() {
-        Thread currentThread = Thread.currentThread();
-        return sinkContexts.computeIfAbsent(currentThread, this::createSinkContext);
+    /**
+     * 소유 EventLoop에서 호출
+     */
+    private void emit(SinkContext ctx, SendMessage sendMessage, PendingRequest pending) {
+        Sinks.EmitResult result;
+        try {
+            result = ctx.emit(sendMessage, pending);
+        } catch (RuntimeException e) {
+            pendingCount.decrementAndGet();
+            MessagePublishException ex = new MessagePublishException(
+                    "Failed to serialize message: " + e.getMessage(), e);
+            metrics.recordPublishFailure(pending.messageId, pending.startTime, ex);
+            pending.sink.error(ex);
+            return;
+        }
+
+        if (result.isFailure()) {
+            metrics.getPublishFailureCounter().increment();
+            pending.sink.error(new BackpressureRejectedException("Sink buffer full: " + result));
+        }
     }
 
-    private SinkContext createSinkContext(Thread thread) {
-        Sinks.Many<OutboundMessage> sink = Sinks.many().unicast().onBackpressureBuffer();
+    private SinkContext createSinkContext(EventExecutor eventLoop) {
+        // Sink는 풀의 연결에 번갈아 배치되고, Sink마다 전용 채널 사용 (스트림 종료 시 채널도 닫힘)
+        AmqpConnectionPool.Member member = connectionPool.next();
+        SinkContext ctx = new SinkContext(eventLoop, member);
+        Scheduler confirmScheduler = Schedulers.fromExecutor(eventLoop);
+
+        SendOptions sendOptions = new SendOptions()
+                .channelMono(Mono.fromCallable(() -> member.connection().createChannel()))
+                .maxInFlight(MAX_IN_FLIGHT_PER_SINK);
 
-        Disposable subscription = sender.sendWithPublishConfirms(
-                        sink.asFlux()
-                                .doOnNext(msg -> log.info("Sending to RabbitMQ: {}", msg.getProperties().getCorrelationId()))
-                                .publishOn(Schedulers.boundedElastic())
-                )
-                .doOnNext(result -> log.info("Received confirm: {} ack={}",
-                        result.getOutboundMessage().getProperties().getCorrelationId(), result.isAck()))
+        ctx.subscription = sender.sendWithPublishConfirms(ctx.sink.asFlux(), sendOptions)
+                .publishOn(confirmScheduler)
                 .subscribe(
-                        this::handleConfirmResult,
-                        error -> handleStreamError(thread, error),
-                        () -> log.warn("Sink flux completed unexpectedly for thread: {}", thread.getName())
+                        result -> handleConfirmResult(ctx, result),
+                        error -> handleStreamError(ctx, error),
+                        () -> log.warn("Sink flux completed unexpectedly for event loop: {}", eventLoop)
                 );
 
-        log.info("Created SinkContext for thread: {}", thread.getName());
-        return new SinkContext(sink, subscription);
+        log.info("Created SinkContext for event loop: {} (connection={})", eventLoop, member.index());
+        return ctx;
     }
 
-    private void handleConfirmResult(OutboundMessageResult result) {
-        String correlationId = result.getOutboundMessage().getProperties().getCorrelationId();
-        PendingRequest pending = pendingRequests.remove(correlationId);
+    private void handleConfirmResult(SinkContext ctx, OutboundMessageResult<CorrelableOutboundMessage<Long>> result) {
+        long sequence = result.getOutboundMessage().getCorrelationMetadata();
+        PendingRequest pending = ctx.take(sequence);
         if (pending == null) {
-            log.debug("No pending request for correlationId: {}", correlationId);
+            log.debug("No pending request for sequence: {}", sequence);
             return;
         }
+        timeoutWheel.confirm(pending);
+        ctx.member.onConfirm(pending.publishedAt);
 
         if (result.isAck()) {
-            metrics.recordPublishSuccess(correlationId, pending.startTime());
-            log.debug("Message [id={}] confirmed by broker (ACK)", correlationId);
-            pending.sink().success();
+            metrics.recordPublishSuccess(pending.messageId, pending.startTime);
+            pending.sink.success();
         } else {
             MessagePublishException ex = new MessagePublishException(
-                    "Message NACK'd by broker [id=" + correlationId + "]");
-            metrics.recordPublishFailure(correlationId, pending.startTime(), ex);
-            log.warn("Message [id={}] rejected by broker (NACK)", correlationId);
-            pending.sink().error(ex);
+                    "Message NACK'd by broker [id=" + pending.messageId + "]");
+            metrics.recordPublishFailure(pending.messageId, pending.startTime, ex);
+            log.warn("Message [id={}] rejected by broker (NACK)", pending.messageId);
+            pending.sink.error(ex);
         }
     }
 
-    private void handleStreamError(Thread thread, Throwable error) {
-        log.error("Sink flux error for thread {} - removing context", thread.getName(), error);
-        sinkContexts.remove(thread);
+    private void handleStreamError(SinkContext ctx, Throwable error) {
+        log.error("Sink flux error for event loop {} - removing context", ctx.eventLoop, error);
+        sinkContexts.remove(ctx.eventLoop, ctx);
+        ctx.failAll(new MessagePublishException("Publish stream terminated: " + error.getMessage(), error));
     }
 
-    private OutboundMessage createOutboundMessage(SendMessage sendMessage) {
-        Message amqpMessage = serializer.serialize(sendMessage);
+    private CorrelableOutboundMessage<Long> createOutboundMessage(SendMessage sendMessage, long sequence) {
+        MessageSerializer.RawMessage raw = serializer.serializeRaw(sendMessage);
 
-        return new OutboundMessage(
+        return new CorrelableOutboundMessage<>(
                 properties.exchange(),
                 properties.routingKey(),
-                new AMQP.BasicProperties.Builder()
-                        .contentType("application/json")
-                        .deliveryMode(2)
-                        .correlationId(sendMessage.getId())
-                        .build(),
-                amqpMessage.getBody()
+                raw.properties(),
+                raw.body(),
+                sequence
         );
     }
 
     @PreDestroy
     public void shutdown() {
         log.info("Shutting down ReactiveRabbitMQPublisher ({} sink contexts, {} pending)...",
-                sinkContexts.size(), pendingRequests.size());
+                sinkContexts.size(), pendingCount.get());
 
         // 1. Sink complete → 새 메시지 수락 중단
-        sinkContexts.forEach((thread, ctx) -> {
-            ctx.sink().tryEmitComplete();
-        });
+        sinkContexts.forEach((eventLoop, ctx) -> ctx.complete());
 
         // 2. pending 요청 완료 대기 (최대 confirmTimeout)
         long waitStart = System.currentTimeMillis();
         long maxWaitMs = confirmTimeout.toMillis();
-        while (!pendingRequests.isEmpty() && (System.currentTimeMillis() - waitStart) < maxWaitMs) {
+        while (pendingCount.get() > 0 && (System.currentTimeMillis() - waitStart) < maxWaitMs) {
             try {
                 Thread.sleep(100);
             } catch (InterruptedException e) {
@@ -199,34 +240,149 @@ public class ReactiveRabbitMQPublisher implements ReactiveMessagePublisher {
         }
 
         // 3. timeout 후 남은 요청 실패 처리
-        if (!pendingRequests.isEmpty()) {
-            log.warn("Forcing shutdown with {} pending requests", pendingRequests.size());
-            pendingRequests.keySet().forEach(id -> {
-                PendingRequest pending = pendingRequests.remove(id);
-                if (pending != null) {
-                    pending.sink().error(new MessagePublishException("Shutdown timeout"));
-                }
-            });
+        if (pendingCount.get() > 0) {
+            log.warn("Forcing shutdown with {} pending requests", pendingCount.get());
+            MessagePublishException shutdownTimeout = new MessagePublishException("Shutdown timeout");
+            sinkContexts.forEach((eventLoop, ctx) -> ctx.failAll(shutdownTimeout));
         }
 
         // 4. Subscription 정리
-        sinkContexts.forEach((thread, ctx) -> {
-            if (!ctx.subscription().isDisposed()) {
-                ctx.subscription().dispose();
+        sinkContexts.forEach((eventLoop, ctx) -> {
+            if (!ctx.subscription.isDisposed()) {
+                ctx.subscription.dispose();
             }
         });
         sinkContexts.clear();
+        timeoutWheel.close();
+        fallbackLoop.shutdownGracefully(0, 5, TimeUnit.SECONDS);
 
         log.info("ReactiveRabbitMQPublisher shutdown complete");
     }
 
-    private record SinkContext(
-            Sinks.Many<OutboundMessage> sink,
-            Disposable subscription
-    ) {}
+    /**
+     * EventLoop 하나의 발행 스트림
+     *
+     * 스트림 하나는 전용 채널 하나에서 순서대로 발행되므로, 스트림 내 발행 순번을 delivery tag 대신 키로 사용.
+     * - 순번은 correlation metadata(long)로 실어 보내고 confirm 결과에서 그대로 돌려받음
+     * - 대기 목록은 DeliveryTagTable (문자열 해싱, CHM 노드 할당 없음)
+     * - emit/confirm은 소유 EventLoop에서만 실행되므로, 락은 타임아웃/종료 경로와의 경합에만 쓰임
+     */
+    private final class SinkContext {
+
+        private final EventExecutor eventLoop;
+        private final AmqpConnectionPool.Member member;
+        private final Sinks.Many<CorrelableOutboundMessage<Long>> sink =
+                Sinks.many().unicast().onBackpressureBuffer(Queues.<CorrelableOutboundMessage<Long>>get(SINK_CAPACITY).get());
+        private final ReentrantLock lock = new ReentrantLock();
+        private final DeliveryTagTable<PendingRequest> pending = new DeliveryTagTable<>();
+        private Disposable subscription;
+        // 소유 EventLoop에서만 증가
+        private long nextSequence = 1;
+
+        private SinkContext(EventExecutor eventLoop, AmqpConnectionPool.Member member) {
+            this.eventLoop = eventLoop;
+            this.member = member;
+        }
+
+        /**
+         * 소유 EventLoop에서만 호출
+         */
+        Sinks.EmitResult emit(SendMessage sendMessage, PendingRequest request) {
+            long sequence = nextSequence;
+            CorrelableOutboundMessage<Long> outboundMessage = createOutboundMessage(sendMessage, sequence);
+            nextSequence++;
+
+            request.context = this;
+            request.sequence = sequence;
+            request.publishedAt = System.nanoTime();
+            lock.lock();
+            try {
+                pending.add(sequence, request);
+            } finally {
+                lock.unlock();
+            }
+            timeoutWheel.schedule(request);
+
+            Sinks.EmitResult result = sink.tryEmitNext(outboundMessage);
+            if (result.isSuccess()) {
+                member.onPublish();
+            } else if (take(sequence) != null) {
+                timeoutWheel.cancel(request);
+            }
+            return result;
+        }
+
+        PendingRequest take(long sequence) {
+            PendingRequest request;
+            lock.lock();
+            try {
+                request = pending.remove(sequence);
+            } finally {
+                lock.unlock();
+            }
+            if (request != null) {
+                pendingCount.decrementAndGet();
+            }
+            return request;
+        }
+
+        void complete() {
+            if (eventLoop.inEventLoop()) {
+                sink.tryEmitComplete();
+                return;
+            }
+            try {
+                eventLoop.execute(sink::tryEmitComplete);
+            } catch (RejectedExecutionException e) {
+                sink.tryEmitComplete();
+            }
+        }
+
+        void failAll(MessagePublishException error) {
+            List<PendingRequest> orphaned = new ArrayList<>();
+            lock.lock();
+            try {
+                pending.removeAll(orphaned::add);
+            } finally {
+                lock.unlock();
+            }
+            pendingCount.addAndGet(-orphaned.size());
+            for (PendingRequest request : orphaned) {
+                timeoutWheel.cancel(request);
+                member.onAbandon();
+                request.sink.error(error);
+            }
+        }
+    }
+
+    /**
+     * 대기 중인 요청이자 타임아웃 휠 노드
+     *
+     * confirm/만료/스트림 오류 중 SinkContext에서 먼저 꺼낸 쪽이 결과를 전달함.
+     */
+    private final class PendingRequest extends ConfirmTimeoutWheel.Entry {
+        private final String messageId;
+        private final long startTime;
+        private MonoSink<Void> sink;
+        private SinkContext context;
+        private long sequence;
+        private long publishedAt;
+
+        private PendingRequest(String messageId, long startTime) {
+            this.messageId = messageId;
+            this.startTime = startTime;
+        }
 
-    private record PendingRequest(
-            MonoSink<Void> sink,
-            long startTime
-    ) {}
+        @Override
+        protected boolean expire() {
+            if (context.take(sequence) == null) {
+                return false;
+            }
+            context.member.onAbandon();
+            MessagePublishException ex = new MessagePublishException("Confirm timeout [id=" + messageId + "]");
+            metrics.recordPublishFailure(messageId, startTime, ex);
+            sink.error(ex);
+            return true;
+        }
+    }
 }
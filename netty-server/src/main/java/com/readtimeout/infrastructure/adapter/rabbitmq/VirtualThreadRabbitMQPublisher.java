@@ -2,31 +2,47 @@ package com.readtimeout.infrastructure.adapter.rabbitmq;
 
 import com.readtimeout.core.domain.exception.MessagePublishException;
 import com.readtimeout.core.domain.model.SendMessage;
+import com.readtimeout.core.domain.model.SendResult;
 import com.readtimeout.core.domain.port.outbound.AsyncMessagePublisher;
 import com.readtimeout.infrastructure.config.RabbitMQProperties;
+import com.readtimeout.infrastructure.support.AmqpConnectionPool;
+import com.readtimeout.infrastructure.support.ConfirmTimeoutWheel;
 import com.readtimeout.infrastructure.support.MessagePublisherMetrics;
 import com.readtimeout.infrastructure.support.MessageSerializer;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * V4: Virtual Thread Publisher
+ *
+ * RabbitTemplate.invoke/waitForConfirms는 synchronized 블록 안에서 블로킹하므로 Virtual Thread가 carrier에 고정됨.
+ * 이 Publisher는 thread-per-request 방식을 유지하되 고정 없이 블로킹:
+ * - amqp-client Channel을 직접 사용 (ConfirmingChannelGroup: 채널별 ReentrantLock, ConfirmListener로 confirm 수신)
+ * - 호출 스레드는 confirm Future에서 대기 (LockSupport.park 기반이라 carrier를 반납)
+ * - confirm 타임아웃은 공유 ConfirmTimeoutWheel로 처리
+ * - 동시성 한도는 Semaphore로 제한
+ *
+ * 호출 스레드가 Virtual Thread면 그 자리에서 발행하고, 아니면 virtualThreadExecutor로 넘김.
+ * 고정 회귀는 jvm.virtual_thread.pinned 메트릭(VirtualThreadPinningMonitor)으로 확인.
+ */
 @Slf4j
 @Component
 @ConditionalOnProperty(name = "server.mode", havingValue = "virtual")
 public class VirtualThreadRabbitMQPublisher implements AsyncMessagePublisher {
 
-    private final RabbitTemplate rabbitTemplate;
-    private final RabbitMQProperties properties;
     private final MessageSerializer serializer;
     private final MessagePublisherMetrics metrics;
 
@@ -35,24 +51,37 @@ public class VirtualThreadRabbitMQPublisher implements AsyncMessagePublisher {
     private final AtomicInteger pendingTasks;
     private final int maxConcurrency;
 
+    private final ConfirmTimeoutWheel timeoutWheel;
+    private final ConfirmingChannelGroup channels;
+
     public VirtualThreadRabbitMQPublisher(
-            RabbitTemplate rabbitTemplate,
+            AmqpConnectionPool virtualConnectionPool,
+            ExecutorService virtualThreadExecutor,
             RabbitMQProperties properties,
             MessageSerializer serializer,
             MeterRegistry meterRegistry) {
-        this.rabbitTemplate = rabbitTemplate;
-        this.properties = properties;
         this.serializer = serializer;
         this.metrics = MessagePublisherMetrics.forVirtualThread(meterRegistry);
-        this.virtualExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        this.virtualExecutor = virtualThreadExecutor;
         this.maxConcurrency = properties.threadPool().queueCapacity();
         this.concurrencyLimiter = new Semaphore(maxConcurrency);
         this.pendingTasks = new AtomicInteger(0);
 
+        long confirmTimeoutMs = properties.confirmTimeoutMs() > 0 ? properties.confirmTimeoutMs() : 5000L;
+        this.timeoutWheel = ConfirmTimeoutWheel.start(
+                "virtual-confirm-timeout", confirmTimeoutMs, TimeUnit.MILLISECONDS, meterRegistry, "virtual");
+        this.channels = new ConfirmingChannelGroup(virtualConnectionPool, properties.virtualThread().channels(),
+                properties.exchange(), properties.routingKey(), timeoutWheel);
+
         meterRegistry.gauge("virtual_thread_pending_tasks", pendingTasks);
         meterRegistry.gauge("virtual_thread_available_permits", concurrencyLimiter, Semaphore::availablePermits);
+        Gauge.builder("rabbitmq.confirm.outstanding", channels, ConfirmingChannelGroup::outstanding)
+                .description("Messages published but not yet confirmed by broker")
+                .tag("mode", "virtual")
+                .register(meterRegistry);
 
-        log.info("VirtualThreadRabbitMQPublisher initialized: maxConcurrency={}", maxConcurrency);
+        log.info("VirtualThreadRabbitMQPublisher initialized: maxConcurrency={}, connections={}, channels={}",
+                maxConcurrency, virtualConnectionPool.size(), channels.size());
     }
 
     @Override
@@ -65,11 +94,21 @@ public class VirtualThreadRabbitMQPublisher implements AsyncMessagePublisher {
                                     maxConcurrency)));
         }
 
-        pendingTasks.incrementAndGet();
+        if (Thread.currentThread().isVirtual()) {
+            try {
+                publishAndAwait(sendMessage);
+                return CompletableFuture.completedFuture(null);
+            } catch (MessagePublishException e) {
+                return CompletableFuture.failedFuture(e);
+            } finally {
+                concurrencyLimiter.release();
+            }
+        }
 
+        pendingTasks.incrementAndGet();
         return CompletableFuture.runAsync(() -> {
             try {
-                publishToRabbitMQ(sendMessage);
+                publishAndAwait(sendMessage);
             } finally {
                 pendingTasks.decrementAndGet();
                 concurrencyLimiter.release();
@@ -77,49 +116,92 @@ public class VirtualThreadRabbitMQPublisher implements AsyncMessagePublisher {
         }, virtualExecutor);
     }
 
-    private static final long CONFIRM_TIMEOUT_MS = 5000;
+    /**
+     * 배치 전체를 하나의 Virtual Thread에서 발행 (동시성 한도는 메시지 수만큼 차감)
+     *
+     * 모든 메시지를 먼저 발행한 뒤 confirm을 기다리므로 대기 시간은 배치당 왕복 한 번.
+     */
+    @Override
+    public CompletableFuture<List<SendResult>> publishBatch(List<SendMessage> sendMessages) {
+        int permits = sendMessages.size();
+        if (!concurrencyLimiter.tryAcquire(permits)) {
+            metrics.getPublishFailureCounter().increment(permits);
+            return CompletableFuture.failedFuture(
+                    new MessagePublishException(
+                            String.format("Concurrency limit reached (%d). Service unavailable.",
+                                    maxConcurrency)));
+        }
 
-    private void publishToRabbitMQ(SendMessage sendMessage) {
+        if (Thread.currentThread().isVirtual()) {
+            try {
+                return CompletableFuture.completedFuture(publishBatchAndAwait(sendMessages));
+            } finally {
+                concurrencyLimiter.release(permits);
+            }
+        }
+
+        pendingTasks.incrementAndGet();
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return publishBatchAndAwait(sendMessages);
+            } finally {
+                pendingTasks.decrementAndGet();
+                concurrencyLimiter.release(permits);
+            }
+        }, virtualExecutor);
+    }
+
+    private void publishAndAwait(SendMessage sendMessage) {
         long startTime = System.nanoTime();
 
         try {
-            org.springframework.amqp.core.Message amqpMessage = serializer.serialize(sendMessage);
-
-            Boolean confirmed = rabbitTemplate.invoke(operations -> {
-                operations.convertAndSend(
-                        properties.exchange(),
-                        properties.routingKey(),
-                        amqpMessage
-                );
-                return operations.waitForConfirms(CONFIRM_TIMEOUT_MS);
-            });
-
-            if (confirmed == null || !confirmed) {
-                throw new MessagePublishException("Message NACK'd or confirm timeout [id=" + sendMessage.getId() + "]");
-            }
+            MessageSerializer.RawMessage raw = serializer.serializeRaw(sendMessage);
+            channels.publish(raw.properties(), raw.body()).join();
 
             metrics.recordPublishSuccess(sendMessage.getId(), startTime);
             log.debug("Published message [id={}] confirmed by broker (virtual thread)", sendMessage.getId());
-        } catch (MessagePublishException e) {
-            metrics.recordPublishFailure(sendMessage.getId(), startTime, e);
-            throw e;
-        } catch (Exception e) {
+        } catch (CompletionException e) {
+            MessagePublishException ex = ConfirmingChannelGroup.toPublishException(sendMessage.getId(), e);
+            metrics.recordPublishFailure(sendMessage.getId(), startTime, ex);
+            throw ex;
+        } catch (RuntimeException e) {
             metrics.recordPublishFailure(sendMessage.getId(), startTime, e);
             throw new MessagePublishException("Failed to publish message to RabbitMQ", e);
         }
     }
 
+    private List<SendResult> publishBatchAndAwait(List<SendMessage> sendMessages) {
+        long startTime = System.nanoTime();
+
+        List<CompletableFuture<Void>> confirms = new ArrayList<>(sendMessages.size());
+        for (SendMessage sendMessage : sendMessages) {
+            try {
+                MessageSerializer.RawMessage raw = serializer.serializeRaw(sendMessage);
+                confirms.add(channels.publish(raw.properties(), raw.body()));
+            } catch (RuntimeException e) {
+                confirms.add(CompletableFuture.failedFuture(e));
+            }
+        }
+
+        List<SendResult> results = new ArrayList<>(sendMessages.size());
+        for (int i = 0; i < sendMessages.size(); i++) {
+            String messageId = sendMessages.get(i).getId();
+            try {
+                confirms.get(i).join();
+                results.add(SendResult.success(messageId));
+            } catch (CompletionException e) {
+                results.add(SendResult.failure(messageId, e));
+            }
+        }
+
+        metrics.recordBatch(results, startTime);
+        return results;
+    }
+
     @PreDestroy
     public void shutdown() {
         log.info("Shutting down VirtualThreadRabbitMQPublisher...");
-        virtualExecutor.shutdown();
-        try {
-            if (!virtualExecutor.awaitTermination(30, TimeUnit.SECONDS)) {
-                virtualExecutor.shutdownNow();
-            }
-        } catch (InterruptedException e) {
-            virtualExecutor.shutdownNow();
-            Thread.currentThread().interrupt();
-        }
+        channels.close();
+        timeoutWheel.close();
     }
 }
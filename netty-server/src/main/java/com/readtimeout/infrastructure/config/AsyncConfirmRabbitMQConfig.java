@@ -0,0 +1,47 @@
+package com.readtimeout.infrastructure.config;
+
+import com.rabbitmq.client.ConnectionFactory;
+import com.readtimeout.infrastructure.support.AmqpConnectionPool;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * async-confirm 모드 RabbitMQ 설정
+ *
+ * 책임:
+ * - ConfirmListener 기반 Publisher용 amqp-client Connection 풀 생성
+ *   (CachingConnectionFactory/RabbitTemplate을 거치지 않음)
+ * - NIO 기반 연결, 자동 복구 비활성화 (연결/채널 재생성은 풀과 Publisher가 담당)
+ *
+ * 적용 모드: async-confirm
+ */
+@Configuration
+@EnableConfigurationProperties(RabbitMQProperties.class)
+@ConditionalOnProperty(name = "server.mode", havingValue = "async-confirm")
+public class AsyncConfirmRabbitMQConfig {
+
+    private final RabbitMQProperties properties;
+
+    public AsyncConfirmRabbitMQConfig(RabbitMQProperties properties) {
+        this.properties = properties;
+    }
+
+    @Bean(destroyMethod = "close")
+    public AmqpConnectionPool asyncConfirmConnectionPool(MeterRegistry meterRegistry) {
+        ConnectionFactory factory = new ConnectionFactory();
+        factory.setHost(properties.host());
+        factory.setPort(properties.port());
+        factory.setUsername(properties.username());
+        factory.setPassword(properties.password());
+        factory.setVirtualHost(properties.virtualHost());
+        factory.setAutomaticRecoveryEnabled(false);
+        factory.useNio();
+
+        RabbitMQProperties.ConnectionPoolConfig pool = properties.connectionPool();
+        return AmqpConnectionPool.create(
+                factory, pool.size(), pool.addresses(), "async-confirm-publisher", meterRegistry);
+    }
+}
@@ -0,0 +1,65 @@
+package com.readtimeout.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * message_log 저장 설정 (blocking, non-blocking, virtual, async-confirm 모드)
+ */
+@ConfigurationProperties(prefix = "message-log")
+public record MessageLogProperties(
+        WriteBehindConfig writeBehind
+) {
+    public MessageLogProperties {
+        if (writeBehind == null) {
+            writeBehind = new WriteBehindConfig(false, null, 0, 0, 0L, 0);
+        }
+    }
+
+    /**
+     * write-behind 저장: 요청 경로에서는 큐에 넣기만 하고, 전용 writer 스레드가 JDBC batch insert로 기록
+     *
+     * @param enabled        false면 기존처럼 메시지마다 JPA save
+     * @param durability     enqueue: 큐에 들어가면 응답 (flush 실패 시 로그만 유실) | flush: 해당 batch가 commit된 후 응답
+     * @param queueCapacity  대기 큐 크기. 가득 차면 저장을 BackpressureRejectedException으로 거부
+     * @param batchSize      writer가 한 번에 insert하는 최대 행 수
+     * @param maxDelayMicros 첫 행을 꺼낸 후 batch를 더 채우기 위해 기다리는 최대 시간 (μs)
+     * @param writers        writer 스레드 수
+     */
+    public record WriteBehindConfig(
+            boolean enabled,
+            String durability,
+            int queueCapacity,
+            int batchSize,
+            long maxDelayMicros,
+            int writers
+    ) {
+        public static final String ENQUEUE = "enqueue";
+        public static final String FLUSH = "flush";
+
+        public WriteBehindConfig {
+            if (durability == null || durability.isBlank()) {
+                durability = ENQUEUE;
+            }
+            if (!ENQUEUE.equalsIgnoreCase(durability) && !FLUSH.equalsIgnoreCase(durability)) {
+                throw new IllegalArgumentException(
+                        "Unknown message-log.write-behind.durability: " + durability + " (expected enqueue or flush)");
+            }
+            if (queueCapacity <= 0) {
+                queueCapacity = 65536;
+            }
+            if (batchSize <= 0) {
+                batchSize = 500;
+            }
+            if (maxDelayMicros <= 0) {
+                maxDelayMicros = 5000L;
+            }
+            if (writers <= 0) {
+                writers = 1;
+            }
+        }
+
+        public boolean ackAfterFlush() {
+            return FLUSH.equalsIgnoreCase(durability);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.readtimeout.infrastructure.config;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
 
 @ConfigurationProperties(prefix = "netty")
 public record NettyProperties(
@@ -9,5 +10,217 @@ public record NettyProperties(
         int workerThreads,
         int soBacklog,
         boolean keepAlive,
-        int maxContentLength
-) {}
+        int maxContentLength,
+        int idleTimeoutSeconds,
+        int maxRequestsPerConnection,
+        int maxBatchSize,
+        long requestTimeoutMs,
+        int nodeId,
+        boolean passthrough,
+        String transport,
+        EpollConfig epoll,
+        Http2Config http2,
+        StreamingConfig streaming,
+        LimiterConfig limiter,
+        PriorityConfig priority,
+        AdmissionConfig admission
+) {
+    public NettyProperties {
+        if (idleTimeoutSeconds < 0) {
+            idleTimeoutSeconds = 0;
+        }
+        if (maxRequestsPerConnection < 0) {
+            maxRequestsPerConnection = 0;
+        }
+        if (maxBatchSize <= 0) {
+            maxBatchSize = 1000;
+        }
+        if (requestTimeoutMs < 0) {
+            requestTimeoutMs = 0L;
+        }
+        if (transport == null || transport.isBlank()) {
+            transport = "auto";
+        }
+        if (epoll == null) {
+            epoll = new EpollConfig(0, false, true);
+        }
+        if (http2 == null) {
+            http2 = new Http2Config(false, 0, 0);
+        }
+        if (streaming == null) {
+            streaming = new StreamingConfig(false, 0, 0, 0);
+        }
+        if (limiter == null) {
+            limiter = new LimiterConfig(null, 0, 0, 0, 0L);
+        }
+        if (priority == null) {
+            priority = new PriorityConfig(0, 0);
+        }
+        if (admission == null) {
+            admission = new AdmissionConfig(false, 0L, 0L, 0L, 0, 0);
+        }
+    }
+
+    /**
+     * 네이티브 transport(epoll/io_uring) 전용 옵션
+     *
+     * @param tcpFastopen   TCP_FASTOPEN 대기열 길이 (0 = 비활성)
+     * @param reusePort     SO_REUSEPORT로 boss 스레드 수만큼 accept 소켓 bind
+     * @param edgeTriggered epoll edge-triggered 모드 (false = level-triggered)
+     */
+    public record EpollConfig(
+            int tcpFastopen,
+            boolean reusePort,
+            @DefaultValue("true") boolean edgeTriggered
+    ) {
+        public EpollConfig {
+            if (tcpFastopen < 0) {
+                tcpFastopen = 0;
+            }
+        }
+    }
+
+    /**
+     * h2c (HTTP/2 cleartext) 설정
+     *
+     * @param enabled              prior-knowledge 및 HTTP/1.1 Upgrade: h2c 허용 (HTTP/1.1도 계속 지원)
+     * @param maxConcurrentStreams 연결당 동시 스트림 수 (SETTINGS_MAX_CONCURRENT_STREAMS)
+     * @param initialWindowSize    스트림 초기 flow-control 윈도우 (bytes)
+     */
+    public record Http2Config(
+            boolean enabled,
+            int maxConcurrentStreams,
+            int initialWindowSize
+    ) {
+        public Http2Config {
+            if (maxConcurrentStreams <= 0) {
+                maxConcurrentStreams = 1000;
+            }
+            if (initialWindowSize <= 0) {
+                initialWindowSize = 1048576;
+            }
+        }
+    }
+
+    /**
+     * 배치 요청 스트리밍 처리 설정 (HttpObjectAggregator 우회)
+     *
+     * @param enabled       POST /api/messages/batch 본문을 청크 단위로 파싱/발행
+     * @param dispatchSize  몇 건이 모이면 발행할지 (마이크로 배치 크기)
+     * @param highWatermark 발행 중인 메시지 수가 이 값 이상이면 autoRead 중지
+     * @param lowWatermark  발행 중인 메시지 수가 이 값 이하로 내려가면 autoRead 재개
+     */
+    public record StreamingConfig(
+            boolean enabled,
+            int dispatchSize,
+            int highWatermark,
+            int lowWatermark
+    ) {
+        public StreamingConfig {
+            if (dispatchSize <= 0) {
+                dispatchSize = 256;
+            }
+            if (highWatermark <= 0) {
+                highWatermark = 4096;
+            }
+            if (lowWatermark <= 0 || lowWatermark >= highWatermark) {
+                lowWatermark = highWatermark / 4;
+            }
+        }
+    }
+
+    /**
+     * 요청 동시성 제한기 (ConcurrencyLimiter)
+     *
+     * @param algorithm      fixed | aimd | vegas | gradient2 (fixed는 maxLimit 고정)
+     * @param initialLimit   시작 한도
+     * @param minLimit       한도 하한
+     * @param maxLimit       한도 상한
+     * @param sampleWindowMs RTT 샘플 창 길이 (ms)
+     */
+    public record LimiterConfig(
+            String algorithm,
+            int initialLimit,
+            int minLimit,
+            int maxLimit,
+            long sampleWindowMs
+    ) {
+        public LimiterConfig {
+            if (algorithm == null || algorithm.isBlank()) {
+                algorithm = "vegas";
+            }
+            if (maxLimit <= 0) {
+                maxLimit = 15000;
+            }
+            if (minLimit <= 0 || minLimit > maxLimit) {
+                minLimit = Math.min(100, maxLimit);
+            }
+            if (initialLimit <= 0) {
+                initialLimit = Math.min(1000, maxLimit);
+            }
+            if (sampleWindowMs <= 0) {
+                sampleWindowMs = 100L;
+            }
+        }
+    }
+
+    /**
+     * 우선순위별 예산: 동시성 한도와 작업 큐 중 NORMAL/LOW가 점유할 수 있는 비율 (HIGH는 항상 전체)
+     *
+     * @param normalShare NORMAL 몫 (0, 1]
+     * @param lowShare    LOW 몫 (0, normalShare]
+     */
+    public record PriorityConfig(
+            double normalShare,
+            double lowShare
+    ) {
+        public PriorityConfig {
+            if (normalShare <= 0 || normalShare > 1.0) {
+                normalShare = 0.9;
+            }
+            if (lowShare <= 0 || lowShare > normalShare) {
+                lowShare = Math.min(0.5, normalShare);
+            }
+        }
+    }
+
+    /**
+     * 과부하 시 본문을 읽기 전에 발행 요청을 503 + Retry-After로 거부 (AdmissionController)
+     *
+     * 신호 중 하나라도 임계값을 넘으면 거부를 시작하고, 모든 신호가 임계값의 90% 아래로 내려가면 해제.
+     * executor 큐 사용률은 신호가 아님 (우선순위를 모르는 입구 대신 작업 큐의 우선순위별 몫이 LOW부터 거부).
+     *
+     * @param enabled                 거부 활성화 (false여도 신호 메트릭은 노출)
+     * @param evaluateIntervalMs      신호 평가 주기 (ms)
+     * @param maxEventLoopLagMs       EventLoop lag 임계값 (ms)
+     * @param maxOutstandingConfirms  broker confirm 대기 메시지 수 임계값 (async-confirm, virtual 모드)
+     * @param maxHeapUsagePercent     마지막 GC 후 old gen 사용률 임계값 (%)
+     * @param retryAfterSeconds       503 응답의 Retry-After (초)
+     */
+    public record AdmissionConfig(
+            boolean enabled,
+            long evaluateIntervalMs,
+            long maxEventLoopLagMs,
+            long maxOutstandingConfirms,
+            int maxHeapUsagePercent,
+            int retryAfterSeconds
+    ) {
+        public AdmissionConfig {
+            if (evaluateIntervalMs <= 0) {
+                evaluateIntervalMs = 50L;
+            }
+            if (maxEventLoopLagMs <= 0) {
+                maxEventLoopLagMs = 50L;
+            }
+            if (maxOutstandingConfirms <= 0) {
+                maxOutstandingConfirms = 20000L;
+            }
+            if (maxHeapUsagePercent <= 0 || maxHeapUsagePercent > 100) {
+                maxHeapUsagePercent = 90;
+            }
+            if (retryAfterSeconds <= 0) {
+                retryAfterSeconds = 1;
+            }
+        }
+    }
+}
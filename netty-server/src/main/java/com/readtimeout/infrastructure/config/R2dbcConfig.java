@@ -15,7 +15,7 @@ import org.springframework.r2dbc.connection.init.ResourceDatabasePopulator;
  */
 @Slf4j
 @Configuration
-@ConditionalOnExpression("'${server.mode}'.equals('reactive') or '${server.mode}'.equals('reactive-pool')")
+@ConditionalOnExpression("'${server.mode}'.equals('reactive') or '${server.mode}'.equals('reactive-pool') or '${server.mode}'.equals('micro-batch')")
 @EnableR2dbcRepositories(basePackages = "com.readtimeout.infrastructure.adapter.persistence")
 public class R2dbcConfig {
 
@@ -1,14 +1,20 @@
 package com.readtimeout.infrastructure.config;
 
+import com.readtimeout.core.domain.model.MessagePriority;
+import com.readtimeout.infrastructure.support.LaneThreadPoolExecutor;
+import com.readtimeout.infrastructure.support.PriorityBudget;
+import com.readtimeout.infrastructure.support.WeightedLaneQueue;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.Map;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
@@ -16,7 +22,10 @@ import java.util.concurrent.TimeUnit;
  * RabbitMQ Executor 관련 설정
  *
  * 책임:
- * - Non-blocking 모드용 ThreadPoolExecutor 생성
+ * - Non-blocking/async-confirm 모드용 ThreadPoolExecutor 생성
+ *   (async-confirm 모드에서는 검증/저장 단계에만 사용, 발행은 스레드를 점유하지 않음)
+ * - 작업 큐는 우선순위별 lane(WeightedLaneQueue): netty.priority 몫만큼 적재, rabbitmq.priority 가중치로 인출
+ *   (LaneThreadPoolExecutor: 몫을 넘긴 작업은 core 이상 스레드를 만들지 않고 거부)
  * - Graceful shutdown 처리
  */
 @Configuration
@@ -35,19 +44,34 @@ public class RabbitMQExecutorConfig {
     }
 
     @Bean(name = "rabbitExecutor")
-    @ConditionalOnProperty(name = "server.mode", havingValue = "non-blocking", matchIfMissing = true)
-    public ThreadPoolExecutor rabbitExecutor() {
+    @ConditionalOnExpression("'${server.mode:non-blocking}'.equals('non-blocking') or '${server.mode:non-blocking}'.equals('async-confirm')")
+    public ThreadPoolExecutor rabbitExecutor(NettyProperties nettyProperties, MeterRegistry meterRegistry) {
         int corePoolSize = properties.threadPool().coreSize();
         int maxPoolSize = properties.threadPool().maxSize();
         int queueCapacity = properties.threadPool().queueCapacity();
         int keepAliveSeconds = properties.threadPool().keepAliveSeconds();
 
-        this.executor = new ThreadPoolExecutor(
+        RabbitMQProperties.PriorityConfig priority = properties.priority();
+        NettyProperties.PriorityConfig shares = nettyProperties.priority();
+        WeightedLaneQueue workQueue = new WeightedLaneQueue(
+                queueCapacity,
+                new PriorityBudget(shares.normalShare(), shares.lowShare()),
+                Map.of(MessagePriority.HIGH, priority.highWeight(),
+                        MessagePriority.NORMAL, priority.normalWeight(),
+                        MessagePriority.LOW, priority.lowWeight()));
+        for (MessagePriority lane : MessagePriority.values()) {
+            Gauge.builder("executor.lane.queued", workQueue, q -> q.size(lane))
+                    .description("Tasks waiting in the rabbit executor priority lane")
+                    .tag("priority", lane.getValue())
+                    .register(meterRegistry);
+        }
+
+        this.executor = new LaneThreadPoolExecutor(
                 corePoolSize,
                 maxPoolSize,
                 keepAliveSeconds,
                 TimeUnit.SECONDS,
-                new LinkedBlockingQueue<>(queueCapacity),
+                workQueue,
                 r -> {
                     Thread thread = new Thread(r);
                     thread.setName("rabbitmq-publisher-" + thread.threadId());
@@ -58,8 +82,9 @@ public class RabbitMQExecutorConfig {
 
         this.executor.allowCoreThreadTimeOut(true);
 
-        log.info("RabbitMQ Thread Pool created: core={}, max={}, queue={}, keepAlive={}s",
-                corePoolSize, maxPoolSize, queueCapacity, keepAliveSeconds);
+        log.info("RabbitMQ Thread Pool created: core={}, max={}, queue={}, keepAlive={}s, laneWeights={}:{}:{}",
+                corePoolSize, maxPoolSize, queueCapacity, keepAliveSeconds,
+                priority.highWeight(), priority.normalWeight(), priority.lowWeight());
 
         return this.executor;
     }
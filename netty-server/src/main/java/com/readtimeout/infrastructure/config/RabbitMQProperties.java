@@ -2,6 +2,8 @@ package com.readtimeout.infrastructure.config;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.util.List;
+
 @ConfigurationProperties(prefix = "rabbitmq")
 public record RabbitMQProperties(
         String host,
@@ -15,10 +17,45 @@ public record RabbitMQProperties(
         boolean publisherConfirms,
         boolean publisherReturns,
         long confirmTimeoutMs,
+        String codec,
         ThreadPoolConfig threadPool,
         BackpressureConfig backpressure,
-        MetricsConfig metrics
+        MetricsConfig metrics,
+        MicroBatchConfig microBatch,
+        AsyncConfirmConfig asyncConfirm,
+        ConnectionPoolConfig connectionPool,
+        JournalConfig journal,
+        VirtualThreadConfig virtualThread,
+        PriorityConfig priority,
+        CompressionConfig compression
 ) {
+    public RabbitMQProperties {
+        if (codec == null || codec.isBlank()) {
+            codec = "json";
+        }
+        if (microBatch == null) {
+            microBatch = new MicroBatchConfig(0, 0);
+        }
+        if (asyncConfirm == null) {
+            asyncConfirm = new AsyncConfirmConfig(0);
+        }
+        if (connectionPool == null) {
+            connectionPool = new ConnectionPoolConfig(0, null);
+        }
+        if (journal == null) {
+            journal = new JournalConfig(false, null, 0, 0, 0L, 0);
+        }
+        if (virtualThread == null) {
+            virtualThread = new VirtualThreadConfig(0, 0L);
+        }
+        if (priority == null) {
+            priority = new PriorityConfig(0, 0, 0, 0);
+        }
+        if (compression == null) {
+            compression = new CompressionConfig(false, 0, 0, 0);
+        }
+    }
+
     public record ThreadPoolConfig(
             int coreSize,
             int maxSize,
@@ -52,4 +89,173 @@ public record RabbitMQProperties(
             }
         }
     }
+
+    /**
+     * micro-batch 모드: EventLoop별로 메시지를 모아 한 번에 발행
+     *
+     * @param maxMessages    이 수만큼 모이면 즉시 flush
+     * @param maxDelayMicros 첫 메시지 적재 후 이 시간이 지나면 flush (μs)
+     */
+    public record MicroBatchConfig(
+            int maxMessages,
+            long maxDelayMicros
+    ) {
+        public MicroBatchConfig {
+            if (maxMessages <= 0) {
+                maxMessages = 128;
+            }
+            if (maxDelayMicros <= 0) {
+                maxDelayMicros = 500L;
+            }
+        }
+    }
+
+    /**
+     * async-confirm 모드: ConfirmListener 기반 비동기 발행
+     *
+     * @param channels 라운드 로빈으로 사용할 confirm 채널 수 (기본값: CPU 코어 수)
+     */
+    public record AsyncConfirmConfig(
+            int channels
+    ) {
+        public AsyncConfirmConfig {
+            if (channels <= 0) {
+                channels = Runtime.getRuntime().availableProcessors();
+            }
+        }
+    }
+
+    /**
+     * virtual 모드: Virtual Thread에서 confirm을 기다리는 발행
+     *
+     * @param channels          confirm 채널 수 (기본값: CPU 코어 수)
+     * @param pinnedThresholdMs 이 시간 이상 carrier에 고정된 채 블로킹되면 jvm.virtual_thread.pinned에 기록 (ms)
+     */
+    public record VirtualThreadConfig(
+            int channels,
+            long pinnedThresholdMs
+    ) {
+        public VirtualThreadConfig {
+            if (channels <= 0) {
+                channels = Runtime.getRuntime().availableProcessors();
+            }
+            if (pinnedThresholdMs <= 0) {
+                pinnedThresholdMs = 20L;
+            }
+        }
+    }
+
+    /**
+     * raw amqp-client 연결 풀 (reactive, reactive-pool, micro-batch, async-confirm, virtual 모드)
+     *
+     * @param size      연결 수 (기본값: addresses 수, 없으면 1)
+     * @param addresses 연결을 고정할 노드 목록 (host:port). 비어 있으면 host:port(HAProxy) 사용
+     */
+    public record ConnectionPoolConfig(
+            int size,
+            List<String> addresses
+    ) {
+        public ConnectionPoolConfig {
+            if (addresses == null) {
+                addresses = List.of();
+            }
+            if (size <= 0) {
+                size = Math.max(1, addresses.size());
+            }
+        }
+    }
+
+    /**
+     * 로컬 write-ahead 저널 (non-blocking, virtual, async-confirm 모드)
+     *
+     * @param enabled             true면 fsync 시점에 응답하고 broker 발행은 relay가 수행
+     * @param directory           세그먼트/checkpoint 파일 디렉터리
+     * @param segmentSizeMb       세그먼트 파일 크기 (MB)
+     * @param maxSegments         relay되지 않은 세그먼트가 이 수에 도달하면 append 거부
+     * @param fsyncIntervalMicros group fsync 주기 (μs)
+     * @param relayBatchSize      relay가 한 번에 발행하는 메시지 수
+     */
+    public record JournalConfig(
+            boolean enabled,
+            String directory,
+            int segmentSizeMb,
+            int maxSegments,
+            long fsyncIntervalMicros,
+            int relayBatchSize
+    ) {
+        public JournalConfig {
+            if (directory == null || directory.isBlank()) {
+                directory = "./data/journal";
+            }
+            if (segmentSizeMb <= 0 || segmentSizeMb > 1024) {
+                segmentSizeMb = 64;
+            }
+            if (maxSegments <= 0) {
+                maxSegments = 64;
+            }
+            if (fsyncIntervalMicros <= 0) {
+                fsyncIntervalMicros = 1000L;
+            }
+            if (relayBatchSize <= 0) {
+                relayBatchSize = 256;
+            }
+        }
+    }
+
+    /**
+     * 우선순위 lane (non-blocking, async-confirm 모드의 작업 큐) 및 AMQP priority queue
+     *
+     * @param highWeight   HIGH lane 인출 가중치
+     * @param normalWeight NORMAL lane 인출 가중치
+     * @param lowWeight    LOW lane 인출 가중치
+     * @param maxPriority  큐 x-max-priority (0 = 일반 큐, 우선순위 3단계를 구분하려면 2). 기존 큐의 인자는 바꿀 수 없으므로 새 큐에만 적용
+     */
+    public record PriorityConfig(
+            int highWeight,
+            int normalWeight,
+            int lowWeight,
+            int maxPriority
+    ) {
+        public PriorityConfig {
+            if (highWeight <= 0) {
+                highWeight = 8;
+            }
+            if (normalWeight <= 0) {
+                normalWeight = 3;
+            }
+            if (lowWeight <= 0) {
+                lowWeight = 1;
+            }
+            if (maxPriority < 0 || maxPriority > 255) {
+                maxPriority = 0;
+            }
+        }
+    }
+
+    /**
+     * 본문 압축 (contentEncoding: deflate). 모든 발행 모드 공통, consumer는 contentEncoding을 보고 해제
+     *
+     * @param enabled        압축 활성화
+     * @param thresholdBytes 인코딩된 본문이 이 크기 이상일 때만 압축 (작은 본문은 압축 이득보다 CPU 비용이 큼)
+     * @param level          Deflater 압축 레벨 1(빠름) ~ 9(작음)
+     * @param poolSize       재사용할 Deflater/Inflater 수 (기본값: CPU 코어 수 × 2)
+     */
+    public record CompressionConfig(
+            boolean enabled,
+            int thresholdBytes,
+            int level,
+            int poolSize
+    ) {
+        public CompressionConfig {
+            if (thresholdBytes <= 0) {
+                thresholdBytes = 1024;
+            }
+            if (level < 1 || level > 9) {
+                level = 1;
+            }
+            if (poolSize <= 0) {
+                poolSize = Runtime.getRuntime().availableProcessors() * 2;
+            }
+        }
+    }
 }
@@ -8,12 +8,14 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.Map;
+
 /**
  * RabbitMQ Topology 관련 설정
  *
  * 책임:
  * - Exchange 생성
- * - Queue 생성
+ * - Queue 생성 (rabbitmq.priority.max-priority > 0이면 x-max-priority priority queue)
  * - Binding 설정
  */
 @Configuration
@@ -35,13 +37,19 @@ public class RabbitMQTopologyConfig {
         );
     }
 
+    /**
+     * 메시지에는 항상 AMQP priority(HIGH=2, NORMAL=1, LOW=0)를 싣고, 큐가 priority queue일 때만 broker가 반영.
+     * 이미 선언된 큐의 인자는 바꿀 수 없으므로(PRECONDITION_FAILED) 기존 큐는 삭제 후 재선언해야 함.
+     */
     @Bean
     public Queue queue() {
+        int maxPriority = properties.priority().maxPriority();
         return new Queue(
                 properties.queueName(),
                 true,  // durable
                 false, // exclusive
-                false  // autoDelete
+                false, // autoDelete
+                maxPriority > 0 ? Map.of("x-max-priority", maxPriority) : null
         );
     }
 
@@ -2,6 +2,8 @@ package com.readtimeout.infrastructure.config;
 
 import com.rabbitmq.client.Connection;
 import com.rabbitmq.client.ConnectionFactory;
+import com.readtimeout.infrastructure.support.AmqpConnectionPool;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -22,13 +24,14 @@ import reactor.rabbitmq.SenderOptions;
  * - Reactive 모드용 Sender 생성
  * - NIO 기반 비동기 연결 설정
  * - Channel Pool 설정 (reactive-pool 모드)
+ * - AMQP 연결 풀 제공 (채널 풀, reactive 모드의 EventLoop별 전용 채널이 공유)
  *
- * 적용 모드: reactive, reactive-pool
+ * 적용 모드: reactive, reactive-pool, micro-batch
  */
 @Slf4j
 @Configuration
 @EnableConfigurationProperties(RabbitMQProperties.class)
-@ConditionalOnExpression("'${server.mode}'.equals('reactive') or '${server.mode}'.equals('reactive-pool')")
+@ConditionalOnExpression("'${server.mode}'.equals('reactive') or '${server.mode}'.equals('reactive-pool') or '${server.mode}'.equals('micro-batch')")
 public class ReactiveRabbitMQConfig {
 
     private static final int CHANNEL_POOL_MAX_SIZE = 50;
@@ -39,18 +42,20 @@ public class ReactiveRabbitMQConfig {
         this.properties = properties;
     }
 
-    @Bean
-    public Sender reactiveSender() {
-        ConnectionFactory factory = new ConnectionFactory();
-        factory.setHost(properties.host());
-        factory.setPort(properties.port());
-        factory.setUsername(properties.username());
-        factory.setPassword(properties.password());
-        factory.setVirtualHost(properties.virtualHost());
-        factory.useNio();
+    /**
+     * Sender의 채널 풀과 reactive 모드의 EventLoop별 전용 채널이 공유하는 연결 풀
+     */
+    @Bean(destroyMethod = "close")
+    public AmqpConnectionPool reactiveConnectionPool(MeterRegistry meterRegistry) {
+        RabbitMQProperties.ConnectionPoolConfig pool = properties.connectionPool();
+        return AmqpConnectionPool.create(
+                connectionFactory(), pool.size(), pool.addresses(), "reactive-publisher", meterRegistry);
+    }
 
-        Mono<Connection> connectionMono = Mono.fromCallable(factory::newConnection)
-                .cache();
+    @Bean
+    public Sender reactiveSender(AmqpConnectionPool reactiveConnectionPool) {
+        // 캐시하지 않으므로 채널을 새로 만들 때마다 풀의 다음 연결이 선택됨
+        Mono<Connection> connectionMono = Mono.fromCallable(() -> reactiveConnectionPool.next().connection());
 
         ChannelPool channelPool = ChannelPoolFactory.createChannelPool(
                 connectionMono,
@@ -58,11 +63,23 @@ public class ReactiveRabbitMQConfig {
         );
 
         SenderOptions senderOptions = new SenderOptions()
-                .connectionFactory(factory)
+                .connectionMono(connectionMono)
                 .channelPool(channelPool);
 
-        log.info("ReactiveRabbitMQConfig initialized with ChannelPool (maxSize={})", CHANNEL_POOL_MAX_SIZE);
+        log.info("ReactiveRabbitMQConfig initialized with ChannelPool (maxSize={}, connections={})",
+                CHANNEL_POOL_MAX_SIZE, reactiveConnectionPool.size());
 
         return RabbitFlux.createSender(senderOptions);
     }
+
+    private ConnectionFactory connectionFactory() {
+        ConnectionFactory factory = new ConnectionFactory();
+        factory.setHost(properties.host());
+        factory.setPort(properties.port());
+        factory.setUsername(properties.username());
+        factory.setPassword(properties.password());
+        factory.setVirtualHost(properties.virtualHost());
+        factory.useNio();
+        return factory;
+    }
 }
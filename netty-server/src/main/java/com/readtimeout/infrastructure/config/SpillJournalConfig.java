@@ -0,0 +1,54 @@
+package com.readtimeout.infrastructure.config;
+
+import com.readtimeout.core.domain.port.outbound.AsyncMessagePublisher;
+import com.readtimeout.infrastructure.adapter.journal.JournalRelay;
+import com.readtimeout.infrastructure.adapter.journal.SpillJournal;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Spill Journal 설정
+ *
+ * 책임:
+ * - SpillJournal(로컬 write-ahead 저널) 생성/종료
+ * - 모드의 AsyncMessagePublisher로 저널을 비우는 JournalRelay 시작/종료
+ *   (relay가 저널보다 먼저 종료되도록 relay가 저널 빈에 의존)
+ *
+ * 적용 모드: non-blocking, virtual, async-confirm (rabbitmq.journal.enabled=true일 때)
+ */
+@Configuration
+@EnableConfigurationProperties(RabbitMQProperties.class)
+@ConditionalOnExpression("${rabbitmq.journal.enabled:false} and ('${server.mode:non-blocking}'.equals('non-blocking') or '${server.mode:non-blocking}'.equals('virtual') or '${server.mode:non-blocking}'.equals('async-confirm'))")
+public class SpillJournalConfig {
+
+    private final RabbitMQProperties.JournalConfig journalConfig;
+
+    public SpillJournalConfig(RabbitMQProperties properties) {
+        this.journalConfig = properties.journal();
+    }
+
+    @Bean(destroyMethod = "close")
+    public SpillJournal spillJournal(MeterRegistry meterRegistry) throws IOException {
+        return SpillJournal.open(
+                Path.of(journalConfig.directory()),
+                journalConfig.segmentSizeMb() << 20,
+                journalConfig.maxSegments(),
+                journalConfig.fsyncIntervalMicros(),
+                TimeUnit.MICROSECONDS,
+                meterRegistry);
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    public JournalRelay journalRelay(SpillJournal spillJournal,
+                                     AsyncMessagePublisher messagePublisher,
+                                     MeterRegistry meterRegistry) {
+        return new JournalRelay(spillJournal, messagePublisher, journalConfig.relayBatchSize(), meterRegistry);
+    }
+}
@@ -3,53 +3,104 @@ package com.readtimeout.infrastructure.config;
 import com.readtimeout.core.application.service.AsyncMessageSendService;
 import com.readtimeout.core.application.service.BlockingMessageSendService;
 import com.readtimeout.core.application.service.ReactiveMessageSendService;
+import com.readtimeout.core.application.service.TimeOrderedIdGenerator;
 import com.readtimeout.core.domain.port.inbound.AsyncMessageSendUseCase;
 import com.readtimeout.core.domain.port.inbound.MessageSendUseCase;
 import com.readtimeout.core.domain.port.inbound.ReactiveMessageSendUseCase;
 import com.readtimeout.core.domain.port.outbound.*;
+import com.readtimeout.infrastructure.adapter.journal.JournalingMessagePublisher;
+import com.readtimeout.infrastructure.adapter.journal.SpillJournal;
 import com.readtimeout.infrastructure.support.ConcurrencyLimiter;
+import com.readtimeout.infrastructure.support.LimitAlgorithm;
+import com.readtimeout.infrastructure.support.PriorityBudget;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+import java.util.Optional;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ThreadPoolExecutor;
 
 @Configuration
 public class UseCaseConfig {
 
-    private static final int MAX_CONCURRENT_REQUESTS = 15000;
+    private final NettyProperties.LimiterConfig limiterConfig;
+    private final PriorityBudget priorityBudget;
+    private final int nodeId;
+
+    public UseCaseConfig(NettyProperties nettyProperties) {
+        this.limiterConfig = nettyProperties.limiter();
+        this.nodeId = nettyProperties.nodeId();
+        this.priorityBudget = new PriorityBudget(
+                nettyProperties.priority().normalShare(), nettyProperties.priority().lowShare());
+    }
+
+    // ============ MessageIdGenerator Bean ============
+
+    @Bean
+    public MessageIdGenerator messageIdGenerator() {
+        return new TimeOrderedIdGenerator(nodeId);
+    }
 
     // ============ ConcurrencyLimiter Beans ============
 
     @Bean
     @ConditionalOnProperty(name = "server.mode", havingValue = "non-blocking", matchIfMissing = true)
     public ConcurrencyLimiter asyncConcurrencyLimiter(MeterRegistry meterRegistry) {
-        return createLimiter("async_available_permits", meterRegistry);
+        return createLimiter("async_available_permits", "non-blocking", meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "server.mode", havingValue = "async-confirm")
+    public ConcurrencyLimiter asyncConfirmConcurrencyLimiter(MeterRegistry meterRegistry) {
+        return createLimiter("async_confirm_available_permits", "async-confirm", meterRegistry);
     }
 
     @Bean
     @ConditionalOnProperty(name = "server.mode", havingValue = "virtual")
     public ConcurrencyLimiter virtualConcurrencyLimiter(MeterRegistry meterRegistry) {
-        return createLimiter("virtual_available_permits", meterRegistry);
+        return createLimiter("virtual_available_permits", "virtual", meterRegistry);
     }
 
     @Bean
     @ConditionalOnProperty(name = "server.mode", havingValue = "reactive")
     public ConcurrencyLimiter reactiveConcurrencyLimiter(MeterRegistry meterRegistry) {
-        return createLimiter("reactive_available_permits", meterRegistry);
+        return createLimiter("reactive_available_permits", "reactive", meterRegistry);
     }
 
     @Bean
     @ConditionalOnProperty(name = "server.mode", havingValue = "reactive-pool")
     public ConcurrencyLimiter reactivePoolConcurrencyLimiter(MeterRegistry meterRegistry) {
-        return createLimiter("reactive_pool_available_permits", meterRegistry);
+        return createLimiter("reactive_pool_available_permits", "reactive-pool", meterRegistry);
     }
 
-    private ConcurrencyLimiter createLimiter(String metricName, MeterRegistry meterRegistry) {
-        ConcurrencyLimiter limiter = new ConcurrencyLimiter(MAX_CONCURRENT_REQUESTS);
+    @Bean
+    @ConditionalOnProperty(name = "server.mode", havingValue = "micro-batch")
+    public ConcurrencyLimiter microBatchConcurrencyLimiter(MeterRegistry meterRegistry) {
+        return createLimiter("micro_batch_available_permits", "micro-batch", meterRegistry);
+    }
+
+    private ConcurrencyLimiter createLimiter(String metricName, String mode, MeterRegistry meterRegistry) {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(
+                LimitAlgorithm.of(limiterConfig.algorithm()),
+                limiterConfig.initialLimit(),
+                limiterConfig.minLimit(),
+                limiterConfig.maxLimit(),
+                Duration.ofMillis(limiterConfig.sampleWindowMs()),
+                priorityBudget);
         meterRegistry.gauge(metricName, limiter, ConcurrencyLimiter::availablePermits);
+        Gauge.builder("concurrency.limit", limiter, ConcurrencyLimiter::getLimit)
+                .description("Current adaptive concurrency limit")
+                .tag("mode", mode)
+                .tag("algorithm", limiterConfig.algorithm())
+                .register(meterRegistry);
+        Gauge.builder("concurrency.inflight", limiter, ConcurrencyLimiter::getInFlight)
+                .description("Requests currently holding a concurrency permit")
+                .tag("mode", mode)
+                .register(meterRegistry);
         return limiter;
     }
 
@@ -70,8 +121,22 @@ public class UseCaseConfig {
             ExternalApiPort externalApiPort,
             MessageLogPort messageLogPort,
             AsyncMessagePublisher messagePublisher,
+            Optional<SpillJournal> spillJournal,
+            ThreadPoolExecutor rabbitExecutor) {
+        return new AsyncMessageSendService(
+                externalApiPort, messageLogPort, journaled(messagePublisher, spillJournal), rabbitExecutor);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "server.mode", havingValue = "async-confirm")
+    public AsyncMessageSendUseCase asyncConfirmMessageSendUseCase(
+            ExternalApiPort externalApiPort,
+            MessageLogPort messageLogPort,
+            AsyncMessagePublisher messagePublisher,
+            Optional<SpillJournal> spillJournal,
             ThreadPoolExecutor rabbitExecutor) {
-        return new AsyncMessageSendService(externalApiPort, messageLogPort, messagePublisher, rabbitExecutor);
+        return new AsyncMessageSendService(
+                externalApiPort, messageLogPort, journaled(messagePublisher, spillJournal), rabbitExecutor);
     }
 
     @Bean
@@ -80,8 +145,18 @@ public class UseCaseConfig {
             ExternalApiPort externalApiPort,
             MessageLogPort messageLogPort,
             AsyncMessagePublisher messagePublisher,
+            Optional<SpillJournal> spillJournal,
             Executor virtualThreadExecutor) {
-        return new AsyncMessageSendService(externalApiPort, messageLogPort, messagePublisher, virtualThreadExecutor);
+        return new AsyncMessageSendService(
+                externalApiPort, messageLogPort, journaled(messagePublisher, spillJournal), virtualThreadExecutor);
+    }
+
+    /**
+     * rabbitmq.journal.enabled면 저널 기록을 발행 완료로 보고, broker 발행은 JournalRelay에 맡김
+     */
+    private AsyncMessagePublisher journaled(AsyncMessagePublisher messagePublisher,
+                                            Optional<SpillJournal> spillJournal) {
+        return spillJournal.<AsyncMessagePublisher>map(JournalingMessagePublisher::new).orElse(messagePublisher);
     }
 
     @Bean
@@ -101,4 +176,13 @@ public class UseCaseConfig {
             ReactiveMessagePublisher messagePublisher) {
         return new ReactiveMessageSendService(externalApiPort, messageLogPort, messagePublisher);
     }
+
+    @Bean
+    @ConditionalOnProperty(name = "server.mode", havingValue = "micro-batch")
+    public ReactiveMessageSendUseCase microBatchMessageSendUseCase(
+            ReactiveExternalApiPort externalApiPort,
+            ReactiveMessageLogPort messageLogPort,
+            ReactiveMessagePublisher messagePublisher) {
+        return new ReactiveMessageSendService(externalApiPort, messageLogPort, messagePublisher);
+    }
 }
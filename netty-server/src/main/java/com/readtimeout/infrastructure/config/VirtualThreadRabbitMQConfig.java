@@ -0,0 +1,63 @@
+package com.readtimeout.infrastructure.config;
+
+import com.rabbitmq.client.ConnectionFactory;
+import com.readtimeout.infrastructure.support.AmqpConnectionPool;
+import com.readtimeout.infrastructure.support.VirtualThreadPinningMonitor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * virtual 모드 RabbitMQ 설정
+ *
+ * 책임:
+ * - 요청마다 Virtual Thread 하나를 쓰는 Executor 생성 (UseCase와 Publisher 공용)
+ * - Publisher용 amqp-client Connection 풀 생성 (RabbitTemplate의 synchronized 경로를 거치지 않음)
+ * - JFR 기반 carrier 고정(pinning) 감시 시작
+ *
+ * 적용 모드: virtual
+ */
+@Configuration
+@EnableConfigurationProperties(RabbitMQProperties.class)
+@ConditionalOnProperty(name = "server.mode", havingValue = "virtual")
+public class VirtualThreadRabbitMQConfig {
+
+    private final RabbitMQProperties properties;
+
+    public VirtualThreadRabbitMQConfig(RabbitMQProperties properties) {
+        this.properties = properties;
+    }
+
+    @Bean(destroyMethod = "close")
+    public ExecutorService virtualThreadExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("vt-publish-", 0).factory());
+    }
+
+    @Bean(destroyMethod = "close")
+    public AmqpConnectionPool virtualConnectionPool(MeterRegistry meterRegistry) {
+        ConnectionFactory factory = new ConnectionFactory();
+        factory.setHost(properties.host());
+        factory.setPort(properties.port());
+        factory.setUsername(properties.username());
+        factory.setPassword(properties.password());
+        factory.setVirtualHost(properties.virtualHost());
+        factory.setAutomaticRecoveryEnabled(false);
+        factory.useNio();
+
+        RabbitMQProperties.ConnectionPoolConfig pool = properties.connectionPool();
+        return AmqpConnectionPool.create(
+                factory, pool.size(), pool.addresses(), "virtual-publisher", meterRegistry);
+    }
+
+    @Bean(destroyMethod = "close")
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(MeterRegistry meterRegistry) {
+        return VirtualThreadPinningMonitor.start(
+                Duration.ofMillis(properties.virtualThread().pinnedThresholdMs()), meterRegistry);
+    }
+}
@@ -1,5 +1,6 @@
 package com.readtimeout.infrastructure.metrics;
 
+import com.readtimeout.infrastructure.support.NettyTransport;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.binder.jvm.JvmMemoryMetrics;
 import io.micrometer.core.instrument.binder.jvm.JvmThreadMetrics;
@@ -9,11 +10,10 @@ import io.micrometer.prometheus.PrometheusMeterRegistry;
 import io.netty.bootstrap.ServerBootstrap;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.*;
-import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.SocketChannel;
-import io.netty.channel.socket.nio.NioServerSocketChannel;
 import io.netty.handler.codec.http.*;
 import io.netty.util.CharsetUtil;
+import io.netty.util.concurrent.DefaultThreadFactory;
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
@@ -35,6 +35,9 @@ public class PrometheusMetricsCollector {
     @Value("${server.mode:unknown}")
     private String serverMode;
 
+    @Value("${netty.transport:auto}")
+    private String transportName;
+
     private EventLoopGroup bossGroup;
     private EventLoopGroup workerGroup;
     private Channel serverChannel;
@@ -60,12 +63,13 @@ public class PrometheusMetricsCollector {
 
         new Thread(() -> {
             try {
-                bossGroup = new NioEventLoopGroup(1);
-                workerGroup = new NioEventLoopGroup(2);
+                NettyTransport transport = NettyTransport.resolve(transportName);
+                bossGroup = transport.newEventLoopGroup(1, new DefaultThreadFactory("prometheus-boss"));
+                workerGroup = transport.newEventLoopGroup(2, new DefaultThreadFactory("prometheus-worker"));
 
                 ServerBootstrap bootstrap = new ServerBootstrap();
                 bootstrap.group(bossGroup, workerGroup)
-                        .channel(NioServerSocketChannel.class)
+                        .channel(transport.serverChannelClass())
                         .childHandler(new ChannelInitializer<SocketChannel>() {
                             @Override
                             protected void initChannel(SocketChannel ch) {
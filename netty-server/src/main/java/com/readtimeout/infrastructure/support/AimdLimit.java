@@ -0,0 +1,26 @@
+package com.readtimeout.infrastructure.support;
+
+/**
+ * AIMD (Additive Increase, Multiplicative Decrease)
+ *
+ * - 실패가 있던 창: 한도 × BACKOFF_RATIO
+ * - 한도의 절반 이상을 실제로 사용한 창: 한도 + 1
+ * - 그 외(한도까지 쓰지 않음): 유지
+ *
+ * RTT를 보지 않고 실패 신호(confirm 타임아웃, nack, 하위 거부)에만 반응함.
+ */
+final class AimdLimit implements LimitAlgorithm {
+
+    private static final double BACKOFF_RATIO = 0.9;
+
+    @Override
+    public double update(double limit, Sample sample) {
+        if (sample.dropped()) {
+            return limit * BACKOFF_RATIO;
+        }
+        if (sample.maxInFlight() * 2 >= limit) {
+            return limit + 1;
+        }
+        return limit;
+    }
+}
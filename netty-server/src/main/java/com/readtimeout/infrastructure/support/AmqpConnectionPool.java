@@ -0,0 +1,196 @@
+package com.readtimeout.infrastructure.support;
+
+import com.rabbitmq.client.Address;
+import com.rabbitmq.client.Connection;
+import com.rabbitmq.client.ConnectionFactory;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * AMQP Connection 풀 (raw amqp-client)
+ *
+ * Connection 하나 = 소켓 하나 + frame writer 락 하나 + broker의 connection 프로세스 하나이므로,
+ * 단일 연결로는 broker 코어 하나 이상으로 확장되지 않음.
+ * - size개의 Connection을 유지하고, addresses가 있으면 i번째 연결을 addresses[i % n] 노드에 고정
+ *   (없으면 host:port, 즉 HAProxy를 통해 라운드 로빈으로 분산)
+ * - 연결은 처음 사용할 때 열고, 닫혀 있으면 다음 사용 시 다시 엶
+ * - 연결별 메트릭: rabbitmq.connection.published / rabbitmq.connection.confirm.latency /
+ *   rabbitmq.connection.outstanding (tag: connection=인덱스, node=주소)
+ */
+@Slf4j
+public final class AmqpConnectionPool implements AutoCloseable {
+
+    private final List<Member> members;
+    private final AtomicInteger next = new AtomicInteger();
+
+    private AmqpConnectionPool(List<Member> members) {
+        this.members = members;
+    }
+
+    /**
+     * @param addresses 노드 주소 목록 (host:port). 비어 있으면 factory의 host:port 사용
+     */
+    public static AmqpConnectionPool create(ConnectionFactory factory, int size, List<String> addresses,
+                                            String name, MeterRegistry meterRegistry) {
+        List<Address> nodes = addresses.stream().map(Address::parseAddress).toList();
+        List<Member> members = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Address node = nodes.isEmpty()
+                    ? new Address(factory.getHost(), factory.getPort())
+                    : nodes.get(i % nodes.size());
+            members.add(new Member(factory, node, name + "-" + i, i, meterRegistry));
+        }
+
+        log.info("AmqpConnectionPool created (name={}, size={}, nodes={})",
+                name, size, nodes.isEmpty() ? factory.getHost() + ":" + factory.getPort() : addresses);
+        return new AmqpConnectionPool(List.copyOf(members));
+    }
+
+    public int size() {
+        return members.size();
+    }
+
+    public Member member(int index) {
+        return members.get(index);
+    }
+
+    /**
+     * 라운드 로빈으로 다음 연결 선택
+     */
+    public Member next() {
+        return members.get(Math.floorMod(next.getAndIncrement(), members.size()));
+    }
+
+    @Override
+    public void close() {
+        for (Member member : members) {
+            member.close();
+        }
+    }
+
+    /**
+     * 풀의 연결 하나와 해당 연결의 발행 메트릭
+     *
+     * onPublish 이후 onConfirm/onAbandon 중 하나가 정확히 한 번 호출되어야 outstanding이 맞음.
+     */
+    public static final class Member {
+
+        private final ConnectionFactory factory;
+        private final Address node;
+        private final String connectionName;
+        private final int index;
+
+        private final Counter publishedCounter;
+        private final Timer confirmLatency;
+        private final AtomicInteger outstanding = new AtomicInteger();
+        // 연결 중 블로킹되므로 synchronized 대신 사용 (Virtual Thread가 carrier에 고정되지 않음)
+        private final ReentrantLock connectLock = new ReentrantLock();
+
+        private volatile Connection connection;
+
+        private Member(ConnectionFactory factory, Address node, String connectionName, int index,
+                       MeterRegistry meterRegistry) {
+            this.factory = factory;
+            this.node = node;
+            this.connectionName = connectionName;
+            this.index = index;
+
+            String connectionTag = Integer.toString(index);
+            String nodeTag = node.toString();
+            this.publishedCounter = Counter.builder("rabbitmq.connection.published")
+                    .description("Messages published on this AMQP connection")
+                    .tag("connection", connectionTag)
+                    .tag("node", nodeTag)
+                    .register(meterRegistry);
+            this.confirmLatency = Timer.builder("rabbitmq.connection.confirm.latency")
+                    .description("Publish to broker confirm latency on this AMQP connection")
+                    .tag("connection", connectionTag)
+                    .tag("node", nodeTag)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+            Gauge.builder("rabbitmq.connection.outstanding", outstanding, AtomicInteger::get)
+                    .description("Unconfirmed publishes on this AMQP connection")
+                    .tag("connection", connectionTag)
+                    .tag("node", nodeTag)
+                    .register(meterRegistry);
+        }
+
+        public int index() {
+            return index;
+        }
+
+        /**
+         * 열린 연결 반환 (없거나 닫혀 있으면 새로 엶)
+         */
+        public Connection connection() throws IOException {
+            Connection current = connection;
+            if (current != null && current.isOpen()) {
+                return current;
+            }
+            connectLock.lock();
+            try {
+                current = connection;
+                if (current != null && current.isOpen()) {
+                    return current;
+                }
+                try {
+                    current = factory.newConnection(List.of(node), connectionName);
+                } catch (TimeoutException e) {
+                    throw new IOException("Timed out connecting to " + node, e);
+                }
+                connection = current;
+                log.info("AMQP connection opened (name={}, node={})", connectionName, node);
+                return current;
+            } finally {
+                connectLock.unlock();
+            }
+        }
+
+        public void onPublish() {
+            publishedCounter.increment();
+            outstanding.incrementAndGet();
+        }
+
+        /**
+         * broker 응답(ack/nack) 수신
+         */
+        public void onConfirm(long publishedAt) {
+            outstanding.decrementAndGet();
+            confirmLatency.record(System.nanoTime() - publishedAt, TimeUnit.NANOSECONDS);
+        }
+
+        /**
+         * 응답 없이 종료 (타임아웃, 채널 종료)
+         */
+        public void onAbandon() {
+            outstanding.decrementAndGet();
+        }
+
+        public int outstanding() {
+            return outstanding.get();
+        }
+
+        private void close() {
+            Connection current = connection;
+            if (current == null || !current.isOpen()) {
+                return;
+            }
+            try {
+                current.close();
+            } catch (IOException e) {
+                log.debug("Failed to close AMQP connection {}: {}", connectionName, e.getMessage());
+            }
+        }
+    }
+}
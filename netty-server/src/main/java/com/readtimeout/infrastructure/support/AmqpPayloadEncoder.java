@@ -0,0 +1,209 @@
+package com.readtimeout.infrastructure.support;
+
+import com.readtimeout.core.domain.model.SendMessage;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+/**
+ * AMQP 메시지 본문(JSON) 인코더
+ *
+ * <pre>
+ * {"id":"...","content":"...","createdAt":"2025-01-01T00:00:00.123Z"}
+ * </pre>
+ *
+ * 중간 DTO/ObjectMapper 없이 스레드별로 재사용하는 버퍼에 바로 UTF-8로 기록하고, 결과 크기만큼만 복사해 반환.
+ * - 문자열 escape는 기록하면서 처리 (", \, 제어 문자, 짝이 맞지 않는 surrogate는 \\uXXXX)
+ * - createdAt은 Instant.toString()과 같은 형식. 초 단위 앞부분("yyyy-MM-ddTHH:mm:ss")은 스레드별로 캐시
+ * - Virtual Thread는 스레드마다 버퍼를 남기면 오히려 할당이 늘어나므로 호출마다 새 버퍼 사용
+ * - 큰 메시지로 버퍼가 커지면 사용 후 기본 크기로 되돌림 (스레드마다 큰 버퍼를 붙잡지 않도록)
+ */
+public final class AmqpPayloadEncoder {
+
+    private static final int INITIAL_CAPACITY = 512;
+    private static final int MAX_RETAINED_CAPACITY = 64 * 1024;
+
+    private static final byte[] ID_FIELD = "{\"id\":\"".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] CONTENT_FIELD = "\",\"content\":\"".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] CREATED_AT_FIELD = "\",\"createdAt\":\"".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    private static final ThreadLocal<AmqpPayloadEncoder> ENCODER = ThreadLocal.withInitial(AmqpPayloadEncoder::new);
+
+    private byte[] buffer = new byte[INITIAL_CAPACITY];
+    private int length;
+
+    // 마지막으로 기록한 초와 그 "yyyy-MM-ddTHH:mm:ss" 표현
+    private long cachedSecond = Long.MIN_VALUE;
+    private final byte[] cachedSecondText = new byte[19];
+
+    private AmqpPayloadEncoder() {
+    }
+
+    public static byte[] encode(SendMessage sendMessage) {
+        AmqpPayloadEncoder encoder = Thread.currentThread().isVirtual() ? new AmqpPayloadEncoder() : ENCODER.get();
+        return encoder.write(sendMessage);
+    }
+
+    private byte[] write(SendMessage sendMessage) {
+        length = 0;
+        try {
+            writeRaw(ID_FIELD);
+            writeEscaped(sendMessage.getId());
+            writeRaw(CONTENT_FIELD);
+            writeEscaped(sendMessage.getContent());
+            writeRaw(CREATED_AT_FIELD);
+            writeTimestamp(sendMessage.getCreatedAt());
+            ensureCapacity(2);
+            buffer[length++] = '"';
+            buffer[length++] = '}';
+            return Arrays.copyOf(buffer, length);
+        } finally {
+            if (buffer.length > MAX_RETAINED_CAPACITY) {
+                buffer = new byte[INITIAL_CAPACITY];
+            }
+        }
+    }
+
+    private void writeRaw(byte[] bytes) {
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, length, bytes.length);
+        length += bytes.length;
+    }
+
+    private void writeEscaped(String value) {
+        int n = value.length();
+        // ASCII 위주라고 보고 한 번에 확보, 부족하면 문자 단위로 확장
+        ensureCapacity(n);
+        for (int i = 0; i < n; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                if (c >= 0x20 && c != '"' && c != '\\') {
+                    if (length == buffer.length) {
+                        ensureCapacity(n - i);
+                    }
+                    buffer[length++] = (byte) c;
+                } else {
+                    writeEscapedAscii(c);
+                }
+            } else if (c < 0x800) {
+                ensureCapacity(2);
+                buffer[length++] = (byte) (0xC0 | (c >> 6));
+                buffer[length++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < n && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                ensureCapacity(4);
+                buffer[length++] = (byte) (0xF0 | (codePoint >> 18));
+                buffer[length++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                buffer[length++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                buffer[length++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                writeUnicodeEscape(c);
+            } else {
+                ensureCapacity(3);
+                buffer[length++] = (byte) (0xE0 | (c >> 12));
+                buffer[length++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                buffer[length++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+    }
+
+    private void writeEscapedAscii(char c) {
+        char escaped = switch (c) {
+            case '"' -> '"';
+            case '\\' -> '\\';
+            case '\b' -> 'b';
+            case '\f' -> 'f';
+            case '\n' -> 'n';
+            case '\r' -> 'r';
+            case '\t' -> 't';
+            default -> 0;
+        };
+        if (escaped == 0) {
+            writeUnicodeEscape(c);
+            return;
+        }
+        ensureCapacity(2);
+        buffer[length++] = '\\';
+        buffer[length++] = (byte) escaped;
+    }
+
+    private void writeUnicodeEscape(char c) {
+        ensureCapacity(6);
+        buffer[length++] = '\\';
+        buffer[length++] = 'u';
+        buffer[length++] = HEX[(c >> 12) & 0xF];
+        buffer[length++] = HEX[(c >> 8) & 0xF];
+        buffer[length++] = HEX[(c >> 4) & 0xF];
+        buffer[length++] = HEX[c & 0xF];
+    }
+
+    /**
+     * Instant.toString()과 같은 형식 (소수 초는 0, 3, 6, 9자리 중 값을 잃지 않는 가장 짧은 길이)
+     */
+    private void writeTimestamp(Instant instant) {
+        long second = instant.getEpochSecond();
+        if (second != cachedSecond) {
+            LocalDateTime dateTime = LocalDateTime.ofEpochSecond(second, 0, ZoneOffset.UTC);
+            if (dateTime.getYear() < 0 || dateTime.getYear() > 9999) {
+                // 4자리 연도 밖은 부호/자릿수 규칙이 달라 기본 구현 사용
+                writeRaw(instant.toString().getBytes(StandardCharsets.US_ASCII));
+                return;
+            }
+            formatSecond(dateTime);
+            cachedSecond = second;
+        }
+        writeRaw(cachedSecondText);
+
+        int nano = instant.getNano();
+        ensureCapacity(11);
+        if (nano != 0) {
+            buffer[length++] = '.';
+            if (nano % 1_000_000 == 0) {
+                writeDigits(nano / 1_000_000, 3);
+            } else if (nano % 1_000 == 0) {
+                writeDigits(nano / 1_000, 6);
+            } else {
+                writeDigits(nano, 9);
+            }
+        }
+        buffer[length++] = 'Z';
+    }
+
+    private void formatSecond(LocalDateTime dateTime) {
+        byte[] text = cachedSecondText;
+        putDigits(text, 0, dateTime.getYear(), 4);
+        text[4] = '-';
+        putDigits(text, 5, dateTime.getMonthValue(), 2);
+        text[7] = '-';
+        putDigits(text, 8, dateTime.getDayOfMonth(), 2);
+        text[10] = 'T';
+        putDigits(text, 11, dateTime.getHour(), 2);
+        text[13] = ':';
+        putDigits(text, 14, dateTime.getMinute(), 2);
+        text[16] = ':';
+        putDigits(text, 17, dateTime.getSecond(), 2);
+    }
+
+    private void writeDigits(int value, int digits) {
+        putDigits(buffer, length, value, digits);
+        length += digits;
+    }
+
+    private static void putDigits(byte[] target, int offset, int value, int digits) {
+        for (int i = offset + digits - 1; i >= offset; i--) {
+            target[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+
+    private void ensureCapacity(int extra) {
+        int required = length + extra;
+        if (required > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(required, buffer.length << 1));
+        }
+    }
+}
@@ -42,4 +42,16 @@ public class BlockingMetrics {
             log.warn("High publish latency detected [id={}]: {}ms", messageId, latencyMs);
         }
     }
+
+    public void recordBatchLatency(int size, long startTime) {
+        long latencyNanos = System.nanoTime() - startTime;
+        for (int i = 0; i < size; i++) {
+            publishTimer.record(latencyNanos, TimeUnit.NANOSECONDS);
+        }
+
+        long latencyMs = latencyNanos / NANOS_PER_MILLI;
+        if (latencyMs > HIGH_LATENCY_THRESHOLD_MS) {
+            log.warn("High batch publish latency detected [size={}]: {}ms", size, latencyMs);
+        }
+    }
 }
@@ -1,32 +1,201 @@
 package com.readtimeout.infrastructure.support;
 
 import com.readtimeout.core.domain.exception.BackpressureRejectedException;
-import lombok.Getter;
+import com.readtimeout.core.domain.exception.DeadlineExceededException;
+import com.readtimeout.core.domain.exception.ValidationException;
+import com.readtimeout.core.domain.model.MessagePriority;
 
-import java.util.concurrent.Semaphore;
+import java.time.Duration;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
+/**
+ * 적응형 동시성 제한기
+ *
+ * 고정 한도(Semaphore) 대신 요청의 RTT(acquire → release, 즉 발행 + confirm 시간)와 실패를 관측해 한도를 조정.
+ * - 허용 수는 락 없는 카운터(inFlight CAS)로 관리
+ * - release 시 RTT를 샘플 창에 누적하고, 창이 끝나면(sampleWindow 경과 + 최소 샘플 수) 한 스레드만 LimitAlgorithm 호출
+ * - 검증 오류, 로컬/호출자 원인의 실패(deadline 초과·연결 끊김, 내부 큐 거부, executor lane 거부)는
+ *   broker 지연과 무관하므로 샘플에서 제외 (drop으로 세면 모든 우선순위가 공유하는 한도가 줄어듦)
+ *
+ * 한도는 [minLimit, maxLimit] 범위에서만 움직임.
+ *
+ * 우선순위별 예산(PriorityBudget): 한도 중 NORMAL/LOW가 점유할 수 있는 몫을 제한해
+ * 과부하 시 LOW부터 거부하고 남은 한도는 HIGH(OTP 등)가 사용.
+ */
 public class ConcurrencyLimiter {
 
-    private final Semaphore semaphore;
-    @Getter
-    private final int maxPermits;
+    private static final int MIN_WINDOW_SAMPLES = 10;
 
-    public ConcurrencyLimiter(int maxPermits) {
-        this.maxPermits = maxPermits;
-        this.semaphore = new Semaphore(maxPermits);
+    private final LimitAlgorithm algorithm;
+    private final PriorityBudget budget;
+    private final int minLimit;
+    private final int maxLimit;
+    private final long sampleWindowNanos;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile int limit;
+
+    // 샘플 창
+    private final LongAdder rttSum = new LongAdder();
+    private final LongAdder samples = new LongAdder();
+    private final AtomicLong minRtt = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private volatile boolean dropped;
+
+    // updating을 획득한 스레드만 접근
+    private final AtomicBoolean updating = new AtomicBoolean();
+    private long windowStart;
+    private double exactLimit;
+
+    public ConcurrencyLimiter(LimitAlgorithm algorithm, int initialLimit, int minLimit, int maxLimit,
+                              Duration sampleWindow, PriorityBudget budget) {
+        this.algorithm = algorithm;
+        this.budget = budget;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.sampleWindowNanos = sampleWindow.toNanos();
+        this.exactLimit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        this.limit = (int) exactLimit;
+        this.windowStart = System.nanoTime();
     }
 
-    public void acquire() {
-        if (!semaphore.tryAcquire()) {
-            throw new BackpressureRejectedException("Concurrency limit reached: " + maxPermits);
+    /**
+     * @return RTT 측정용 시작 시각 (release에 전달)
+     */
+    public long acquire() {
+        return acquire(1, MessagePriority.NORMAL);
+    }
+
+    /**
+     * @return RTT 측정용 시작 시각 (release에 전달)
+     */
+    public long acquire(MessagePriority priority) {
+        return acquire(1, priority);
+    }
+
+    /**
+     * 배치 요청용: 메시지 수만큼 한 번에 획득 (일부만 획득하지 않음)
+     *
+     * 한도가 배치 크기보다 작아져도 처리 중인 요청이 없으면 허용 (큰 배치가 영원히 거부되지 않도록).
+     *
+     * @return RTT 측정용 시작 시각 (release에 전달)
+     */
+    public long acquire(int permits) {
+        return acquire(permits, MessagePriority.NORMAL);
+    }
+
+    /**
+     * @param priority 처리 중 요청 수가 이 우선순위의 예산(한도 × share)을 넘으면 거부
+     * @return RTT 측정용 시작 시각 (release에 전달)
+     */
+    public long acquire(int permits, MessagePriority priority) {
+        while (true) {
+            int current = inFlight.get();
+            int next = current + permits;
+            int currentLimit = budget.limit(limit, priority);
+            if (next > currentLimit && current > 0) {
+                throw new BackpressureRejectedException(
+                        "Concurrency limit reached: " + currentLimit + " (priority=" + priority + ")");
+            }
+            if (inFlight.compareAndSet(current, next)) {
+                maxInFlight.accumulateAndGet(next, Math::max);
+                return System.nanoTime();
+            }
+        }
+    }
+
+    /**
+     * 요청 완료
+     *
+     * @param startTime acquire 반환값
+     * @param error     실패 원인 (성공 시 null)
+     */
+    public void release(long startTime, Throwable error) {
+        release(1, startTime, error);
+    }
+
+    public void release(int permits, long startTime, Throwable error) {
+        inFlight.addAndGet(-permits);
+
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (isLocalFailure(cause)) {
+            return;
         }
+        sample(System.nanoTime() - startTime, cause != null);
+    }
+
+    private static boolean isLocalFailure(Throwable cause) {
+        return cause instanceof ValidationException
+                || cause instanceof DeadlineExceededException
+                || cause instanceof BackpressureRejectedException
+                || cause instanceof RejectedExecutionException;
     }
 
+    /**
+     * 샘플 없이 반환 (취소 등 RTT를 알 수 없는 경우)
+     */
     public void release() {
-        semaphore.release();
+        inFlight.decrementAndGet();
+    }
+
+    public void release(int permits) {
+        inFlight.addAndGet(-permits);
     }
 
     public int availablePermits() {
-        return semaphore.availablePermits();
+        return Math.max(0, limit - inFlight.get());
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public int getMaxPermits() {
+        return maxLimit;
+    }
+
+    private void sample(long rttNanos, boolean drop) {
+        rttSum.add(rttNanos);
+        samples.increment();
+        minRtt.accumulateAndGet(rttNanos, Math::min);
+        if (drop) {
+            dropped = true;
+        }
+
+        if (!updating.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long now = System.nanoTime();
+            if (now - windowStart < sampleWindowNanos || samples.sum() < MIN_WINDOW_SAMPLES) {
+                return;
+            }
+            windowStart = now;
+
+            long count = samples.sumThenReset();
+            long sum = rttSum.sumThenReset();
+            long min = minRtt.getAndSet(Long.MAX_VALUE);
+            int peak = maxInFlight.getAndSet(inFlight.get());
+            boolean windowDropped = dropped;
+            dropped = false;
+            if (count == 0) {
+                return;
+            }
+
+            double updated = algorithm.update(exactLimit, new LimitAlgorithm.Sample(min, sum / count, peak, windowDropped));
+            exactLimit = Math.max(minLimit, Math.min(maxLimit, updated));
+            limit = (int) exactLimit;
+        } finally {
+            updating.set(false);
+        }
     }
 }
@@ -0,0 +1,238 @@
+package com.readtimeout.infrastructure.support;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Publisher Confirm 타임아웃용 해시드 휠 타이머
+ *
+ * 메시지마다 Mono.timeout/orTimeout으로 스케줄러 작업을 하나씩 등록하는 대신:
+ * - 대기 항목(Entry) 자체를 버킷의 이중 연결 리스트 노드로 사용 (취소 핸들 할당 없음)
+ * - 등록/취소 O(1), 버킷 단위 락
+ * - 전용 스레드가 tick마다 만료된 버킷을 한 번에 정리하고, 만료 콜백은 락 밖에서 호출
+ *
+ * 모든 항목의 타임아웃이 같으므로 휠 한 바퀴(버킷 수 × tick)를 타임아웃의 2배로 잡아
+ * 항목이 버킷을 여러 바퀴 돌지 않게 함. 정밀도는 tick(= 타임아웃 / 256) 단위.
+ *
+ * 메트릭:
+ * - rabbitmq.confirm.outcome{result=confirmed}: 타임아웃 전에 broker 응답(ack/nack)을 받은 수
+ * - rabbitmq.confirm.outcome{result=expired}: 응답 없이 만료된 수 (expire()가 실제로 결과를 전달한 경우만)
+ */
+@Slf4j
+public final class ConfirmTimeoutWheel implements AutoCloseable {
+
+    private static final int TICKS_PER_TIMEOUT = 256;
+    private static final int WHEEL_SIZE = TICKS_PER_TIMEOUT * 2;
+    private static final long MIN_TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    /**
+     * 휠에 등록되는 대기 항목 (호출자의 pending 객체가 상속)
+     */
+    public abstract static class Entry {
+
+        private volatile Bucket bucket;
+        private Entry prev;
+        private Entry next;
+        private long deadline;
+
+        /**
+         * 만료 시 휠 스레드에서 호출 (휠 락 밖)
+         *
+         * @return 만료 결과를 전달했으면 true, 그 사이 broker 응답 등 다른 경로가 이미 처리했으면 false
+         */
+        protected abstract boolean expire();
+    }
+
+    private static final class Bucket {
+        private final ReentrantLock lock = new ReentrantLock();
+        private Entry head;
+        private Entry tail;
+    }
+
+    private final long timeoutNanos;
+    private final long tickNanos;
+    private final Bucket[] wheel;
+    private final long startTime;
+    private final Thread worker;
+    private final Counter confirmedCounter;
+    private final Counter expiredCounter;
+
+    private volatile boolean running = true;
+
+    private ConfirmTimeoutWheel(String name, long timeoutNanos, MeterRegistry meterRegistry, String mode) {
+        this.timeoutNanos = timeoutNanos;
+        this.tickNanos = Math.max(MIN_TICK_NANOS, timeoutNanos / TICKS_PER_TIMEOUT);
+        this.wheel = new Bucket[WHEEL_SIZE];
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            wheel[i] = new Bucket();
+        }
+        this.startTime = System.nanoTime();
+
+        this.confirmedCounter = Counter.builder("rabbitmq.confirm.outcome")
+                .description("Publishes answered by broker (ack or nack) before the confirm timeout")
+                .tag("mode", mode)
+                .tag("result", "confirmed")
+                .register(meterRegistry);
+        this.expiredCounter = Counter.builder("rabbitmq.confirm.outcome")
+                .description("Publishes that reached the confirm timeout without a broker answer")
+                .tag("mode", mode)
+                .tag("result", "expired")
+                .register(meterRegistry);
+
+        this.worker = new Thread(this::run, name);
+        this.worker.setDaemon(true);
+    }
+
+    public static ConfirmTimeoutWheel start(String name, long timeout, TimeUnit unit,
+                                            MeterRegistry meterRegistry, String mode) {
+        ConfirmTimeoutWheel timer = new ConfirmTimeoutWheel(name, unit.toNanos(timeout), meterRegistry, mode);
+        timer.worker.start();
+        log.info("ConfirmTimeoutWheel started (name={}, timeout={}ms, tick={}μs)",
+                name, unit.toMillis(timeout), TimeUnit.NANOSECONDS.toMicros(timer.tickNanos));
+        return timer;
+    }
+
+    /**
+     * 타임아웃 등록 (항목당 한 번)
+     */
+    public void schedule(Entry entry) {
+        long deadline = System.nanoTime() + timeoutNanos;
+        Bucket bucket = wheel[(int) (((deadline - startTime) / tickNanos) % WHEEL_SIZE)];
+
+        bucket.lock.lock();
+        try {
+            entry.deadline = deadline;
+            entry.prev = bucket.tail;
+            entry.next = null;
+            if (bucket.tail == null) {
+                bucket.head = entry;
+            } else {
+                bucket.tail.next = entry;
+            }
+            bucket.tail = entry;
+            entry.bucket = bucket;
+        } finally {
+            bucket.lock.unlock();
+        }
+    }
+
+    /**
+     * broker 응답(ack/nack)을 받은 항목 해제
+     *
+     * @return 아직 만료되지 않아 호출자가 결과를 전달해야 하면 true
+     */
+    public boolean confirm(Entry entry) {
+        if (!unlink(entry)) {
+            return false;
+        }
+        confirmedCounter.increment();
+        return true;
+    }
+
+    /**
+     * 응답과 무관하게 항목 해제 (채널 종료, 발행 실패 등). 메트릭에 기록하지 않음.
+     *
+     * @return 아직 만료되지 않았으면 true
+     */
+    public boolean cancel(Entry entry) {
+        return unlink(entry);
+    }
+
+    private boolean unlink(Entry entry) {
+        Bucket bucket = entry.bucket;
+        if (bucket == null) {
+            return false;
+        }
+
+        bucket.lock.lock();
+        try {
+            if (entry.bucket != bucket) {
+                return false;
+            }
+            remove(bucket, entry);
+            return true;
+        } finally {
+            bucket.lock.unlock();
+        }
+    }
+
+    /**
+     * 버킷 락 보유 상태에서 호출
+     */
+    private static void remove(Bucket bucket, Entry entry) {
+        if (entry.prev == null) {
+            bucket.head = entry.next;
+        } else {
+            entry.prev.next = entry.next;
+        }
+        if (entry.next == null) {
+            bucket.tail = entry.prev;
+        } else {
+            entry.next.prev = entry.prev;
+        }
+        entry.prev = null;
+        entry.next = null;
+        entry.bucket = null;
+    }
+
+    private void run() {
+        List<Entry> expired = new ArrayList<>();
+        long tick = 0;
+
+        while (running) {
+            long deadline = startTime + (tick + 1) * tickNanos;
+            long sleep = deadline - System.nanoTime();
+            if (sleep > 0) {
+                LockSupport.parkNanos(this, sleep);
+                continue;
+            }
+
+            long now = System.nanoTime();
+            sweep(wheel[(int) (tick % WHEEL_SIZE)], now, expired);
+            tick++;
+
+            int taken = 0;
+            for (int i = 0; i < expired.size(); i++) {
+                try {
+                    if (expired.get(i).expire()) {
+                        taken++;
+                    }
+                } catch (RuntimeException e) {
+                    log.warn("Confirm timeout callback failed: {}", e.getMessage(), e);
+                }
+            }
+            expiredCounter.increment(taken);
+            expired.clear();
+        }
+    }
+
+    private void sweep(Bucket bucket, long now, List<Entry> expired) {
+        bucket.lock.lock();
+        try {
+            Entry entry = bucket.head;
+            while (entry != null) {
+                Entry next = entry.next;
+                if (entry.deadline - now <= 0) {
+                    remove(bucket, entry);
+                    expired.add(entry);
+                }
+                entry = next;
+            }
+        } finally {
+            bucket.lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(worker);
+    }
+}
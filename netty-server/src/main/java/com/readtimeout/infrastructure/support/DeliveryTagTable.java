@@ -0,0 +1,150 @@
+package com.readtimeout.infrastructure.support;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Publisher Confirm 대기 목록 (delivery tag → 값)
+ *
+ * 채널의 delivery tag는 1씩 증가하므로 Map 대신 tag 순서대로 놓인 링 버퍼로 관리.
+ * - add: tail에 추가 O(1) (boxing, 노드 할당 없음)
+ * - multiple=true ack: head부터 tag 이하를 순서대로 제거 O(k)
+ * - 단건 ack: 해당 슬롯만 비우고, head가 비면 앞으로 당김
+ * - 가득 차면 2배로 확장
+ *
+ * 스레드 안전하지 않음. 호출자가 채널 단위 락으로 보호해야 함.
+ *
+ * @param <T> tag에 연결할 값 (보통 완료시킬 Future)
+ */
+public final class DeliveryTagTable<T> {
+
+    private static final int DEFAULT_CAPACITY = 1024;
+
+    private Object[] slots;
+    private int mask;
+    private int headIndex;
+    // head부터 tail까지 슬롯 수 (중간에 비어 있는 슬롯 포함)
+    private int span;
+    private int outstanding;
+    private long headTag;
+
+    public DeliveryTagTable() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public DeliveryTagTable(int initialCapacity) {
+        int capacity = Integer.highestOneBit(Math.max(16, initialCapacity - 1)) << 1;
+        this.slots = new Object[capacity];
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * 새 채널(또는 채널 재생성) 시작 tag 설정. 남아 있는 값은 없어야 함.
+     */
+    public void reset(long nextTag) {
+        if (outstanding > 0) {
+            throw new IllegalStateException("Outstanding delivery tags remain: " + outstanding);
+        }
+        Arrays.fill(slots, null);
+        headIndex = 0;
+        span = 0;
+        headTag = nextTag;
+    }
+
+    /**
+     * @param tag 다음 publish의 delivery tag (channel.getNextPublishSeqNo())
+     */
+    public void add(long tag, T value) {
+        if (span == 0) {
+            headTag = tag;
+        } else if (tag != headTag + span) {
+            throw new IllegalArgumentException("Delivery tag out of sequence: expected "
+                    + (headTag + span) + " but was " + tag);
+        }
+        if (span == slots.length) {
+            grow();
+        }
+        slots[(headIndex + span) & mask] = value;
+        span++;
+        outstanding++;
+    }
+
+    /**
+     * 단건 제거 (multiple=false ack/nack, publish 실패 시 롤백)
+     *
+     * @return 제거된 값 (이미 제거되었거나 범위 밖이면 null)
+     */
+    @SuppressWarnings("unchecked")
+    public T remove(long tag) {
+        long offset = tag - headTag;
+        if (offset < 0 || offset >= span) {
+            return null;
+        }
+        int index = (int) ((headIndex + offset) & mask);
+        T value = (T) slots[index];
+        if (value != null) {
+            slots[index] = null;
+            outstanding--;
+            trimHead();
+        }
+        return value;
+    }
+
+    /**
+     * tag 이하 전부 제거 (multiple=true ack/nack)
+     *
+     * @return 제거된 값 개수
+     */
+    @SuppressWarnings("unchecked")
+    public int removeUpTo(long tag, Consumer<? super T> consumer) {
+        int removed = 0;
+        while (span > 0 && headTag <= tag) {
+            T value = (T) slots[headIndex];
+            if (value != null) {
+                slots[headIndex] = null;
+                outstanding--;
+                removed++;
+                consumer.accept(value);
+            }
+            advanceHead();
+        }
+        return removed;
+    }
+
+    /**
+     * 전부 제거 (채널 종료 시)
+     */
+    public int removeAll(Consumer<? super T> consumer) {
+        return span == 0 ? 0 : removeUpTo(headTag + span - 1, consumer);
+    }
+
+    public int outstanding() {
+        return outstanding;
+    }
+
+    public boolean isEmpty() {
+        return outstanding == 0;
+    }
+
+    private void trimHead() {
+        while (span > 0 && slots[headIndex] == null) {
+            advanceHead();
+        }
+    }
+
+    private void advanceHead() {
+        headIndex = (headIndex + 1) & mask;
+        headTag++;
+        span--;
+    }
+
+    private void grow() {
+        Object[] grown = new Object[slots.length << 1];
+        for (int i = 0; i < span; i++) {
+            grown[i] = slots[(headIndex + i) & mask];
+        }
+        slots = grown;
+        mask = grown.length - 1;
+        headIndex = 0;
+    }
+}
@@ -0,0 +1,39 @@
+package com.readtimeout.infrastructure.support;
+
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.internal.ThreadExecutorMap;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+/**
+ * 요청을 받은 EventLoop를 Reactor Context로 전달
+ *
+ * validate/save 이후 publish 시점에는 다른 스레드(R2DBC, parallel 등)에서 실행되므로
+ * 스레드 대신 Context에 EventLoop를 실어 보내고, Publisher는 이를 키로 EventLoop별 자원을 선택함.
+ */
+public final class EventLoopAffinity {
+
+    private static final Object KEY = EventLoopAffinity.class;
+
+    private EventLoopAffinity() {
+    }
+
+    public static ContextView of(EventExecutor eventLoop) {
+        return Context.of(KEY, eventLoop);
+    }
+
+    /**
+     * 현재 스레드가 EventLoop이면 해당 EventLoop, 아니면 빈 Context
+     */
+    public static ContextView current() {
+        EventExecutor eventLoop = ThreadExecutorMap.currentExecutor();
+        return eventLoop != null ? Context.of(KEY, eventLoop) : Context.empty();
+    }
+
+    /**
+     * @return Context에 담긴 EventLoop (없으면 null)
+     */
+    public static EventExecutor from(ContextView context) {
+        return context.getOrDefault(KEY, null);
+    }
+}
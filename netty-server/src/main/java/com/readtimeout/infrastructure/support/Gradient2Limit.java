@@ -0,0 +1,50 @@
+package com.readtimeout.infrastructure.support;
+
+/**
+ * Gradient2 방식
+ *
+ * 장기 RTT(지수 이동 평균)와 직전 창의 평균 RTT의 비율(gradient)로 한도를 조정:
+ * - gradient = clamp(TOLERANCE × longRtt / shortRtt, 0.5, 1.0)
+ * - newLimit = limit × gradient + √limit (√limit은 대기열 여유분, 지연이 없으면 한도가 계속 증가)
+ * - limit = limit × (1 - SMOOTHING) + newLimit × SMOOTHING
+ *
+ * 실패가 있던 창은 gradient 0.5로 취급.
+ * 지연이 길어진 뒤 회복되면 longRtt가 높은 값에 머물지 않도록 빠르게 shortRtt 쪽으로 낮춤.
+ */
+final class Gradient2Limit implements LimitAlgorithm {
+
+    private static final double TOLERANCE = 1.5;
+    private static final double SMOOTHING = 0.2;
+    // 장기 RTT 이동 평균 창 (샘플 창 수)
+    private static final int LONG_WINDOW = 600;
+    private static final int WARMUP_WINDOWS = 10;
+
+    private double longRtt;
+    private int windows;
+
+    @Override
+    public double update(double limit, Sample sample) {
+        double shortRtt = Math.max(sample.avgRttNanos(), 1);
+
+        if (windows < WARMUP_WINDOWS) {
+            windows++;
+            longRtt += (shortRtt - longRtt) / windows;
+        } else {
+            longRtt += (shortRtt - longRtt) * 2.0 / (LONG_WINDOW + 1);
+        }
+        if (longRtt / shortRtt > 2.0) {
+            longRtt *= 0.95;
+        }
+
+        // 한도까지 쓰지 않은 창은 한도가 병목이 아니므로 판단하지 않음
+        if (!sample.dropped() && sample.maxInFlight() * 2 < limit) {
+            return limit;
+        }
+
+        double gradient = sample.dropped()
+                ? 0.5
+                : Math.max(0.5, Math.min(1.0, TOLERANCE * longRtt / shortRtt));
+        double newLimit = limit * gradient + Math.sqrt(limit);
+        return limit * (1 - SMOOTHING) + newLimit * SMOOTHING;
+    }
+}
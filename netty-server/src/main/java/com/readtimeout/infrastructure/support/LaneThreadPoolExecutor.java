@@ -0,0 +1,45 @@
+package com.readtimeout.infrastructure.support;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * WeightedLaneQueue 전용 ThreadPoolExecutor
+ *
+ * ThreadPoolExecutor는 큐의 offer가 실패하면 core를 넘어 스레드를 새로 만들어 그 작업을 바로 실행함.
+ * lane 몫을 넘겨 offer가 실패한 LOW/NORMAL 작업이 이 경로를 타면, 거부되기는커녕
+ * 이미 대기 중인 HIGH 작업보다 먼저 실행되므로:
+ * - 몫이 제한된 lane의 작업은 직접 큐에 넣고, 실패하면 스레드를 늘리지 않고 바로 거부
+ * - 몫 제한이 없는 lane(HIGH)만 기존 경로를 타서 큐가 가득 찼을 때 maxPoolSize까지 스레드를 늘림
+ */
+public final class LaneThreadPoolExecutor extends ThreadPoolExecutor {
+
+    private final WeightedLaneQueue lanes;
+
+    public LaneThreadPoolExecutor(int corePoolSize, int maxPoolSize, long keepAliveTime, TimeUnit unit,
+                                  WeightedLaneQueue workQueue, ThreadFactory threadFactory) {
+        super(corePoolSize, maxPoolSize, keepAliveTime, unit, workQueue, threadFactory);
+        this.lanes = workQueue;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        // core가 0이면 큐에 넣은 작업을 처리할 스레드를 띄울 방법이 기존 경로뿐
+        if (!lanes.isBudgeted(command) || getCorePoolSize() == 0) {
+            super.execute(command);
+            return;
+        }
+
+        if (isShutdown() || !lanes.offer(command)) {
+            getRejectedExecutionHandler().rejectedExecution(command, this);
+            return;
+        }
+        if (isShutdown() && remove(command)) {
+            getRejectedExecutionHandler().rejectedExecution(command, this);
+            return;
+        }
+        // core보다 스레드가 적으면(시작 직후, 유휴 종료 후) 하나 띄워 큐를 처리하게 함
+        prestartCoreThread();
+    }
+}
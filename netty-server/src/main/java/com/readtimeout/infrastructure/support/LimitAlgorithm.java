@@ -0,0 +1,43 @@
+package com.readtimeout.infrastructure.support;
+
+import java.util.Locale;
+
+/**
+ * ConcurrencyLimiter의 한도 조정 알고리즘
+ *
+ * 샘플 창(window) 하나가 끝날 때마다 한 스레드에서만 호출되므로 구현체는 내부 상태를 동기화 없이 가져도 됨.
+ * 반환값은 ConcurrencyLimiter가 [minLimit, maxLimit]로 제한함.
+ */
+public interface LimitAlgorithm {
+
+    /**
+     * @param limit  현재 한도
+     * @param sample 직전 창의 관측값
+     * @return 새 한도
+     */
+    double update(double limit, Sample sample);
+
+    /**
+     * 샘플 창 하나의 관측값
+     *
+     * @param minRttNanos 창 안의 최소 RTT (acquire → release)
+     * @param avgRttNanos 창 안의 평균 RTT
+     * @param maxInFlight 창 안에서 관측된 최대 동시 처리 수
+     * @param dropped     창 안에 실패(타임아웃, nack, 거부)가 있었는지 여부
+     */
+    record Sample(long minRttNanos, long avgRttNanos, int maxInFlight, boolean dropped) {
+    }
+
+    /**
+     * 이름으로 알고리즘 생성: fixed | aimd | vegas | gradient2
+     */
+    static LimitAlgorithm of(String name) {
+        return switch (name.toLowerCase(Locale.ROOT)) {
+            case "fixed" -> (limit, sample) -> limit;
+            case "aimd" -> new AimdLimit();
+            case "vegas" -> new VegasLimit();
+            case "gradient2" -> new Gradient2Limit();
+            default -> throw new IllegalArgumentException("Unknown limit algorithm: " + name);
+        };
+    }
+}
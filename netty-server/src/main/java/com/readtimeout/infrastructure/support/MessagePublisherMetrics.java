@@ -1,5 +1,6 @@
 package com.readtimeout.infrastructure.support;
 
+import com.readtimeout.core.domain.model.SendResult;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
@@ -7,6 +8,7 @@ import io.micrometer.core.instrument.Timer;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 @Slf4j
@@ -93,6 +95,26 @@ public class MessagePublisherMetrics {
         log.error("Background publish failed [id={}]: {}", messageId, e.getMessage(), e);
     }
 
+    /**
+     * 배치 발행 결과 기록 (메시지별 지연 시간은 배치 전체 소요 시간으로 간주)
+     */
+    public void recordBatch(List<SendResult> results, long startTime) {
+        long latencyNanos = System.nanoTime() - startTime;
+        int published = 0;
+        for (SendResult result : results) {
+            publishTimer.record(latencyNanos, TimeUnit.NANOSECONDS);
+            if (result.published()) {
+                published++;
+            }
+        }
+        publishSuccessCounter.increment(published);
+        publishFailureCounter.increment(results.size() - published);
+
+        if (published < results.size()) {
+            log.warn("Batch publish partially failed: {}/{} published", published, results.size());
+        }
+    }
+
     public static class Builder {
         private final MeterRegistry meterRegistry;
         private String mode = "default";
@@ -1,12 +1,13 @@
 package com.readtimeout.infrastructure.support;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rabbitmq.client.AMQP;
 import com.readtimeout.core.domain.model.SendMessage;
-import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
+import com.readtimeout.infrastructure.support.codec.EncodedSendMessage;
+import com.readtimeout.infrastructure.support.codec.JsonPayloadCodec;
+import com.readtimeout.infrastructure.support.codec.PayloadCodec;
+import com.readtimeout.infrastructure.support.codec.PayloadCodecs;
+import com.readtimeout.infrastructure.support.codec.PayloadCompressor;
 import org.springframework.amqp.core.Message;
-import org.springframework.amqp.core.MessageBuilder;
 import org.springframework.amqp.core.MessageDeliveryMode;
 import org.springframework.amqp.core.MessageProperties;
 import org.springframework.stereotype.Component;
@@ -16,42 +17,83 @@ import java.util.Date;
 /**
  * Message 직렬화 담당
  *
- * Domain Message를 AMQP Message로 변환.
- * AmqpMessagePayload를 통해 JSON 구조를 명시적으로 관리.
+ * Domain Message를 AMQP 본문(rabbitmq.codec으로 선택한 PayloadCodec)과 속성으로 변환.
+ * - RabbitTemplate 경로(blocking, non-blocking): Spring Message
+ * - amqp-client/reactor-rabbitmq 경로: RawMessage (AMQP.BasicProperties + 본문 byte[])
+ *
+ * 두 속성 모두 같은 값(content type = 코덱, persistent, priority, message id, timestamp)을 가짐.
+ * 본문이 압축 임계값 이상이면 PayloadCompressor로 압축하고 contentEncoding에 표시.
  */
-@Slf4j
 @Component
-@RequiredArgsConstructor
 public class MessageSerializer {
 
-    private final ObjectMapper objectMapper;
+    private static final int PERSISTENT = 2;
+
+    private final PayloadCodec codec;
+    private final PayloadCompressor compressor;
+
+    public MessageSerializer(PayloadCodecs codecs, PayloadCompressor compressor) {
+        this.codec = codecs.publishCodec();
+        this.compressor = compressor;
+    }
 
     public Message serialize(SendMessage sendMessage) {
-        byte[] messageBytes = serializeToJson(sendMessage);
+        byte[] body = encode(sendMessage);
+        byte[] compressed = compressor.compress(body);
+
         MessageProperties properties = createMessageProperties(sendMessage);
+        if (compressed != null) {
+            properties.setContentEncoding(PayloadCompressor.DEFLATE);
+            return new Message(compressed, properties);
+        }
+        return new Message(body, properties);
+    }
 
-        return MessageBuilder
-                .withBody(messageBytes)
-                .andProperties(properties)
-                .build();
+    public RawMessage serializeRaw(SendMessage sendMessage) {
+        byte[] body = encode(sendMessage);
+        byte[] compressed = compressor.compress(body);
+
+        return compressed != null
+                ? new RawMessage(createBasicProperties(sendMessage, PayloadCompressor.DEFLATE), compressed)
+                : new RawMessage(createBasicProperties(sendMessage, null), body);
     }
 
-    private byte[] serializeToJson(SendMessage sendMessage) {
-        AmqpMessagePayload payload = AmqpMessagePayload.from(sendMessage);
-        try {
-            return objectMapper.writeValueAsBytes(payload);
-        } catch (JsonProcessingException e) {
-            log.error("Failed to serialize message: {}", sendMessage.getId(), e);
-            throw new IllegalStateException("Message serialization failed", e);
+    /**
+     * passthrough로 받은 JSON 본문은 발행 코덱도 JSON이면 그대로 사용
+     */
+    private byte[] encode(SendMessage sendMessage) {
+        if (sendMessage instanceof EncodedSendMessage encoded && codec instanceof JsonPayloadCodec) {
+            return encoded.getPayload();
         }
+        return codec.encode(sendMessage);
+    }
+
+    private AMQP.BasicProperties createBasicProperties(SendMessage sendMessage, String contentEncoding) {
+        return new AMQP.BasicProperties.Builder()
+                .contentType(codec.contentType())
+                .contentEncoding(contentEncoding)
+                .deliveryMode(PERSISTENT)
+                .priority(sendMessage.getPriority().getAmqpPriority())
+                .messageId(sendMessage.getId())
+                .correlationId(sendMessage.getId())
+                .timestamp(new Date(sendMessage.getCreatedAt().toEpochMilli()))
+                .build();
     }
 
     private MessageProperties createMessageProperties(SendMessage sendMessage) {
         MessageProperties properties = new MessageProperties();
-        properties.setContentType("application/json");
+        properties.setContentType(codec.contentType());
         properties.setDeliveryMode(MessageDeliveryMode.PERSISTENT);
         properties.setMessageId(sendMessage.getId());
-        properties.setTimestamp(Date.from(sendMessage.getCreatedAt()));
+        properties.setCorrelationId(sendMessage.getId());
+        properties.setTimestamp(new Date(sendMessage.getCreatedAt().toEpochMilli()));
+        properties.setPriority(sendMessage.getPriority().getAmqpPriority());
         return properties;
     }
+
+    /**
+     * amqp-client/reactor-rabbitmq 발행용 속성과 본문
+     */
+    public record RawMessage(AMQP.BasicProperties properties, byte[] body) {
+    }
 }
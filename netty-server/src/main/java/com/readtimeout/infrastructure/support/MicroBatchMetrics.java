@@ -0,0 +1,64 @@
+package com.readtimeout.infrastructure.support;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * EventLoop 마이크로 배치(group commit) 메트릭
+ *
+ * - rabbitmq.microbatch.size: flush당 메시지 수
+ * - rabbitmq.microbatch.flush{reason=size|linger}: flush 원인별 횟수
+ * - rabbitmq.microbatch.linger: 첫 메시지 적재 ~ flush까지 대기 시간
+ * - rabbitmq.microbatch.confirm: flush ~ 배치 전체 confirm 수신까지 시간
+ */
+@Getter
+public class MicroBatchMetrics {
+
+    private final DistributionSummary batchSize;
+    private final Counter sizeFlushCounter;
+    private final Counter lingerFlushCounter;
+    private final Timer lingerTimer;
+    private final Timer confirmTimer;
+
+    private MicroBatchMetrics(MeterRegistry meterRegistry) {
+        this.batchSize = DistributionSummary.builder("rabbitmq.microbatch.size")
+                .description("Messages per micro-batch flush")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.sizeFlushCounter = Counter.builder("rabbitmq.microbatch.flush")
+                .description("Micro-batch flushes triggered by batch size")
+                .tag("reason", "size")
+                .register(meterRegistry);
+        this.lingerFlushCounter = Counter.builder("rabbitmq.microbatch.flush")
+                .description("Micro-batch flushes triggered by linger timeout")
+                .tag("reason", "linger")
+                .register(meterRegistry);
+        this.lingerTimer = Timer.builder("rabbitmq.microbatch.linger")
+                .description("Time the first message of a micro-batch waited before flush")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.confirmTimer = Timer.builder("rabbitmq.microbatch.confirm")
+                .description("Time from micro-batch flush to the last broker confirm")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    public static MicroBatchMetrics create(MeterRegistry meterRegistry) {
+        return new MicroBatchMetrics(meterRegistry);
+    }
+
+    public void recordFlush(int size, boolean sizeTriggered, long firstEnqueuedAt) {
+        batchSize.record(size);
+        (sizeTriggered ? sizeFlushCounter : lingerFlushCounter).increment();
+        lingerTimer.record(System.nanoTime() - firstEnqueuedAt, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordConfirm(long flushedAt) {
+        confirmTimer.record(System.nanoTime() - flushedAt, TimeUnit.NANOSECONDS);
+    }
+}
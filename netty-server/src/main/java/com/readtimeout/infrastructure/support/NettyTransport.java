@@ -0,0 +1,102 @@
+package com.readtimeout.infrastructure.support;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.ServerChannel;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.incubator.channel.uring.IOUring;
+import io.netty.incubator.channel.uring.IOUringEventLoopGroup;
+import io.netty.incubator.channel.uring.IOUringServerSocketChannel;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Locale;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Netty Transport 선택
+ *
+ * netty.transport 설정값:
+ * - nio: JDK NIO (모든 OS)
+ * - epoll: Linux epoll (네이티브 라이브러리 로드 실패 시 NIO로 fallback)
+ * - io_uring: Linux io_uring (실패 시 epoll → NIO 순으로 fallback)
+ * - auto: epoll 사용 가능하면 epoll, 아니면 NIO
+ */
+@Slf4j
+public enum NettyTransport {
+
+    NIO {
+        @Override
+        public EventLoopGroup newEventLoopGroup(int threads, ThreadFactory threadFactory) {
+            return new NioEventLoopGroup(threads, threadFactory);
+        }
+
+        @Override
+        public Class<? extends ServerChannel> serverChannelClass() {
+            return NioServerSocketChannel.class;
+        }
+    },
+
+    EPOLL {
+        @Override
+        public EventLoopGroup newEventLoopGroup(int threads, ThreadFactory threadFactory) {
+            return new EpollEventLoopGroup(threads, threadFactory);
+        }
+
+        @Override
+        public Class<? extends ServerChannel> serverChannelClass() {
+            return EpollServerSocketChannel.class;
+        }
+    },
+
+    IO_URING {
+        @Override
+        public EventLoopGroup newEventLoopGroup(int threads, ThreadFactory threadFactory) {
+            return new IOUringEventLoopGroup(threads, threadFactory);
+        }
+
+        @Override
+        public Class<? extends ServerChannel> serverChannelClass() {
+            return IOUringServerSocketChannel.class;
+        }
+    };
+
+    public abstract EventLoopGroup newEventLoopGroup(int threads, ThreadFactory threadFactory);
+
+    public abstract Class<? extends ServerChannel> serverChannelClass();
+
+    /**
+     * SO_REUSEPORT로 여러 server channel을 같은 포트에 bind 가능한지 여부
+     */
+    public boolean supportsReusePort() {
+        return this != NIO;
+    }
+
+    public static NettyTransport resolve(String name) {
+        String normalized = (name == null || name.isBlank()) ? "auto" : name.trim().toLowerCase(Locale.ROOT);
+
+        return switch (normalized) {
+            case "nio" -> NIO;
+            case "epoll" -> epollOrNio();
+            case "io_uring", "io-uring", "iouring" -> {
+                if (IOUring.isAvailable()) {
+                    yield IO_URING;
+                }
+                log.warn("io_uring transport unavailable ({}), falling back", IOUring.unavailabilityCause().toString());
+                yield epollOrNio();
+            }
+            case "auto" -> Epoll.isAvailable() ? EPOLL : NIO;
+            default -> throw new IllegalArgumentException("Unknown netty.transport: " + name);
+        };
+    }
+
+    private static NettyTransport epollOrNio() {
+        if (Epoll.isAvailable()) {
+            return EPOLL;
+        }
+        log.warn("epoll transport unavailable ({}), falling back to NIO", Epoll.unavailabilityCause().toString());
+        return NIO;
+    }
+}
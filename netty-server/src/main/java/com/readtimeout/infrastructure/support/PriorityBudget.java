@@ -0,0 +1,41 @@
+package com.readtimeout.infrastructure.support;
+
+import com.readtimeout.core.domain.model.MessagePriority;
+
+/**
+ * 우선순위별 자원 예산: 공유 자원(동시성 한도, 작업 큐)을 우선순위마다 얼마까지 쓸 수 있는지
+ *
+ * HIGH는 항상 전체를 쓸 수 있고, NORMAL/LOW는 전체의 일부만 사용.
+ * 자원이 차오르면 LOW → NORMAL 순으로 먼저 거부되므로 남은 여유는 HIGH가 사용.
+ *
+ * @param normalShare NORMAL이 사용할 수 있는 비율 (0, 1]
+ * @param lowShare    LOW가 사용할 수 있는 비율 (0, normalShare]
+ */
+public record PriorityBudget(double normalShare, double lowShare) {
+
+    /**
+     * 우선순위 구분 없음 (모두 전체 사용)
+     */
+    public static final PriorityBudget NONE = new PriorityBudget(1.0, 1.0);
+
+    public PriorityBudget {
+        if (normalShare <= 0 || normalShare > 1.0) {
+            normalShare = 1.0;
+        }
+        if (lowShare <= 0 || lowShare > normalShare) {
+            lowShare = normalShare;
+        }
+    }
+
+    /**
+     * @return 해당 우선순위가 점유할 수 있는 최대치 (최소 1)
+     */
+    public int limit(int total, MessagePriority priority) {
+        double share = switch (priority) {
+            case HIGH -> 1.0;
+            case NORMAL -> normalShare;
+            case LOW -> lowShare;
+        };
+        return Math.max(1, (int) (total * share));
+    }
+}
@@ -0,0 +1,53 @@
+package com.readtimeout.infrastructure.support;
+
+/**
+ * TCP Vegas 방식
+ *
+ * 부하 없는 RTT(rttNoLoad, 관측된 최소 RTT)와 현재 RTT의 비율로 대기열 길이를 추정:
+ * queue = limit × (1 - rttNoLoad / rtt)
+ * - queue ≤ log10(limit): 여유 있음 → 6·log10(limit)만큼 증가
+ * - queue < 3·log10(limit): log10(limit)만큼 증가
+ * - queue > 6·log10(limit): log10(limit)만큼 감소
+ * - 실패가 있던 창: log10(limit)만큼 감소
+ *
+ * broker가 느려져도 rttNoLoad가 예전 값에 머물지 않도록 PROBE_INTERVAL 창마다 다시 측정.
+ */
+final class VegasLimit implements LimitAlgorithm {
+
+    private static final int PROBE_INTERVAL = 1000;
+
+    private long rttNoLoad;
+    private int windows;
+
+    @Override
+    public double update(double limit, Sample sample) {
+        long rtt = sample.minRttNanos();
+        if (++windows >= PROBE_INTERVAL) {
+            windows = 0;
+            rttNoLoad = rtt;
+        } else if (rttNoLoad == 0 || rtt < rttNoLoad) {
+            rttNoLoad = rtt;
+        }
+
+        double log = Math.max(1.0, Math.log10(limit));
+        if (sample.dropped()) {
+            return limit - log;
+        }
+        // 한도까지 쓰지 않은 창은 한도가 병목이 아니므로 판단하지 않음
+        if (sample.maxInFlight() * 2 < limit) {
+            return limit;
+        }
+
+        double queue = Math.ceil(limit * (1.0 - (double) rttNoLoad / Math.max(rtt, 1)));
+        if (queue <= log) {
+            return limit + 6 * log;
+        }
+        if (queue < 3 * log) {
+            return limit + log;
+        }
+        if (queue > 6 * log) {
+            return limit - log;
+        }
+        return limit;
+    }
+}
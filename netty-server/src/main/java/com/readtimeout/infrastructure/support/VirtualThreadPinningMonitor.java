@@ -0,0 +1,99 @@
+package com.readtimeout.infrastructure.support;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Virtual Thread carrier 고정(pinning) 감시
+ *
+ * JFR jdk.VirtualThreadPinned 이벤트(monitor 보유 중 또는 native 프레임에서 블로킹)를 스트리밍으로 받아 메트릭으로 노출.
+ * - jvm.virtual_thread.pinned: 고정 횟수 (threshold 이상 블로킹된 경우만)
+ * - jvm.virtual_thread.pinned.duration: 고정된 채 블로킹된 시간
+ *
+ * 처음 보는 고정 위치(스택 최상단의 애플리케이션 프레임)는 한 번씩 WARN으로 기록해 회귀 원인을 찾을 수 있게 함.
+ */
+@Slf4j
+public final class VirtualThreadPinningMonitor implements AutoCloseable {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int MAX_REPORTED_SITES = 64;
+
+    private final RecordingStream stream;
+    private final Counter pinnedCounter;
+    private final Timer pinnedDuration;
+    private final Set<String> reportedSites = ConcurrentHashMap.newKeySet();
+
+    private VirtualThreadPinningMonitor(Duration threshold, MeterRegistry meterRegistry) {
+        this.pinnedCounter = Counter.builder("jvm.virtual_thread.pinned")
+                .description("Virtual threads that blocked while pinned to their carrier thread")
+                .register(meterRegistry);
+        this.pinnedDuration = Timer.builder("jvm.virtual_thread.pinned.duration")
+                .description("Time virtual threads spent blocked while pinned to their carrier thread")
+                .register(meterRegistry);
+
+        this.stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+    }
+
+    /**
+     * @param threshold 이 시간 이상 고정된 채 블로킹된 경우만 기록 (JFR 기본값 20ms)
+     */
+    public static VirtualThreadPinningMonitor start(Duration threshold, MeterRegistry meterRegistry) {
+        VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(threshold, meterRegistry);
+        monitor.stream.startAsync();
+        log.info("VirtualThreadPinningMonitor started (threshold={}ms)", threshold.toMillis());
+        return monitor;
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinnedCounter.increment();
+        pinnedDuration.record(event.getDuration());
+
+        if (reportedSites.size() >= MAX_REPORTED_SITES) {
+            return;
+        }
+        String site = site(event.getStackTrace());
+        if (reportedSites.add(site)) {
+            log.warn("Virtual thread pinned for {}ms at {}", event.getDuration().toMillis(), site);
+        }
+    }
+
+    /**
+     * JDK 내부 프레임을 건너뛴 첫 프레임 (없으면 최상단 프레임)
+     */
+    private static String site(RecordedStackTrace stackTrace) {
+        if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+            return "<unknown>";
+        }
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        for (RecordedFrame frame : frames) {
+            String type = frame.getMethod().getType().getName();
+            if (!type.startsWith("java.") && !type.startsWith("jdk.") && !type.startsWith("sun.")) {
+                return format(frame);
+            }
+        }
+        return format(frames.get(0));
+    }
+
+    private static String format(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + ":" + frame.getLineNumber();
+    }
+
+    @Override
+    public void close() {
+        stream.close();
+    }
+}
@@ -0,0 +1,344 @@
+package com.readtimeout.infrastructure.support;
+
+import com.readtimeout.core.application.service.PrioritizedTask;
+import com.readtimeout.core.domain.model.MessagePriority;
+
+import java.util.AbstractQueue;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 우선순위별 lane을 가진 ThreadPoolExecutor 작업 큐
+ *
+ * LinkedBlockingQueue 하나를 공유하면 대량 캠페인(LOW) 작업 뒤에 OTP(HIGH) 작업이 줄을 서게 됨.
+ * - 작업은 PrioritizedTask의 우선순위 lane에 적재 (우선순위 없는 작업은 NORMAL)
+ * - 적재 한도는 PriorityBudget 기준: 큐 전체 적재량이 해당 우선순위의 몫을 넘으면 offer 실패
+ *   → 일반 ThreadPoolExecutor는 offer 실패 시 스레드를 늘려 그 작업을 바로 실행하므로(몫을 넘긴 LOW가 대기 중인 HIGH를 앞지름)
+ *     LaneThreadPoolExecutor와 함께 사용: 몫이 제한된 작업은 스레드를 늘리지 않고 바로 거부 (LOW부터 거부)
+ * - 꺼낼 때는 smooth weighted round robin으로 lane을 선택 (비어 있는 lane은 제외)
+ *   가중치 8:3:1이면 모든 lane이 차 있어도 LOW가 굶지 않고 12번에 1번은 처리됨
+ *
+ * lane 선택과 적재/인출은 하나의 ReentrantLock으로 보호.
+ */
+public final class WeightedLaneQueue extends AbstractQueue<Runnable> implements BlockingQueue<Runnable> {
+
+    private static final MessagePriority[] PRIORITIES = MessagePriority.values();
+
+    private final int capacity;
+    private final int[] limits;
+    private final int[] weights;
+    private final ArrayDeque<Runnable>[] lanes;
+    // smooth weighted round robin 현재 가중치 (lock 보유 시에만 접근)
+    private final int[] currentWeights;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private int count;
+
+    /**
+     * @param capacity    전체 적재 한도
+     * @param budget      우선순위별 적재 몫
+     * @param laneWeights 우선순위별 인출 가중치 (누락되거나 1 미만이면 1)
+     */
+    @SuppressWarnings("unchecked")
+    public WeightedLaneQueue(int capacity, PriorityBudget budget, Map<MessagePriority, Integer> laneWeights) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        this.limits = new int[PRIORITIES.length];
+        this.weights = new int[PRIORITIES.length];
+        this.lanes = new ArrayDeque[PRIORITIES.length];
+        this.currentWeights = new int[PRIORITIES.length];
+        for (MessagePriority priority : PRIORITIES) {
+            int i = priority.ordinal();
+            limits[i] = budget.limit(capacity, priority);
+            weights[i] = Math.max(1, laneWeights.getOrDefault(priority, 1));
+            lanes[i] = new ArrayDeque<>();
+        }
+    }
+
+    /**
+     * 우선순위 lane에 대기 중인 작업 수 (메트릭용)
+     */
+    public int size(MessagePriority priority) {
+        lock.lock();
+        try {
+            return lanes[priority.ordinal()].size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 작업의 우선순위 몫이 큐 전체보다 작은지 (몫을 넘긴 작업은 스레드를 늘려 실행하지 않고 거부해야 함)
+     */
+    public boolean isBudgeted(Runnable task) {
+        return limits[laneOf(task)] < capacity;
+    }
+
+    @Override
+    public boolean offer(Runnable task) {
+        int lane = laneOf(task);
+        lock.lock();
+        try {
+            if (count >= limits[lane]) {
+                return false;
+            }
+            enqueue(lane, task);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean offer(Runnable task, long timeout, TimeUnit unit) throws InterruptedException {
+        int lane = laneOf(task);
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (count >= limits[lane]) {
+                if (nanos <= 0L) {
+                    return false;
+                }
+                nanos = notFull.awaitNanos(nanos);
+            }
+            enqueue(lane, task);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void put(Runnable task) throws InterruptedException {
+        int lane = laneOf(task);
+        lock.lockInterruptibly();
+        try {
+            while (count >= limits[lane]) {
+                notFull.await();
+            }
+            enqueue(lane, task);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Runnable poll() {
+        lock.lock();
+        try {
+            return count == 0 ? null : dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Runnable poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (count == 0) {
+                if (nanos <= 0L) {
+                    return null;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Runnable take() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (count == 0) {
+                notEmpty.await();
+            }
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 다음에 인출될 작업이 아니라 가장 높은 우선순위 lane의 첫 작업 (인출 순서를 바꾸지 않기 위해)
+     */
+    @Override
+    public Runnable peek() {
+        lock.lock();
+        try {
+            for (ArrayDeque<Runnable> lane : lanes) {
+                if (!lane.isEmpty()) {
+                    return lane.peekFirst();
+                }
+            }
+            return null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        lock.lock();
+        try {
+            return count;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int remainingCapacity() {
+        lock.lock();
+        try {
+            return capacity - count;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if (o == null) {
+            return false;
+        }
+        lock.lock();
+        try {
+            for (ArrayDeque<Runnable> lane : lanes) {
+                if (lane.removeFirstOccurrence(o)) {
+                    count--;
+                    notFull.signalAll();
+                    return true;
+                }
+            }
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int drainTo(Collection<? super Runnable> c) {
+        return drainTo(c, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int drainTo(Collection<? super Runnable> c, int maxElements) {
+        if (c == this) {
+            throw new IllegalArgumentException();
+        }
+        lock.lock();
+        try {
+            int drained = 0;
+            while (count > 0 && drained < maxElements) {
+                c.add(dequeue());
+                drained++;
+            }
+            return drained;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 스냅샷 iterator (ThreadPoolExecutor.purge/shutdownNow 용). remove는 큐에서 해당 작업을 제거
+     */
+    @Override
+    public Iterator<Runnable> iterator() {
+        List<Runnable> snapshot;
+        lock.lock();
+        try {
+            snapshot = new ArrayList<>(count);
+            for (ArrayDeque<Runnable> lane : lanes) {
+                snapshot.addAll(lane);
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        return new Iterator<>() {
+            private int next;
+            private Runnable last;
+
+            @Override
+            public boolean hasNext() {
+                return next < snapshot.size();
+            }
+
+            @Override
+            public Runnable next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                last = snapshot.get(next++);
+                return last;
+            }
+
+            @Override
+            public void remove() {
+                if (last == null) {
+                    throw new IllegalStateException();
+                }
+                WeightedLaneQueue.this.remove(last);
+                last = null;
+            }
+        };
+    }
+
+    private static int laneOf(Runnable task) {
+        if (task == null) {
+            throw new NullPointerException();
+        }
+        return task instanceof PrioritizedTask prioritized
+                ? prioritized.priority().ordinal()
+                : MessagePriority.NORMAL.ordinal();
+    }
+
+    private void enqueue(int lane, Runnable task) {
+        lanes[lane].addLast(task);
+        count++;
+        notEmpty.signal();
+    }
+
+    /**
+     * smooth weighted round robin: 비어 있지 않은 lane에 가중치를 더하고, 가장 큰 lane에서 꺼낸 뒤 합계만큼 뺌
+     */
+    private Runnable dequeue() {
+        int selected = -1;
+        int total = 0;
+        for (int i = 0; i < lanes.length; i++) {
+            if (lanes[i].isEmpty()) {
+                // 비어 있던 동안의 누적분으로 나중에 몰아서 인출되지 않도록
+                currentWeights[i] = 0;
+                continue;
+            }
+            currentWeights[i] += weights[i];
+            total += weights[i];
+            if (selected < 0 || currentWeights[i] > currentWeights[selected]) {
+                selected = i;
+            }
+        }
+        currentWeights[selected] -= total;
+
+        Runnable task = lanes[selected].pollFirst();
+        count--;
+        notFull.signalAll();
+        return task;
+    }
+}
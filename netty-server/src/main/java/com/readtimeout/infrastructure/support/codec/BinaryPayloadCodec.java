@@ -0,0 +1,80 @@
+package com.readtimeout.infrastructure.support.codec;
+
+import com.readtimeout.core.domain.model.SendMessage;
+import org.springframework.stereotype.Component;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+/**
+ * 고정 레이아웃 이진 코덱 (가장 작고 파싱이 필요 없음, 우리 서비스 간 전용)
+ *
+ * <pre>
+ * version(1) | idLength(2) | id | contentLength(4) | content | createdAt epoch nanos(8)
+ * </pre>
+ *
+ * 정수는 big-endian, 문자열은 UTF-8. 레이아웃을 바꾸면 version을 올림.
+ */
+@Component
+public class BinaryPayloadCodec implements PayloadCodec {
+
+    static final byte VERSION = 1;
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    @Override
+    public String name() {
+        return "binary";
+    }
+
+    @Override
+    public String contentType() {
+        return "application/vnd.readtimeout.message.v1";
+    }
+
+    @Override
+    public byte[] encode(SendMessage sendMessage) {
+        byte[] id = sendMessage.getId().getBytes(StandardCharsets.UTF_8);
+        byte[] content = sendMessage.getContent().getBytes(StandardCharsets.UTF_8);
+        if (id.length > 0xFFFF) {
+            throw new IllegalStateException("Message id too long: " + id.length + " bytes");
+        }
+        Instant createdAt = sendMessage.getCreatedAt();
+
+        ByteBuffer buffer = ByteBuffer.allocate(1 + Short.BYTES + id.length + Integer.BYTES + content.length + Long.BYTES);
+        buffer.put(VERSION)
+                .putShort((short) id.length).put(id)
+                .putInt(content.length).put(content)
+                .putLong(Math.addExact(Math.multiplyExact(createdAt.getEpochSecond(), NANOS_PER_SECOND), createdAt.getNano()));
+        return buffer.array();
+    }
+
+    @Override
+    public SendMessage decode(byte[] body) {
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(body);
+            byte version = buffer.get();
+            if (version != VERSION) {
+                throw new IllegalArgumentException("Unsupported binary payload version: " + version);
+            }
+            String id = readString(buffer, Short.toUnsignedInt(buffer.getShort()));
+            String content = readString(buffer, buffer.getInt());
+            long epochNanos = buffer.getLong();
+            Instant createdAt = Instant.ofEpochSecond(
+                    Math.floorDiv(epochNanos, NANOS_PER_SECOND), Math.floorMod(epochNanos, NANOS_PER_SECOND));
+            return new SendMessage(id, content, createdAt);
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Truncated binary payload (" + body.length + " bytes)", e);
+        }
+    }
+
+    private static String readString(ByteBuffer buffer, int length) {
+        if (length < 0 || length > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        String value = new String(buffer.array(), buffer.position(), length, StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + length);
+        return value;
+    }
+}
@@ -0,0 +1,28 @@
+package com.readtimeout.infrastructure.support.codec;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * CBOR (RFC 8949) 코덱
+ *
+ * JSON과 같은 구조를 이진으로 표현 (따옴표/escape 없음, 길이 접두).
+ * Jackson을 쓰는 소비자는 factory만 바꿔 같은 코드로 읽을 수 있음.
+ */
+@Component
+public class CborPayloadCodec extends JacksonPayloadCodec {
+
+    public CborPayloadCodec() {
+        super(new CBORFactory());
+    }
+
+    @Override
+    public String name() {
+        return "cbor";
+    }
+
+    @Override
+    public String contentType() {
+        return "application/cbor";
+    }
+}
@@ -0,0 +1,26 @@
+package com.readtimeout.infrastructure.support.codec;
+
+import com.readtimeout.core.domain.model.Deadline;
+import com.readtimeout.core.domain.model.MessagePriority;
+import com.readtimeout.core.domain.model.SendMessage;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * 이미 JSON 본문으로 인코딩된 메시지 (passthrough 모드)
+ *
+ * 발행 코덱이 JSON이면 MessageSerializer가 payload를 그대로 사용하고, 다른 코덱이면 필드로 다시 인코딩.
+ * payload의 id/content/createdAt은 필드 값과 같아야 함 (생성하는 쪽에서 검증).
+ */
+@Getter
+public class EncodedSendMessage extends SendMessage {
+
+    private final byte[] payload;
+
+    public EncodedSendMessage(String id, String content, Instant createdAt, Deadline deadline,
+                              MessagePriority priority, byte[] payload) {
+        super(id, content, createdAt, deadline, priority);
+        this.payload = payload;
+    }
+}
@@ -0,0 +1,73 @@
+package com.readtimeout.infrastructure.support.codec;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.readtimeout.core.domain.model.SendMessage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Jackson streaming API 기반 코덱 (ObjectMapper/중간 DTO 없이 필드를 직접 읽고 씀)
+ *
+ * <pre>
+ * {"id": string, "content": string, "createdAt": ISO-8601 string}
+ * </pre>
+ *
+ * 알 수 없는 필드는 무시 (필드가 추가되어도 이전 소비자가 읽을 수 있도록).
+ */
+abstract class JacksonPayloadCodec implements PayloadCodec {
+
+    private final JsonFactory factory;
+
+    JacksonPayloadCodec(JsonFactory factory) {
+        this.factory = factory;
+    }
+
+    @Override
+    public byte[] encode(SendMessage sendMessage) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(64 + sendMessage.getContent().length());
+        try (JsonGenerator generator = factory.createGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeStringField("id", sendMessage.getId());
+            generator.writeStringField("content", sendMessage.getContent());
+            generator.writeStringField("createdAt", sendMessage.getCreatedAt().toString());
+            generator.writeEndObject();
+        } catch (IOException e) {
+            throw new IllegalStateException("Message serialization failed: " + sendMessage.getId(), e);
+        }
+        return out.toByteArray();
+    }
+
+    @Override
+    public SendMessage decode(byte[] body) {
+        String id = null;
+        String content = null;
+        Instant createdAt = null;
+        try (JsonParser parser = factory.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalArgumentException("Payload is not an object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "id" -> id = parser.getValueAsString();
+                    case "content" -> content = parser.getValueAsString();
+                    case "createdAt" -> createdAt = Instant.parse(parser.getValueAsString());
+                    default -> parser.skipChildren();
+                }
+            }
+        } catch (IOException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Malformed " + name() + " payload", e);
+        }
+        if (createdAt == null) {
+            throw new IllegalArgumentException("Missing createdAt in " + name() + " payload");
+        }
+        return new SendMessage(id, content, createdAt);
+    }
+}
@@ -0,0 +1,34 @@
+package com.readtimeout.infrastructure.support.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.readtimeout.core.domain.model.SendMessage;
+import com.readtimeout.infrastructure.support.AmqpPayloadEncoder;
+import org.springframework.stereotype.Component;
+
+/**
+ * JSON 코덱 (기본값, 코덱 도입 전과 같은 형식)
+ *
+ * 인코딩은 스레드별 버퍼에 직접 쓰는 AmqpPayloadEncoder, 디코딩은 Jackson streaming parser.
+ */
+@Component
+public class JsonPayloadCodec extends JacksonPayloadCodec {
+
+    public JsonPayloadCodec(ObjectMapper objectMapper) {
+        super(objectMapper.getFactory());
+    }
+
+    @Override
+    public String name() {
+        return "json";
+    }
+
+    @Override
+    public String contentType() {
+        return "application/json";
+    }
+
+    @Override
+    public byte[] encode(SendMessage sendMessage) {
+        return AmqpPayloadEncoder.encode(sendMessage);
+    }
+}
@@ -0,0 +1,30 @@
+package com.readtimeout.infrastructure.support.codec;
+
+import com.readtimeout.core.domain.model.SendMessage;
+
+/**
+ * AMQP 메시지 본문 코덱 SPI
+ *
+ * 발행 측은 rabbitmq.codec으로 선택한 코덱으로 인코딩하고 contentType 속성에 contentType()을 기록,
+ * 소비 측은 contentType으로 코덱을 찾아 디코딩 (PayloadCodecs).
+ * Spring Bean으로 등록하면 name()으로 선택할 수 있음.
+ */
+public interface PayloadCodec {
+
+    /**
+     * rabbitmq.codec 설정 값 (json, cbor, binary 등)
+     */
+    String name();
+
+    /**
+     * AMQP contentType 속성 값
+     */
+    String contentType();
+
+    byte[] encode(SendMessage sendMessage);
+
+    /**
+     * @throws IllegalArgumentException 본문 형식이 올바르지 않은 경우
+     */
+    SendMessage decode(byte[] body);
+}
@@ -0,0 +1,64 @@
+package com.readtimeout.infrastructure.support.codec;
+
+import com.readtimeout.infrastructure.config.RabbitMQProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 등록된 PayloadCodec 목록
+ *
+ * - 발행: rabbitmq.codec 이름의 코덱 (없는 이름이면 기동 실패)
+ * - 소비: contentType의 코덱. contentType이 없으면 코덱 도입 전 메시지로 보고 JSON
+ */
+@Slf4j
+@Component
+public class PayloadCodecs {
+
+    private static final String DEFAULT_CODEC = "json";
+
+    private final PayloadCodec publishCodec;
+    private final PayloadCodec defaultCodec;
+    private final Map<String, PayloadCodec> byContentType = new HashMap<>();
+
+    public PayloadCodecs(List<PayloadCodec> codecs, RabbitMQProperties properties) {
+        Map<String, PayloadCodec> byName = new HashMap<>();
+        for (PayloadCodec codec : codecs) {
+            byName.put(codec.name().toLowerCase(Locale.ROOT), codec);
+            byContentType.put(codec.contentType().toLowerCase(Locale.ROOT), codec);
+        }
+
+        this.publishCodec = byName.get(properties.codec().toLowerCase(Locale.ROOT));
+        if (publishCodec == null) {
+            throw new IllegalArgumentException("Unknown payload codec: " + properties.codec() + " (available: " + byName.keySet() + ")");
+        }
+        this.defaultCodec = byName.get(DEFAULT_CODEC);
+
+        log.info("Payload codec: {} ({})", publishCodec.name(), publishCodec.contentType());
+    }
+
+    public PayloadCodec publishCodec() {
+        return publishCodec;
+    }
+
+    /**
+     * @param contentType AMQP contentType 속성 (파라미터가 붙어 있으면 무시)
+     * @throws IllegalArgumentException 등록되지 않은 contentType
+     */
+    public PayloadCodec forContentType(String contentType) {
+        if (contentType == null || contentType.isBlank()) {
+            return defaultCodec;
+        }
+        int parameters = contentType.indexOf(';');
+        String mediaType = (parameters < 0 ? contentType : contentType.substring(0, parameters)).trim();
+        PayloadCodec codec = byContentType.get(mediaType.toLowerCase(Locale.ROOT));
+        if (codec == null) {
+            throw new IllegalArgumentException("Unsupported content type: " + contentType);
+        }
+        return codec;
+    }
+}
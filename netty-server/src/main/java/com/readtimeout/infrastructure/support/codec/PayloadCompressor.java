@@ -0,0 +1,178 @@
+package com.readtimeout.infrastructure.support.codec;
+
+import com.readtimeout.infrastructure.config.RabbitMQProperties;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * AMQP 본문 압축/해제 (contentEncoding: deflate = zlib 형식)
+ *
+ * - 인코딩된 본문이 thresholdBytes 이상일 때만 압축하고, 압축 결과가 원본보다 작지 않으면 원본 그대로 발행
+ * - Deflater/Inflater는 native 메모리를 잡으므로 매번 만들지 않고 풀에서 빌려 reset 후 반납 (풀이 가득 차면 end)
+ * - 해제는 설정과 무관하게 항상 가능 (발행 측 설정만 바꿔도 consumer가 따라옴)
+ *
+ * 메트릭:
+ * - rabbitmq.compression.ratio: 압축 후 크기 / 원본 크기 (압축을 시도한 본문만)
+ * - rabbitmq.compression.duration{operation=compress|decompress}: 호출 스레드에서 소비한 시간 (CPU 작업이라 CPU 시간에 근사)
+ */
+@Slf4j
+@Component
+public class PayloadCompressor {
+
+    public static final String DEFLATE = "deflate";
+
+    private static final int MAX_DECOMPRESSED_BYTES = 64 * 1024 * 1024;
+
+    private final RabbitMQProperties.CompressionConfig config;
+    private final Pool<Deflater> deflaters;
+    private final Pool<Inflater> inflaters;
+
+    private final DistributionSummary ratio;
+    private final Timer compressTimer;
+    private final Timer decompressTimer;
+
+    public PayloadCompressor(RabbitMQProperties properties, MeterRegistry meterRegistry) {
+        this.config = properties.compression();
+        int level = config.level();
+        this.deflaters = new Pool<>(config.poolSize(), () -> new Deflater(level), Deflater::reset, Deflater::end);
+        this.inflaters = new Pool<>(config.poolSize(), Inflater::new, Inflater::reset, Inflater::end);
+
+        this.ratio = DistributionSummary.builder("rabbitmq.compression.ratio")
+                .description("Compressed size / original size of message bodies over the threshold")
+                .register(meterRegistry);
+        this.compressTimer = Timer.builder("rabbitmq.compression.duration")
+                .description("Time spent compressing or decompressing message bodies")
+                .tag("operation", "compress")
+                .register(meterRegistry);
+        this.decompressTimer = Timer.builder("rabbitmq.compression.duration")
+                .description("Time spent compressing or decompressing message bodies")
+                .tag("operation", "decompress")
+                .register(meterRegistry);
+
+        log.info("PayloadCompressor initialized: enabled={}, threshold={} bytes, level={}",
+                config.enabled(), config.thresholdBytes(), level);
+    }
+
+    /**
+     * @return 압축한 본문, 압축하지 않았으면 null (비활성, 임계값 미만, 압축해도 작아지지 않음)
+     */
+    public byte[] compress(byte[] body) {
+        if (!config.enabled() || body.length < config.thresholdBytes()) {
+            return null;
+        }
+
+        long startTime = System.nanoTime();
+        Deflater deflater = deflaters.borrow();
+        try {
+            deflater.setInput(body);
+            deflater.finish();
+            // 원본 크기 이상이 되면 압축 이득이 없으므로 그 이상은 쓰지 않음
+            byte[] out = new byte[body.length];
+            int length = 0;
+            while (!deflater.finished() && length < out.length) {
+                length += deflater.deflate(out, length, out.length - length);
+            }
+            ratio.record((double) (deflater.finished() ? length : body.length) / body.length);
+            return deflater.finished() ? Arrays.copyOf(out, length) : null;
+        } finally {
+            deflaters.release(deflater);
+            compressTimer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * @param contentEncoding AMQP contentEncoding 속성 (null 또는 identity면 그대로 반환)
+     * @throws IllegalArgumentException 지원하지 않는 encoding이거나 본문이 손상된 경우
+     */
+    public byte[] decompress(byte[] body, String contentEncoding) {
+        if (contentEncoding == null || contentEncoding.isBlank() || "identity".equalsIgnoreCase(contentEncoding)) {
+            return body;
+        }
+        if (!DEFLATE.equalsIgnoreCase(contentEncoding)) {
+            throw new IllegalArgumentException("Unsupported content encoding: " + contentEncoding);
+        }
+
+        long startTime = System.nanoTime();
+        Inflater inflater = inflaters.borrow();
+        try {
+            inflater.setInput(body);
+            byte[] out = new byte[Math.max(256, body.length * 4)];
+            int length = 0;
+            while (!inflater.finished()) {
+                if (length == out.length) {
+                    if (out.length >= MAX_DECOMPRESSED_BYTES) {
+                        throw new IllegalArgumentException("Decompressed body exceeds " + MAX_DECOMPRESSED_BYTES + " bytes");
+                    }
+                    out = Arrays.copyOf(out, Math.min(out.length * 2, MAX_DECOMPRESSED_BYTES));
+                }
+                int n = inflater.inflate(out, length, out.length - length);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalArgumentException("Truncated deflate body (" + body.length + " bytes)");
+                }
+                length += n;
+            }
+            return length == out.length ? out : Arrays.copyOf(out, length);
+        } catch (DataFormatException e) {
+            throw new IllegalArgumentException("Malformed deflate body", e);
+        } finally {
+            inflaters.release(inflater);
+            decompressTimer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        deflaters.close();
+        inflaters.close();
+    }
+
+    /**
+     * 크기 제한이 있는 재사용 풀 (비어 있으면 새로 생성, 가득 차면 반납 대신 폐기)
+     */
+    private static final class Pool<T> {
+        private final BlockingQueue<T> idle;
+        private final Supplier<T> factory;
+        private final Consumer<T> reset;
+        private final Consumer<T> dispose;
+
+        private Pool(int size, Supplier<T> factory, Consumer<T> reset, Consumer<T> dispose) {
+            this.idle = new ArrayBlockingQueue<>(size);
+            this.factory = factory;
+            this.reset = reset;
+            this.dispose = dispose;
+        }
+
+        private T borrow() {
+            T instance = idle.poll();
+            return instance != null ? instance : factory.get();
+        }
+
+        private void release(T instance) {
+            reset.accept(instance);
+            if (!idle.offer(instance)) {
+                dispose.accept(instance);
+            }
+        }
+
+        private void close() {
+            T instance;
+            while ((instance = idle.poll()) != null) {
+                dispose.accept(instance);
+            }
+        }
+    }
+}
@@ -11,10 +11,16 @@ public class HttpRequestRouter {
 
     public enum Route {
         PUBLISH_MESSAGE,
+        BATCH_PUBLISH,
         HEALTH_CHECK
     }
 
     public Route route(HttpMethod method, String uri) {
+        // "/api/message" prefix보다 먼저 검사
+        if (method == HttpMethod.POST && uri.startsWith("/api/messages/batch")) {
+            return Route.BATCH_PUBLISH;
+        }
+
         if (method == HttpMethod.POST && uri.startsWith("/api/message")) {
             return Route.PUBLISH_MESSAGE;
         }
@@ -0,0 +1,178 @@
+package com.readtimeout.presentation.netty;
+
+import com.readtimeout.infrastructure.config.NettyProperties;
+import com.readtimeout.presentation.netty.admission.AdmissionController;
+import com.readtimeout.presentation.netty.handler.AbstractHttpServerHandler;
+import com.readtimeout.presentation.netty.handler.AdmissionHandler;
+import com.readtimeout.presentation.netty.handler.StreamingBatchHandler;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelPipeline;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.handler.codec.http.HttpMessage;
+import io.netty.handler.codec.http.HttpObjectAggregator;
+import io.netty.handler.codec.http.HttpServerCodec;
+import io.netty.handler.codec.http.HttpServerUpgradeHandler;
+import io.netty.handler.codec.http2.CleartextHttp2ServerUpgradeHandler;
+import io.netty.handler.codec.http2.Http2CodecUtil;
+import io.netty.handler.codec.http2.Http2FrameCodec;
+import io.netty.handler.codec.http2.Http2FrameCodecBuilder;
+import io.netty.handler.codec.http2.Http2MultiplexHandler;
+import io.netty.handler.codec.http2.Http2ServerUpgradeCodec;
+import io.netty.handler.codec.http2.Http2Settings;
+import io.netty.handler.codec.http2.Http2StreamChannel;
+import io.netty.handler.codec.http2.Http2StreamFrameToHttpObjectCodec;
+import io.netty.handler.timeout.IdleStateEvent;
+import io.netty.handler.timeout.IdleStateHandler;
+import io.netty.util.AsciiString;
+
+/**
+ * 연결(SocketChannel) 파이프라인 구성
+ *
+ * HTTP/1.1 (기본):
+ *   idleState → httpCodec → admission → [streaming] → aggregator → handler
+ *   (admission: 과부하 시 발행 요청을 본문을 모으기 전에 503으로 거부)
+ *   (streaming: netty.streaming.enabled 시 배치 요청만 aggregator를 거치지 않고 청크 단위 처리)
+ *
+ * h2c 활성화 시 (netty.http2.enabled=true):
+ * - prior-knowledge(PRI * HTTP/2.0 preface) 또는 Upgrade: h2c 요청이면
+ *   Http2FrameCodec + Http2MultiplexHandler로 전환
+ * - 스트림마다 자식 채널이 생성되어 HTTP/1.1 객체로 변환 후 같은 @Sharable 핸들러가 처리
+ *   (Http2StreamFrameToHttpObjectCodec → admission → aggregator → handler)
+ * - Upgrade 없이 들어온 HTTP/1.1 요청은 첫 요청에서 기존 파이프라인으로 전환
+ */
+final class HttpServerChannelInitializer extends ChannelInitializer<SocketChannel> {
+
+    private final NettyProperties properties;
+    private final AbstractHttpServerHandler handler;
+    private final AdmissionController admission;
+
+    HttpServerChannelInitializer(NettyProperties properties, AbstractHttpServerHandler handler,
+                                 AdmissionController admission) {
+        this.properties = properties;
+        this.handler = handler;
+        this.admission = admission;
+    }
+
+    @Override
+    protected void initChannel(SocketChannel ch) {
+        ChannelPipeline pipeline = ch.pipeline();
+
+        if (properties.idleTimeoutSeconds() > 0) {
+            pipeline.addLast("idleState",
+                    new IdleStateHandler(0, 0, properties.idleTimeoutSeconds()));
+        }
+
+        if (properties.http2().enabled()) {
+            configureCleartextHttp2(pipeline);
+            return;
+        }
+
+        pipeline.addLast("httpCodec", new HttpServerCodec());
+        pipeline.addLast("admission", new AdmissionHandler(handler, admission));
+        addStreaming(pipeline);
+        pipeline.addLast("aggregator", new HttpObjectAggregator(properties.maxContentLength()));
+        pipeline.addLast("handler", handler);
+    }
+
+    private void addStreaming(ChannelPipeline pipeline) {
+        if (properties.streaming().enabled()) {
+            pipeline.addLast("streaming", new StreamingBatchHandler(handler, properties));
+        }
+    }
+
+    private void configureCleartextHttp2(ChannelPipeline pipeline) {
+        HttpServerCodec sourceCodec = new HttpServerCodec();
+
+        HttpServerUpgradeHandler upgradeHandler = new HttpServerUpgradeHandler(sourceCodec, protocol -> {
+            if (AsciiString.contentEquals(Http2CodecUtil.HTTP_UPGRADE_PROTOCOL_NAME, protocol)) {
+                return new Http2ServerUpgradeCodec(newHttp2FrameCodec(), newHttp2MultiplexHandler());
+            }
+            return null;
+        }, properties.maxContentLength());
+
+        // prior-knowledge: preface 감지 시 upgrade 핸들러 대신 추가됨
+        ChannelInitializer<Channel> priorKnowledgeHandler = new ChannelInitializer<>() {
+            @Override
+            protected void initChannel(Channel ch) {
+                ch.pipeline().addLast(newHttp2FrameCodec(), newHttp2MultiplexHandler());
+            }
+        };
+
+        pipeline.addLast("h2cUpgrade",
+                new CleartextHttp2ServerUpgradeHandler(sourceCodec, upgradeHandler, priorKnowledgeHandler));
+        pipeline.addLast("http1Fallback", new Http1FallbackHandler());
+        pipeline.addLast("http2IdleClose", new Http2IdleCloseHandler());
+    }
+
+    private Http2FrameCodec newHttp2FrameCodec() {
+        NettyProperties.Http2Config http2 = properties.http2();
+        return Http2FrameCodecBuilder.forServer()
+                .initialSettings(Http2Settings.defaultSettings()
+                        .maxConcurrentStreams(http2.maxConcurrentStreams())
+                        .initialWindowSize(http2.initialWindowSize()))
+                .build();
+    }
+
+    private Http2MultiplexHandler newHttp2MultiplexHandler() {
+        return new Http2MultiplexHandler(new ChannelInitializer<Http2StreamChannel>() {
+            @Override
+            protected void initChannel(Http2StreamChannel ch) {
+                ch.pipeline().addLast("http2ToHttp", new Http2StreamFrameToHttpObjectCodec(true));
+                ch.pipeline().addLast("admission", new AdmissionHandler(handler, admission));
+                addStreaming(ch.pipeline());
+                ch.pipeline().addLast("aggregator", new HttpObjectAggregator(properties.maxContentLength()));
+                ch.pipeline().addLast("handler", handler);
+            }
+        });
+    }
+
+    /**
+     * Upgrade 없이 들어온 HTTP/1.1 요청: 자신을 aggregator + handler로 교체 후 요청 전달
+     */
+    private final class Http1FallbackHandler extends SimpleChannelInboundHandler<HttpMessage> {
+
+        private Http1FallbackHandler() {
+            super(false);
+        }
+
+        @Override
+        protected void channelRead0(ChannelHandlerContext ctx, HttpMessage msg) {
+            ChannelPipeline pipeline = ctx.pipeline();
+            pipeline.remove("http2IdleClose");
+            pipeline.addAfter(ctx.name(), "handler", handler);
+            pipeline.addAfter(ctx.name(), "aggregator", new HttpObjectAggregator(properties.maxContentLength()));
+            if (properties.streaming().enabled()) {
+                pipeline.addAfter(ctx.name(), "streaming", new StreamingBatchHandler(handler, properties));
+            }
+            pipeline.addAfter(ctx.name(), "admission", new AdmissionHandler(handler, admission));
+            pipeline.remove(this);
+            ctx.fireChannelRead(msg);
+        }
+    }
+
+    /**
+     * h2 연결의 idle 처리
+     *
+     * 스트림 자식 채널에서는 연결 단위 IdleStateEvent를 받을 수 없으므로
+     * 부모 파이프라인에서 활성 스트림이 없을 때만 연결을 닫음.
+     * 아직 프로토콜이 정해지지 않은 연결(Http2FrameCodec 없음, 한 바이트도 오지 않음)은 바로 닫음.
+     */
+    private static final class Http2IdleCloseHandler extends ChannelDuplexHandler {
+
+        @Override
+        public void userEventTriggered(ChannelHandlerContext ctx, Object evt) throws Exception {
+            if (evt instanceof IdleStateEvent) {
+                Http2FrameCodec frameCodec = ctx.pipeline().get(Http2FrameCodec.class);
+                if (frameCodec == null || frameCodec.connection().numActiveStreams() == 0) {
+                    ctx.close();
+                }
+                return;
+            }
+            super.userEventTriggered(ctx, evt);
+        }
+    }
+}
@@ -1,16 +1,18 @@
 package com.readtimeout.presentation.netty;
 
 import com.readtimeout.infrastructure.config.NettyProperties;
+import com.readtimeout.infrastructure.support.NettyTransport;
+import com.readtimeout.presentation.netty.admission.AdmissionController;
 import com.readtimeout.presentation.netty.handler.AbstractHttpServerHandler;
 import com.readtimeout.presentation.netty.metrics.EventLoopMetricsCollector;
 import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.channel.*;
-import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.epoll.EpollChannelOption;
+import io.netty.channel.epoll.EpollMode;
+import io.netty.channel.unix.UnixChannelOption;
+import io.netty.incubator.channel.uring.IOUringChannelOption;
 import io.netty.util.concurrent.DefaultThreadFactory;
-import io.netty.channel.socket.SocketChannel;
-import io.netty.channel.socket.nio.NioServerSocketChannel;
-import io.netty.handler.codec.http.HttpObjectAggregator;
-import io.netty.handler.codec.http.HttpServerCodec;
 import io.netty.handler.logging.LogLevel;
 import io.netty.handler.logging.LoggingHandler;
 import jakarta.annotation.PostConstruct;
@@ -19,6 +21,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Netty HTTP Server
  *
@@ -26,6 +31,10 @@ import org.springframework.stereotype.Component;
  * - AbstractHttpServerHandler를 통한 전략 패턴
  * - Spring이 server.mode에 따라 적절한 Handler 구현체 주입
  * - @Sharable 핸들러로 모든 연결에서 재사용
+ * - HTTP/1.1 Keep-Alive + 파이프라이닝 (idle timeout, 연결당 최대 요청 수 제한)
+ * - netty.transport로 NIO/epoll/io_uring 선택 (네이티브 사용 불가 시 NIO fallback)
+ * - netty.http2.enabled 시 같은 포트에서 h2c (prior-knowledge / Upgrade) 스트림 멀티플렉싱
+ * - netty.admission.enabled 시 과부하 신호(EventLoop lag, executor, confirm 대기, heap)에 따라 발행 요청을 입구에서 503 거부
  */
 @Component
 public class NettyHttpServer {
@@ -34,18 +43,21 @@ public class NettyHttpServer {
     private final NettyProperties properties;
     private final AbstractHttpServerHandler handler;
     private final EventLoopMetricsCollector eventLoopMetrics;
+    private final AdmissionController admissionController;
 
     private EventLoopGroup bossGroup;
     private EventLoopGroup workerGroup;
-    private Channel serverChannel;
+    private final List<Channel> serverChannels = new ArrayList<>();
 
     public NettyHttpServer(
             NettyProperties properties,
             AbstractHttpServerHandler handler,
-            EventLoopMetricsCollector eventLoopMetrics) {
+            EventLoopMetricsCollector eventLoopMetrics,
+            AdmissionController admissionController) {
         this.properties = properties;
         this.handler = handler;
         this.eventLoopMetrics = eventLoopMetrics;
+        this.admissionController = admissionController;
     }
 
     @PostConstruct
@@ -63,9 +75,11 @@ public class NettyHttpServer {
     private void startServer() throws InterruptedException {
         log.info("Starting Netty HTTP Server V2 (Non-blocking) on port {}", properties.httpPort());
 
-        bossGroup = new NioEventLoopGroup(properties.bossThreads(),
+        NettyTransport transport = NettyTransport.resolve(properties.transport());
+
+        bossGroup = transport.newEventLoopGroup(properties.bossThreads(),
                 new DefaultThreadFactory("http-boss"));
-        workerGroup = new NioEventLoopGroup(properties.workerThreads(),
+        workerGroup = transport.newEventLoopGroup(properties.workerThreads(),
                 new DefaultThreadFactory("http-worker"));
 
         eventLoopMetrics.registerEventLoopGroup(workerGroup);
@@ -73,31 +87,34 @@ public class NettyHttpServer {
         try {
             ServerBootstrap bootstrap = new ServerBootstrap();
             bootstrap.group(bossGroup, workerGroup)
-                    .channel(NioServerSocketChannel.class)
+                    .channel(transport.serverChannelClass())
                     .option(ChannelOption.SO_BACKLOG, properties.soBacklog())
                     .childOption(ChannelOption.SO_KEEPALIVE, properties.keepAlive())
+                    .childOption(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
                     .handler(new LoggingHandler(LogLevel.INFO))
-                    .childHandler(new ChannelInitializer<SocketChannel>() {
-                        @Override
-                        protected void initChannel(SocketChannel ch) {
-                            ChannelPipeline pipeline = ch.pipeline();
-
-                            pipeline.addLast("httpCodec", new HttpServerCodec());
-                            pipeline.addLast("aggregator",
-                                    new HttpObjectAggregator(properties.maxContentLength()));
-                            pipeline.addLast("handler", handler);
-                        }
-                    });
-
-            ChannelFuture channelFuture = bootstrap.bind(properties.httpPort()).sync();
-            serverChannel = channelFuture.channel();
+                    .childHandler(new HttpServerChannelInitializer(properties, handler, admissionController));
+            applyNativeOptions(bootstrap, transport);
+
+            // SO_REUSEPORT: boss 스레드마다 별도 accept 소켓 → 커널이 연결을 분산
+            int bindCount = isReusePortEnabled(transport) ? Math.max(1, properties.bossThreads()) : 1;
+            for (int i = 0; i < bindCount; i++) {
+                ChannelFuture channelFuture = bootstrap.bind(properties.httpPort()).sync();
+                serverChannels.add(channelFuture.channel());
+            }
 
             log.info("Netty HTTP Server V2 started successfully on port {}", properties.httpPort());
             log.info("Architecture: Non-blocking (RabbitMQ on separate thread pool)");
+            log.info("Transport: {}, Accept sockets: {}", transport, bindCount);
             log.info("Boss Threads: {}, Worker Threads: {}",
                     properties.bossThreads(), properties.workerThreads());
+            log.info("Keep-Alive: idleTimeout={}s, maxRequestsPerConnection={}",
+                    properties.idleTimeoutSeconds(), properties.maxRequestsPerConnection());
+            if (properties.http2().enabled()) {
+                log.info("h2c enabled: maxConcurrentStreams={}, initialWindowSize={}",
+                        properties.http2().maxConcurrentStreams(), properties.http2().initialWindowSize());
+            }
 
-            serverChannel.closeFuture().sync();
+            serverChannels.get(0).closeFuture().sync();
 
         } finally {
             log.info("Netty HTTP Server V2 shutting down");
@@ -109,8 +126,10 @@ public class NettyHttpServer {
     public void shutdown() {
         log.info("Stopping Netty HTTP Server V2");
 
-        if (serverChannel != null && serverChannel.isOpen()) {
-            serverChannel.close();
+        for (Channel serverChannel : serverChannels) {
+            if (serverChannel.isOpen()) {
+                serverChannel.close();
+            }
         }
 
         if (workerGroup != null) {
@@ -124,7 +143,30 @@ public class NettyHttpServer {
         log.info("Netty HTTP Server V2 stopped");
     }
 
+    private boolean isReusePortEnabled(NettyTransport transport) {
+        return properties.epoll().reusePort() && transport.supportsReusePort();
+    }
+
+    private void applyNativeOptions(ServerBootstrap bootstrap, NettyTransport transport) {
+        NettyProperties.EpollConfig epoll = properties.epoll();
+
+        if (transport == NettyTransport.EPOLL) {
+            EpollMode mode = epoll.edgeTriggered() ? EpollMode.EDGE_TRIGGERED : EpollMode.LEVEL_TRIGGERED;
+            bootstrap.option(EpollChannelOption.EPOLL_MODE, mode)
+                    .childOption(EpollChannelOption.EPOLL_MODE, mode);
+            if (epoll.tcpFastopen() > 0) {
+                bootstrap.option(EpollChannelOption.TCP_FASTOPEN, epoll.tcpFastopen());
+            }
+        } else if (transport == NettyTransport.IO_URING && epoll.tcpFastopen() > 0) {
+            bootstrap.option(IOUringChannelOption.TCP_FASTOPEN, epoll.tcpFastopen());
+        }
+
+        if (isReusePortEnabled(transport)) {
+            bootstrap.option(UnixChannelOption.SO_REUSEPORT, true);
+        }
+    }
+
     public boolean isRunning() {
-        return serverChannel != null && serverChannel.isOpen();
+        return serverChannels.stream().anyMatch(Channel::isOpen);
     }
 }
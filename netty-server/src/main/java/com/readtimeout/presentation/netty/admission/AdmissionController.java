@@ -0,0 +1,195 @@
+package com.readtimeout.presentation.netty.admission;
+
+import com.readtimeout.infrastructure.config.NettyProperties;
+import com.readtimeout.presentation.netty.metrics.EventLoopMetricsCollector;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.DoubleSupplier;
+
+/**
+ * 연결 입구(edge)에서의 과부하 판단
+ *
+ * 여러 과부하 신호를 주기적으로 평가해 거부 여부를 volatile 플래그 하나로 유지.
+ * 요청마다 하는 일은 플래그 읽기뿐이므로, AdmissionHandler가 본문을 읽기 전에 싸게 503을 돌려줄 수 있음.
+ *
+ * 신호 (값 / 임계값 = 부하율, 하나라도 1 이상이면 거부 시작):
+ * - eventloop_lag: EventLoop lag (EventLoopMetricsCollector)
+ * - outstanding_confirms: broker confirm 대기 메시지 수 (rabbitmq.confirm.outstanding 게이지가 있는 모드)
+ * - heap: 마지막 GC 후 old gen 사용률 (GC 직후 값이라 쓰레기가 쌓인 것만으로는 올라가지 않음)
+ *
+ * 거부 중에는 모든 신호의 부하율이 RECOVERY_RATIO 아래로 내려가야 해제 (경계에서 켜졌다 꺼졌다 반복 방지).
+ *
+ * rabbit executor 큐 사용률은 신호로 쓰지 않음: 입구에서는 본문을 읽기 전이라 우선순위를 알 수 없어
+ * 큐가 차오를 때 HIGH(OTP)까지 LOW와 함께 거부하게 됨. 큐는 WeightedLaneQueue의 우선순위별 몫이
+ * LOW → NORMAL 순으로 거부(503 thread_pool_full)하고 남은 여유는 HIGH가 사용.
+ */
+@Slf4j
+@Component
+public class AdmissionController {
+
+    private static final double RECOVERY_RATIO = 0.9;
+    private static final String OUTSTANDING_CONFIRMS_GAUGE = "rabbitmq.confirm.outstanding";
+
+    private final NettyProperties.AdmissionConfig config;
+    private final List<Signal> signals = new ArrayList<>();
+    private final Counter rejectedCounter;
+    private final ScheduledExecutorService scheduler;
+
+    private volatile boolean shedding;
+    private volatile String cause = "none";
+
+    public AdmissionController(NettyProperties nettyProperties,
+                               EventLoopMetricsCollector eventLoopMetrics,
+                               MeterRegistry meterRegistry) {
+        this.config = nettyProperties.admission();
+
+        signals.add(new Signal("eventloop_lag", eventLoopMetrics::currentLagMillis, config.maxEventLoopLagMs()));
+
+        signals.add(new Signal("outstanding_confirms",
+                () -> outstandingConfirms(meterRegistry), config.maxOutstandingConfirms()));
+
+        MemoryPoolMXBean oldGen = findOldGenPool();
+        if (oldGen != null) {
+            signals.add(new Signal("heap", () -> heapUsage(oldGen), config.maxHeapUsagePercent() / 100.0));
+        }
+
+        this.rejectedCounter = Counter.builder("admission.rejected")
+                .description("Publish requests rejected at the edge because the server is overloaded")
+                .register(meterRegistry);
+        Gauge.builder("admission.shedding", this, c -> c.shedding ? 1 : 0)
+                .description("1 while publish requests are being shed")
+                .register(meterRegistry);
+        for (Signal signal : signals) {
+            Gauge.builder("admission.signal.load", signal, s -> s.load)
+                    .description("Overload signal relative to its threshold (>= 1 starts shedding)")
+                    .tag("signal", signal.name)
+                    .register(meterRegistry);
+        }
+
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "admission-controller");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(this::evaluate,
+                config.evaluateIntervalMs(), config.evaluateIntervalMs(), TimeUnit.MILLISECONDS);
+
+        log.info("AdmissionController started: enabled={}, signals={}, interval={}ms, retryAfter={}s",
+                config.enabled(), signals.stream().map(s -> s.name).toList(),
+                config.evaluateIntervalMs(), config.retryAfterSeconds());
+    }
+
+    /**
+     * @return false면 요청을 처리하지 말고 503으로 거부
+     */
+    public boolean tryAdmit() {
+        if (shedding && config.enabled()) {
+            rejectedCounter.increment();
+            return false;
+        }
+        return true;
+    }
+
+    public int retryAfterSeconds() {
+        return config.retryAfterSeconds();
+    }
+
+    void evaluate() {
+        try {
+            double threshold = shedding ? RECOVERY_RATIO : 1.0;
+            Signal worst = null;
+            for (Signal signal : signals) {
+                signal.sample();
+                if (signal.load >= threshold && (worst == null || signal.load > worst.load)) {
+                    worst = signal;
+                }
+            }
+
+            boolean overloaded = worst != null;
+            if (overloaded != shedding) {
+                shedding = overloaded;
+                if (overloaded) {
+                    cause = worst.name;
+                    log.warn("Load shedding started: {} at {}% of threshold", worst.name, Math.round(worst.load * 100));
+                } else {
+                    log.info("Load shedding stopped (cause was {})", cause);
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("Failed to evaluate admission signals", e);
+        }
+    }
+
+    private static double outstandingConfirms(MeterRegistry meterRegistry) {
+        double total = 0;
+        for (Gauge gauge : meterRegistry.find(OUTSTANDING_CONFIRMS_GAUGE).gauges()) {
+            double value = gauge.value();
+            if (!Double.isNaN(value)) {
+                total += value;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * GC 후 사용량을 제공하는 heap 풀 중 old generation (G1 Old Gen, Tenured Gen, ZGC Old Generation 등)
+     */
+    private static MemoryPoolMXBean findOldGenPool() {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            String name = pool.getName();
+            if (pool.getType() == MemoryType.HEAP && pool.isCollectionUsageThresholdSupported()
+                    && (name.contains("Old") || name.contains("Tenured"))) {
+                return pool;
+            }
+        }
+        return null;
+    }
+
+    private static double heapUsage(MemoryPoolMXBean pool) {
+        MemoryUsage usage = pool.getCollectionUsage();
+        if (usage == null) {
+            return 0;
+        }
+        long max = usage.getMax() > 0 ? usage.getMax() : Runtime.getRuntime().maxMemory();
+        return (double) usage.getUsed() / max;
+    }
+
+    @PreDestroy
+    public void stop() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * 과부하 신호 하나 (load = value / threshold, 평가 스레드에서만 갱신)
+     */
+    private static final class Signal {
+        private final String name;
+        private final DoubleSupplier value;
+        private final double threshold;
+        private volatile double load;
+
+        private Signal(String name, DoubleSupplier value, double threshold) {
+            this.name = name;
+            this.value = value;
+            this.threshold = threshold;
+        }
+
+        private void sample() {
+            load = value.getAsDouble() / threshold;
+        }
+    }
+}
@@ -2,37 +2,58 @@ package com.readtimeout.presentation.netty.handler;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.readtimeout.core.domain.exception.BackpressureRejectedException;
+import com.readtimeout.core.domain.exception.DeadlineExceededException;
 import com.readtimeout.core.domain.exception.MessagePublishException;
+import com.readtimeout.core.domain.model.Deadline;
+import com.readtimeout.core.domain.model.MessagePriority;
 import com.readtimeout.core.domain.model.SendMessage;
+import com.readtimeout.core.domain.model.SendResult;
+import com.readtimeout.core.domain.port.outbound.MessageIdGenerator;
+import com.readtimeout.infrastructure.config.NettyProperties;
+import com.readtimeout.infrastructure.support.codec.EncodedSendMessage;
 import com.readtimeout.presentation.netty.HttpRequestRouter;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
-import io.netty.buffer.Unpooled;
 import io.netty.channel.*;
 import io.netty.channel.ChannelHandler.Sharable;
 import io.netty.handler.codec.http.*;
-import io.netty.util.CharsetUtil;
+import io.netty.handler.timeout.IdleStateEvent;
 import lombok.extern.slf4j.Slf4j;
 
-import java.nio.charset.StandardCharsets;
-import java.util.Map;
-import java.util.UUID;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.RejectedExecutionException;
 
 @Slf4j
 @Sharable
 public abstract class AbstractHttpServerHandler extends SimpleChannelInboundHandler<FullHttpRequest> {
 
+    static final String REQUEST_TIMEOUT_HEADER = "X-Request-Timeout";
+
     protected final HttpRequestRouter router;
     protected final ObjectMapper objectMapper;
+    protected final NettyProperties properties;
     protected final Counter httpRequestCounter;
 
+    private final PublishRequestDecoder requestDecoder;
+    private final MessageIdGenerator idGenerator;
+
     protected AbstractHttpServerHandler(
             HttpRequestRouter router,
             ObjectMapper objectMapper,
+            NettyProperties properties,
+            MessageIdGenerator idGenerator,
             MeterRegistry meterRegistry) {
         this.router = router;
         this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.idGenerator = idGenerator;
+        this.requestDecoder = new PublishRequestDecoder(objectMapper.getFactory(), properties.passthrough());
         this.httpRequestCounter = Counter.builder("http.requests.total")
                 .description("Total number of HTTP requests")
                 .register(meterRegistry);
@@ -42,149 +63,251 @@ public abstract class AbstractHttpServerHandler extends SimpleChannelInboundHand
     protected void channelRead0(ChannelHandlerContext ctx, FullHttpRequest request) {
         httpRequestCounter.increment();
 
+        HttpExchange exchange = HttpResponseSequencer.of(ctx, properties.maxRequestsPerConnection())
+                .begin(ctx, request);
+        if (exchange == null) {
+            // Connection: close 응답이 예정된 연결에 파이프라인된 요청은 무시
+            return;
+        }
+
         HttpRequestRouter.Route route = router.route(request.method(), request.uri());
 
         if (route == null) {
-            sendNotFound(ctx);
+            sendNotFound(exchange);
             return;
         }
 
         switch (route) {
-            case PUBLISH_MESSAGE -> handlePublishMessage(ctx, request);
-            case HEALTH_CHECK -> handleHealthCheck(ctx);
-            default -> sendNotFound(ctx);
+            case PUBLISH_MESSAGE -> handlePublishMessage(exchange, request, requestDeadline(ctx, request));
+            case BATCH_PUBLISH -> handleBatchPublish(exchange, request, requestDeadline(ctx, request));
+            case HEALTH_CHECK -> handleHealthCheck(exchange);
+            default -> sendNotFound(exchange);
         }
     }
 
-    private void handlePublishMessage(ChannelHandlerContext ctx, FullHttpRequest request) {
+    private void handlePublishMessage(HttpExchange exchange, FullHttpRequest request, Deadline deadline) {
         try {
-            MessageRequest messageRequest = parseRequest(request);
-            SendMessage sendMessage = createMessage(messageRequest);
+            MessageRequest messageRequest = requestDecoder.decode(request.content());
+            SendMessage sendMessage = createMessage(messageRequest, deadline);
 
-            processAndRespond(ctx, sendMessage, messageRequest.requestId());
+            processAndRespond(exchange, sendMessage, messageRequest.requestId());
         } catch (IllegalArgumentException e) {
-            sendBadRequest(ctx, e.getMessage());
+            sendBadRequest(exchange, e.getMessage());
         } catch (Exception e) {
             log.error("Error handling publish request: {}", e.getMessage(), e);
-            sendBadRequest(ctx, "Invalid request: " + e.getMessage());
+            sendBadRequest(exchange, "Invalid request: " + e.getMessage());
         }
     }
 
+    /**
+     * 모드별 메시지 처리 후 exchange로 응답
+     *
+     * 응답은 어느 스레드에서 보내도 무방함 (요청 순서대로 EventLoop에서 write됨)
+     */
     protected abstract void processAndRespond(
-            ChannelHandlerContext ctx,
+            HttpExchange exchange,
             SendMessage sendMessage,
             String requestId);
 
-    private MessageRequest parseRequest(FullHttpRequest request) throws Exception {
-        String body = request.content().toString(StandardCharsets.UTF_8);
-        Map<String, String> json = objectMapper.readValue(body, Map.class);
+    /**
+     * 배치 발행: 디코딩 실패 항목은 그 자리에서 실패로 확정하고 나머지만 모드별로 발행
+     */
+    private void handleBatchPublish(HttpExchange exchange, FullHttpRequest request, Deadline deadline) {
+        List<PublishRequestDecoder.BatchItem> items;
+        try {
+            items = requestDecoder.decodeBatch(request.content(), properties.maxBatchSize());
+        } catch (IllegalArgumentException e) {
+            sendBadRequest(exchange, e.getMessage());
+            return;
+        }
 
-        String content = json.get("content");
-        String requestId = json.get("requestId");
+        SendResult[] results = new SendResult[items.size()];
+        List<SendMessage> sendMessages = new ArrayList<>(items.size());
+        int[] indexes = new int[items.size()];
 
-        if (content == null || content.isBlank()) {
-            throw new IllegalArgumentException("Content is required");
+        for (int i = 0; i < items.size(); i++) {
+            PublishRequestDecoder.BatchItem item = items.get(i);
+            if (item.error() != null) {
+                results[i] = SendResult.failure(null, item.error());
+                continue;
+            }
+            try {
+                SendMessage sendMessage = createMessage(item.request(), deadline);
+                indexes[sendMessages.size()] = i;
+                sendMessages.add(sendMessage);
+            } catch (RuntimeException e) {
+                results[i] = SendResult.failure(null, e);
+            }
         }
 
-        return new MessageRequest(content, requestId);
+        if (sendMessages.isEmpty()) {
+            exchange.respond(HttpResponseEncoder.batch(exchange.alloc(), exchange.protocolVersion(), Arrays.asList(results)));
+            return;
+        }
+
+        CompletionStage<List<SendResult>> published;
+        try {
+            published = sendBatch(sendMessages);
+        } catch (Exception e) {
+            published = CompletableFuture.failedFuture(e);
+        }
+
+        published.whenComplete((publishResults, error) -> {
+            if (error != null) {
+                respondFailure(exchange, "batch of " + sendMessages.size(), error);
+                return;
+            }
+            for (int j = 0; j < sendMessages.size(); j++) {
+                results[indexes[j]] = publishResults.get(j);
+            }
+            exchange.respond(HttpResponseEncoder.batch(exchange.alloc(), exchange.protocolVersion(), Arrays.asList(results)));
+        });
     }
 
-    private SendMessage createMessage(MessageRequest request) {
+    /**
+     * 모드별 배치 발행
+     *
+     * @return 입력 순서와 동일한 메시지별 결과.
+     *         배치 전체가 거부된 경우(동시성 한도 등)에만 예외로 완료
+     */
+    protected abstract CompletionStage<List<SendResult>> sendBatch(List<SendMessage> sendMessages);
+
+    /**
+     * requestId가 없으면 시간 순 ID를 발급 (EventLoop 스레드에서 호출되므로 스레드 간 경합 없음)
+     *
+     * passthrough 요청은 원본 바이트에 빠진 id/createdAt만 채워 EncodedSendMessage로 만듦.
+     */
+    SendMessage createMessage(MessageRequest request, Deadline deadline) {
         String messageId = (request.requestId() != null && !request.requestId().isBlank())
                 ? request.requestId()
-                : UUID.randomUUID().toString();
-        return new SendMessage(messageId, request.content());
-    }
-
-    protected void sendSuccessResponse(ChannelHandlerContext ctx, SendMessage sendMessage, String requestId) {
-        sendJsonResponse(ctx, HttpResponseStatus.OK, Map.of(
-                "status", "published",
-                "messageId", sendMessage.getId(),
-                "requestId", requestId != null ? requestId : ""
-        ));
+                : idGenerator.nextId();
+        Instant createdAt = request.createdAt() != null ? request.createdAt() : Instant.now();
 
-        log.debug("Message published successfully [id={}]", sendMessage.getId());
+        PassthroughEnvelope envelope = request.envelope();
+        if (envelope == null) {
+            return new SendMessage(messageId, request.content(), createdAt, deadline, request.priority());
+        }
+        return new EncodedSendMessage(messageId, request.content(), createdAt, deadline, request.priority(),
+                envelope.complete(messageId, createdAt));
     }
 
-    protected void sendPublishFailureResponse(ChannelHandlerContext ctx, SendMessage sendMessage, Throwable e) {
-        Throwable cause = (e.getCause() != null) ? e.getCause() : e;
-        log.error("Failed to send message [id={}]: {}", sendMessage.getId(), cause.getMessage(), cause);
-
-        var errorResponse = switch (cause) {
-            case BackpressureRejectedException bre ->
-                    new ErrorResponse(HttpResponseStatus.SERVICE_UNAVAILABLE, "rejected", "backpressure", bre.getMessage());
-            case RejectedExecutionException ree ->
-                    new ErrorResponse(HttpResponseStatus.SERVICE_UNAVAILABLE, "rejected", "thread_pool_full", ree.getMessage());
-            case MessagePublishException mpe ->
-                    new ErrorResponse(HttpResponseStatus.SERVICE_UNAVAILABLE, "failed", "publish_failed", mpe.getMessage());
-            default ->
-                    new ErrorResponse(HttpResponseStatus.INTERNAL_SERVER_ERROR, "error", null, "Internal server error");
-        };
-
-        sendJsonResponse(ctx, errorResponse.status(), errorResponse.toMap());
+    /**
+     * 배치의 동시성 한도 우선순위: 가장 높은 항목 기준 (OTP가 섞인 배치가 캠페인 트래픽과 함께 거부되지 않도록)
+     */
+    static MessagePriority batchPriority(List<SendMessage> sendMessages) {
+        MessagePriority highest = MessagePriority.LOW;
+        for (SendMessage sendMessage : sendMessages) {
+            if (sendMessage.getPriority().compareTo(highest) < 0) {
+                highest = sendMessage.getPriority();
+            }
+        }
+        return highest;
     }
 
-    private void handleHealthCheck(ChannelHandlerContext ctx) {
-        sendJsonResponse(ctx, HttpResponseStatus.OK, Map.of(
-                "status", "UP",
-                "architecture", "publisher-confirms"
-        ));
+    /**
+     * 요청 처리 시한: X-Request-Timeout 헤더 → netty.request-timeout-ms 순
+     *
+     * 연결이 끊기면 시한 전이라도 만료로 봄 (응답을 받을 클라이언트가 없으므로).
+     */
+    Deadline requestDeadline(ChannelHandlerContext ctx, HttpRequest request) {
+        long timeoutMs = parseTimeoutMillis(request.headers().get(REQUEST_TIMEOUT_HEADER));
+        if (timeoutMs <= 0) {
+            timeoutMs = properties.requestTimeoutMs();
+        }
+        Deadline deadline = timeoutMs > 0 ? Deadline.after(Duration.ofMillis(timeoutMs)) : Deadline.none();
+        return deadline.cancelledWhen(
+                HttpResponseSequencer.of(ctx, properties.maxRequestsPerConnection())::isDisconnected);
     }
 
-    private void sendNotFound(ChannelHandlerContext ctx) {
-        sendTextResponse(ctx, HttpResponseStatus.NOT_FOUND, "Not Found");
+    /**
+     * "1500", "1500ms", "10s" 형식 (잘못된 값은 -1)
+     */
+    static long parseTimeoutMillis(String value) {
+        if (value == null || value.isBlank()) {
+            return -1;
+        }
+        String trimmed = value.trim();
+        long multiplier = 1;
+        if (trimmed.endsWith("ms")) {
+            trimmed = trimmed.substring(0, trimmed.length() - 2);
+        } else if (trimmed.endsWith("s")) {
+            trimmed = trimmed.substring(0, trimmed.length() - 1);
+            multiplier = 1000;
+        }
+        try {
+            long parsed = Long.parseLong(trimmed.trim());
+            return parsed > 0 ? parsed * multiplier : -1;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
     }
 
-    private void sendBadRequest(ChannelHandlerContext ctx, String message) {
-        sendTextResponse(ctx, HttpResponseStatus.BAD_REQUEST, message);
+    protected void sendSuccessResponse(HttpExchange exchange, SendMessage sendMessage, String requestId) {
+        exchange.respond(HttpResponseEncoder.published(
+                exchange.alloc(), exchange.protocolVersion(), sendMessage.getId(), requestId));
+
+        log.debug("Message published successfully [id={}]", sendMessage.getId());
     }
 
-    protected void sendTextResponse(ChannelHandlerContext ctx, HttpResponseStatus status, String message) {
-        FullHttpResponse response = createTextResponse(status, message);
-        setTextHeaders(response);
-        writeAndClose(ctx, response);
+    protected void sendPublishFailureResponse(HttpExchange exchange, SendMessage sendMessage, Throwable e) {
+        respondFailure(exchange, "id=" + sendMessage.getId(), e);
     }
 
-    protected void sendJsonResponse(ChannelHandlerContext ctx, HttpResponseStatus status, Map<String, String> data) {
-        try {
-            FullHttpResponse response = createJsonResponse(status, data);
-            setJsonHeaders(response);
-            writeAndClose(ctx, response);
-        } catch (Exception e) {
-            log.error("Failed to send JSON response: {}", e.getMessage(), e);
-            sendTextResponse(ctx, HttpResponseStatus.INTERNAL_SERVER_ERROR, "Internal Server Error");
+    private void respondFailure(HttpExchange exchange, String subject, Throwable e) {
+        Throwable cause = (e.getCause() != null) ? e.getCause() : e;
+
+        // 거부 응답은 고정 바디 재사용 + 스택트레이스 로깅 생략 (503 폭주 시 비용 최소화)
+        HttpResponseEncoder.Canned canned = switch (cause) {
+            case BackpressureRejectedException bre -> HttpResponseEncoder.Canned.BACKPRESSURE;
+            case DeadlineExceededException dee -> HttpResponseEncoder.Canned.DEADLINE_EXCEEDED;
+            case RejectedExecutionException ree -> HttpResponseEncoder.Canned.THREAD_POOL_FULL;
+            case MessagePublishException mpe -> HttpResponseEncoder.Canned.PUBLISH_FAILED;
+            default -> HttpResponseEncoder.Canned.INTERNAL_ERROR;
+        };
+
+        if (canned == HttpResponseEncoder.Canned.BACKPRESSURE || canned == HttpResponseEncoder.Canned.THREAD_POOL_FULL
+                || canned == HttpResponseEncoder.Canned.DEADLINE_EXCEEDED) {
+            log.debug("Message rejected [{}]: {}", subject, cause.getMessage());
+        } else {
+            log.error("Failed to send message [{}]: {}", subject, cause.getMessage(), cause);
         }
+
+        exchange.respond(HttpResponseEncoder.canned(exchange.protocolVersion(), canned));
     }
 
-    private FullHttpResponse createTextResponse(HttpResponseStatus status, String message) {
-        return new DefaultFullHttpResponse(
-                HttpVersion.HTTP_1_1,
-                status,
-                Unpooled.copiedBuffer(message, CharsetUtil.UTF_8)
-        );
+    private void handleHealthCheck(HttpExchange exchange) {
+        exchange.respond(HttpResponseEncoder.canned(exchange.protocolVersion(), HttpResponseEncoder.Canned.HEALTH));
     }
 
-    private FullHttpResponse createJsonResponse(HttpResponseStatus status, Map<String, String> data) throws Exception {
-        String json = objectMapper.writeValueAsString(data);
-        return new DefaultFullHttpResponse(
-                HttpVersion.HTTP_1_1,
-                status,
-                Unpooled.copiedBuffer(json, CharsetUtil.UTF_8)
-        );
+    private void sendNotFound(HttpExchange exchange) {
+        exchange.respond(HttpResponseEncoder.canned(exchange.protocolVersion(), HttpResponseEncoder.Canned.NOT_FOUND));
     }
 
-    private void setTextHeaders(FullHttpResponse response) {
-        response.headers().set(HttpHeaderNames.CONTENT_TYPE, "text/plain; charset=UTF-8");
-        response.headers().set(HttpHeaderNames.CONTENT_LENGTH, response.content().readableBytes());
+    private void sendBadRequest(HttpExchange exchange, String message) {
+        exchange.respond(HttpResponseEncoder.text(
+                exchange.alloc(), exchange.protocolVersion(), HttpResponseStatus.BAD_REQUEST, message));
     }
 
-    private void setJsonHeaders(FullHttpResponse response) {
-        response.headers().set(HttpHeaderNames.CONTENT_TYPE, "application/json; charset=UTF-8");
-        response.headers().set(HttpHeaderNames.CONTENT_LENGTH, response.content().readableBytes());
+    /**
+     * Idle 연결 정리: 처리 중인 요청이 없을 때만 닫음
+     */
+    @Override
+    public void userEventTriggered(ChannelHandlerContext ctx, Object evt) throws Exception {
+        if (evt instanceof IdleStateEvent) {
+            HttpResponseSequencer sequencer = HttpResponseSequencer.of(ctx, properties.maxRequestsPerConnection());
+            if (sequencer.isIdle()) {
+                log.debug("Closing idle connection: {}", ctx.channel().remoteAddress());
+                ctx.close();
+            }
+            return;
+        }
+        super.userEventTriggered(ctx, evt);
     }
 
-    private void writeAndClose(ChannelHandlerContext ctx, FullHttpResponse response) {
-        ctx.writeAndFlush(response).addListener(ChannelFutureListener.CLOSE);
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+        HttpResponseSequencer.of(ctx, properties.maxRequestsPerConnection()).discardRemaining();
+        super.channelInactive(ctx);
     }
 
     @Override
@@ -193,15 +316,15 @@ public abstract class AbstractHttpServerHandler extends SimpleChannelInboundHand
         ctx.close();
     }
 
-    protected record MessageRequest(String content, String requestId) {
-    }
+    /**
+     * @param createdAt passthrough 요청의 createdAt (없으면 null, 수신 시각 사용)
+     * @param envelope  passthrough 요청의 원본 바이트 (passthrough가 아니면 null)
+     */
+    protected record MessageRequest(String content, String requestId, MessagePriority priority,
+                                    Instant createdAt, PassthroughEnvelope envelope) {
 
-    private record ErrorResponse(HttpResponseStatus status, String statusText, String reason, String message) {
-        Map<String, String> toMap() {
-            if (reason != null) {
-                return Map.of("status", statusText, "reason", reason, "message", message);
-            }
-            return Map.of("status", statusText, "message", message);
+        MessageRequest withEnvelope(PassthroughEnvelope envelope) {
+            return new MessageRequest(content, requestId, priority, createdAt, envelope);
         }
     }
 }
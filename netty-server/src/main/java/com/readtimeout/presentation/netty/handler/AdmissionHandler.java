@@ -0,0 +1,79 @@
+package com.readtimeout.presentation.netty.handler;
+
+import com.readtimeout.presentation.netty.HttpRequestRouter;
+import com.readtimeout.presentation.netty.admission.AdmissionController;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.HttpUtil;
+import io.netty.handler.codec.http.LastHttpContent;
+import io.netty.util.ReferenceCountUtil;
+
+/**
+ * 과부하 시 발행 요청을 본문 수신/파싱 전에 거부하는 핸들러 (연결마다 생성, codec 바로 뒤에 위치)
+ *
+ * 요청 헤더(HttpRequest)가 도착했을 때 AdmissionController가 거부 중이면:
+ * - 고정 바디 503 + Retry-After로 응답 (HttpResponseSequencer를 거치므로 파이프라인 순서 유지)
+ * - 뒤따르는 본문 청크는 aggregator/streaming으로 넘기지 않고 버림 (버퍼링, JSON 파싱 없음)
+ * - Expect: 100-continue 요청은 본문이 오지 않을 수 있으므로 응답 후 연결을 닫음
+ *
+ * health check 등 발행이 아닌 요청은 항상 통과.
+ */
+public final class AdmissionHandler extends ChannelInboundHandlerAdapter {
+
+    private final AbstractHttpServerHandler handler;
+    private final AdmissionController admission;
+    private final int maxRequestsPerConnection;
+
+    private boolean discarding;
+
+    public AdmissionHandler(AbstractHttpServerHandler handler, AdmissionController admission) {
+        this.handler = handler;
+        this.admission = admission;
+        this.maxRequestsPerConnection = handler.properties.maxRequestsPerConnection();
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) {
+        if (discarding) {
+            discard(msg);
+            return;
+        }
+
+        if (msg instanceof HttpRequest request && isPublish(request) && !admission.tryAdmit()) {
+            handler.httpRequestCounter.increment();
+            reject(ctx, request);
+            discard(msg);
+            return;
+        }
+
+        ctx.fireChannelRead(msg);
+    }
+
+    private boolean isPublish(HttpRequest request) {
+        HttpRequestRouter.Route route = handler.router.route(request.method(), request.uri());
+        return route == HttpRequestRouter.Route.PUBLISH_MESSAGE || route == HttpRequestRouter.Route.BATCH_PUBLISH;
+    }
+
+    private void reject(ChannelHandlerContext ctx, HttpRequest request) {
+        if (HttpUtil.is100ContinueExpected(request)) {
+            HttpUtil.setKeepAlive(request, false);
+        }
+
+        discarding = true;
+        HttpExchange exchange = HttpResponseSequencer.of(ctx, maxRequestsPerConnection).begin(ctx, request);
+        if (exchange != null) {
+            exchange.respond(HttpResponseEncoder.overloaded(exchange.protocolVersion(), admission.retryAfterSeconds()));
+        }
+    }
+
+    /**
+     * 거부한 요청의 메시지를 해제하고, 마지막 청크면 다음 요청부터 다시 판단
+     */
+    private void discard(Object msg) {
+        if (msg instanceof LastHttpContent) {
+            discarding = false;
+        }
+        ReferenceCountUtil.release(msg);
+    }
+}
@@ -0,0 +1,81 @@
+package com.readtimeout.presentation.netty.handler;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.readtimeout.core.domain.model.SendMessage;
+import com.readtimeout.core.domain.model.SendResult;
+import com.readtimeout.core.domain.port.inbound.AsyncMessageSendUseCase;
+import com.readtimeout.core.domain.port.outbound.MessageIdGenerator;
+import com.readtimeout.infrastructure.config.NettyProperties;
+import com.readtimeout.infrastructure.support.ConcurrencyLimiter;
+import com.readtimeout.presentation.netty.HttpRequestRouter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * async-confirm 모드 핸들러
+ *
+ * 처리 흐름은 non-blocking과 같고, 발행 완료는 AsyncConfirmRabbitMQPublisher의
+ * ConfirmListener 콜백에서 전달됨 (발행 대기로 점유되는 스레드 없음).
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "server.mode", havingValue = "async-confirm")
+public class AsyncConfirmHttpServerHandler extends AbstractHttpServerHandler {
+
+    private final AsyncMessageSendUseCase useCase;
+    private final ConcurrencyLimiter limiter;
+
+    public AsyncConfirmHttpServerHandler(
+            HttpRequestRouter router,
+            ObjectMapper objectMapper,
+            NettyProperties properties,
+            MessageIdGenerator idGenerator,
+            AsyncMessageSendUseCase useCase,
+            ConcurrencyLimiter limiter,
+            MeterRegistry meterRegistry) {
+        super(router, objectMapper, properties, idGenerator, meterRegistry);
+        this.useCase = useCase;
+        this.limiter = limiter;
+    }
+
+    @Override
+    protected void processAndRespond(HttpExchange exchange, SendMessage sendMessage, String requestId) {
+        long startTime;
+        try {
+            startTime = limiter.acquire(sendMessage.getPriority());
+        } catch (Exception e) {
+            sendPublishFailureResponse(exchange, sendMessage, e);
+            return;
+        }
+
+        useCase.send(sendMessage)
+                .whenComplete((v, error) -> {
+                    limiter.release(startTime, error);
+                    if (error != null) {
+                        sendPublishFailureResponse(exchange, sendMessage, error);
+                    } else {
+                        sendSuccessResponse(exchange, sendMessage, requestId);
+                    }
+                });
+    }
+
+    @Override
+    protected CompletionStage<List<SendResult>> sendBatch(List<SendMessage> sendMessages) {
+        int permits = sendMessages.size();
+        long startTime;
+        try {
+            startTime = limiter.acquire(permits, batchPriority(sendMessages));
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        return useCase.sendBatch(sendMessages)
+                .whenComplete((results, error) -> limiter.release(permits, startTime, error));
+    }
+}
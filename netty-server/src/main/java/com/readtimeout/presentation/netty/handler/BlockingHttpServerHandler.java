@@ -2,14 +2,20 @@ package com.readtimeout.presentation.netty.handler;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.readtimeout.core.domain.model.SendMessage;
+import com.readtimeout.core.domain.model.SendResult;
 import com.readtimeout.core.domain.port.inbound.MessageSendUseCase;
+import com.readtimeout.core.domain.port.outbound.MessageIdGenerator;
+import com.readtimeout.infrastructure.config.NettyProperties;
 import com.readtimeout.presentation.netty.HttpRequestRouter;
 import io.micrometer.core.instrument.MeterRegistry;
-import io.netty.channel.ChannelHandlerContext;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
 @Slf4j
 @Component
 @ConditionalOnProperty(name = "server.mode", havingValue = "blocking")
@@ -20,19 +26,26 @@ public class BlockingHttpServerHandler extends AbstractHttpServerHandler {
     public BlockingHttpServerHandler(
             HttpRequestRouter router,
             ObjectMapper objectMapper,
+            NettyProperties properties,
+            MessageIdGenerator idGenerator,
             MessageSendUseCase useCase,
             MeterRegistry meterRegistry) {
-        super(router, objectMapper, meterRegistry);
+        super(router, objectMapper, properties, idGenerator, meterRegistry);
         this.useCase = useCase;
     }
 
     @Override
-    protected void processAndRespond(ChannelHandlerContext ctx, SendMessage sendMessage, String requestId) {
+    protected void processAndRespond(HttpExchange exchange, SendMessage sendMessage, String requestId) {
         try {
             useCase.send(sendMessage);
-            sendSuccessResponse(ctx, sendMessage, requestId);
+            sendSuccessResponse(exchange, sendMessage, requestId);
         } catch (Exception e) {
-            sendPublishFailureResponse(ctx, sendMessage, e);
+            sendPublishFailureResponse(exchange, sendMessage, e);
         }
     }
+
+    @Override
+    protected CompletionStage<List<SendResult>> sendBatch(List<SendMessage> sendMessages) {
+        return CompletableFuture.completedFuture(useCase.sendBatch(sendMessages));
+    }
 }
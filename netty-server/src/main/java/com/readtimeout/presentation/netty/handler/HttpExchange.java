@@ -0,0 +1,87 @@
+package com.readtimeout.presentation.netty.handler;
+
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.util.ReferenceCountUtil;
+
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 요청-응답 한 쌍(HTTP Exchange)
+ *
+ * 핸들러 구현체는 ChannelHandlerContext 대신 이 객체로 응답함.
+ * 어느 스레드에서 respond()를 호출하더라도 EventLoop로 전달되어
+ * HttpResponseSequencer가 요청 순서대로 응답을 write함.
+ */
+public final class HttpExchange {
+
+    private final ChannelHandlerContext ctx;
+    private final HttpResponseSequencer sequencer;
+    private final HttpVersion protocolVersion;
+    private final boolean keepAlive;
+
+    private FullHttpResponse response;
+    private boolean discarded;
+
+    HttpExchange(ChannelHandlerContext ctx, HttpResponseSequencer sequencer,
+                 HttpVersion protocolVersion, boolean keepAlive) {
+        this.ctx = ctx;
+        this.sequencer = sequencer;
+        this.protocolVersion = protocolVersion;
+        this.keepAlive = keepAlive;
+    }
+
+    public ChannelHandlerContext ctx() {
+        return ctx;
+    }
+
+    public ByteBufAllocator alloc() {
+        return ctx.alloc();
+    }
+
+    public HttpVersion protocolVersion() {
+        return protocolVersion;
+    }
+
+    public boolean keepAlive() {
+        return keepAlive;
+    }
+
+    /**
+     * 응답 전송 (스레드 무관)
+     */
+    public void respond(FullHttpResponse response) {
+        if (ctx.executor().inEventLoop()) {
+            sequencer.complete(this, response);
+            return;
+        }
+
+        try {
+            ctx.executor().execute(() -> sequencer.complete(this, response));
+        } catch (RejectedExecutionException e) {
+            ReferenceCountUtil.release(response);
+        }
+    }
+
+    FullHttpResponse response() {
+        return response;
+    }
+
+    boolean setResponse(FullHttpResponse response) {
+        if (discarded || this.response != null) {
+            return false;
+        }
+        this.response = response;
+        return true;
+    }
+
+    void discard() {
+        discarded = true;
+        if (response != null) {
+            ReferenceCountUtil.release(response);
+            response = null;
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package com.readtimeout.presentation.netty.handler;
+
+import com.readtimeout.core.domain.model.SendResult;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.util.AsciiString;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 사전 인코딩된 HTTP 응답 생성기
+ *
+ * Map.of + ObjectMapper + Unpooled.copiedBuffer 대신:
+ * - 고정 응답(404/503/500/health)은 읽기 전용 direct 버퍼를 duplicate()로 재사용 (할당/복사 없음)
+ * - 성공 응답은 JSON 골격 바이트 사이에 messageId/requestId만 끼워 넣어 pooled 버퍼에 작성
+ * - 헤더 값은 AsciiString 상수 사용, 헤더 검증 생략
+ */
+final class HttpResponseEncoder {
+
+    private static final AsciiString JSON_CONTENT_TYPE = AsciiString.cached("application/json; charset=UTF-8");
+    private static final AsciiString TEXT_CONTENT_TYPE = AsciiString.cached("text/plain; charset=UTF-8");
+
+    private static final byte[] PUBLISHED_PREFIX = ascii("{\"status\":\"published\",\"messageId\":\"");
+    private static final byte[] PUBLISHED_REQUEST_ID = ascii("\",\"requestId\":\"");
+    private static final byte[] PUBLISHED_SUFFIX = ascii("\"}");
+    private static final int PUBLISHED_FIXED_LENGTH =
+            PUBLISHED_PREFIX.length + PUBLISHED_REQUEST_ID.length + PUBLISHED_SUFFIX.length;
+
+    private static final byte[] BATCH_STATUS = ascii("{\"status\":\"");
+    private static final byte[] BATCH_TOTAL = ascii("\",\"total\":");
+    private static final byte[] BATCH_PUBLISHED = ascii(",\"published\":");
+    private static final byte[] BATCH_FAILED = ascii(",\"failed\":");
+    private static final byte[] BATCH_RESULTS = ascii(",\"results\":[");
+    private static final byte[] BATCH_SUFFIX = ascii("]}");
+    private static final byte[] ITEM_INDEX = ascii("{\"index\":");
+    private static final byte[] ITEM_PUBLISHED = ascii(",\"status\":\"published\"");
+    private static final byte[] ITEM_FAILED = ascii(",\"status\":\"failed\"");
+    private static final byte[] ITEM_MESSAGE_ID = ascii(",\"messageId\":\"");
+    private static final byte[] ITEM_REASON = ascii(",\"reason\":\"");
+    // 항목 하나당 고정 바이트 + UUID 길이 정도를 초기 용량으로 잡음 (부족하면 버퍼가 확장됨)
+    private static final int BATCH_ITEM_ESTIMATE = 96;
+
+    /**
+     * 고정 응답
+     */
+    enum Canned {
+        NOT_FOUND(HttpResponseStatus.NOT_FOUND, TEXT_CONTENT_TYPE, "Not Found"),
+        HEALTH(HttpResponseStatus.OK, JSON_CONTENT_TYPE,
+                "{\"status\":\"UP\",\"architecture\":\"publisher-confirms\"}"),
+        BACKPRESSURE(HttpResponseStatus.SERVICE_UNAVAILABLE, JSON_CONTENT_TYPE,
+                "{\"status\":\"rejected\",\"reason\":\"backpressure\",\"message\":\"Too many concurrent requests\"}"),
+        THREAD_POOL_FULL(HttpResponseStatus.SERVICE_UNAVAILABLE, JSON_CONTENT_TYPE,
+                "{\"status\":\"rejected\",\"reason\":\"thread_pool_full\",\"message\":\"Publisher thread pool is full\"}"),
+        PUBLISH_FAILED(HttpResponseStatus.SERVICE_UNAVAILABLE, JSON_CONTENT_TYPE,
+                "{\"status\":\"failed\",\"reason\":\"publish_failed\",\"message\":\"Message was not confirmed by broker\"}"),
+        OVERLOADED(HttpResponseStatus.SERVICE_UNAVAILABLE, JSON_CONTENT_TYPE,
+                "{\"status\":\"rejected\",\"reason\":\"overloaded\",\"message\":\"Server is overloaded, retry later\"}"),
+        // 다른 거부 응답과 같은 형식(status/reason/message). 클라이언트는 reason으로 구분
+        DEADLINE_EXCEEDED(HttpResponseStatus.GATEWAY_TIMEOUT, JSON_CONTENT_TYPE,
+                "{\"status\":\"dropped\",\"reason\":\"deadline_exceeded\",\"message\":\"Request deadline passed before processing\"}"),
+        INTERNAL_ERROR(HttpResponseStatus.INTERNAL_SERVER_ERROR, JSON_CONTENT_TYPE,
+                "{\"status\":\"error\",\"message\":\"Internal server error\"}");
+
+        private final HttpResponseStatus status;
+        private final AsciiString contentType;
+        private final ByteBuf body;
+
+        Canned(HttpResponseStatus status, AsciiString contentType, String body) {
+            this.status = status;
+            this.contentType = contentType;
+            this.body = Unpooled.unreleasableBuffer(
+                    Unpooled.directBuffer().writeBytes(body.getBytes(StandardCharsets.UTF_8)).asReadOnly());
+        }
+    }
+
+    private HttpResponseEncoder() {
+    }
+
+    static FullHttpResponse canned(HttpVersion version, Canned canned) {
+        return response(version, canned.status, canned.contentType, canned.body.duplicate());
+    }
+
+    /**
+     * 과부하 거부 응답 (고정 바디 + Retry-After)
+     */
+    static FullHttpResponse overloaded(HttpVersion version, int retryAfterSeconds) {
+        FullHttpResponse response = canned(version, Canned.OVERLOADED);
+        response.headers().setInt(HttpHeaderNames.RETRY_AFTER, retryAfterSeconds);
+        return response;
+    }
+
+    static FullHttpResponse published(ByteBufAllocator alloc, HttpVersion version,
+                                      String messageId, String requestId) {
+        String safeRequestId = requestId != null ? requestId : "";
+        ByteBuf body = alloc.buffer(PUBLISHED_FIXED_LENGTH
+                + ByteBufUtil.utf8MaxBytes(messageId) + ByteBufUtil.utf8MaxBytes(safeRequestId));
+
+        body.writeBytes(PUBLISHED_PREFIX);
+        writeJsonString(body, messageId);
+        body.writeBytes(PUBLISHED_REQUEST_ID);
+        writeJsonString(body, safeRequestId);
+        body.writeBytes(PUBLISHED_SUFFIX);
+
+        return response(version, HttpResponseStatus.OK, JSON_CONTENT_TYPE, body);
+    }
+
+    /**
+     * 배치 발행 결과 응답
+     *
+     * 일부 항목이 실패해도 200으로 응답하고 항목별 status로 구분 (부분 실패).
+     * 전체 status: 모두 성공 published, 일부 실패 partial, 모두 실패 failed
+     */
+    static FullHttpResponse batch(ByteBufAllocator alloc, HttpVersion version, List<SendResult> results) {
+        int published = 0;
+        for (SendResult result : results) {
+            if (result.published()) {
+                published++;
+            }
+        }
+        int failed = results.size() - published;
+        String status = failed == 0 ? "published" : (published == 0 ? "failed" : "partial");
+
+        ByteBuf body = alloc.buffer(64 + results.size() * BATCH_ITEM_ESTIMATE);
+        body.writeBytes(BATCH_STATUS);
+        ByteBufUtil.writeAscii(body, status);
+        body.writeBytes(BATCH_TOTAL);
+        ByteBufUtil.writeAscii(body, Integer.toString(results.size()));
+        body.writeBytes(BATCH_PUBLISHED);
+        ByteBufUtil.writeAscii(body, Integer.toString(published));
+        body.writeBytes(BATCH_FAILED);
+        ByteBufUtil.writeAscii(body, Integer.toString(failed));
+        body.writeBytes(BATCH_RESULTS);
+
+        for (int i = 0; i < results.size(); i++) {
+            SendResult result = results.get(i);
+            if (i > 0) {
+                body.writeByte(',');
+            }
+            body.writeBytes(ITEM_INDEX);
+            ByteBufUtil.writeAscii(body, Integer.toString(i));
+            body.writeBytes(result.published() ? ITEM_PUBLISHED : ITEM_FAILED);
+            if (result.messageId() != null) {
+                body.writeBytes(ITEM_MESSAGE_ID);
+                writeJsonString(body, result.messageId());
+                body.writeByte('"');
+            }
+            if (result.reason() != null) {
+                body.writeBytes(ITEM_REASON);
+                writeJsonString(body, result.reason());
+                body.writeByte('"');
+            }
+            body.writeByte('}');
+        }
+        body.writeBytes(BATCH_SUFFIX);
+
+        return response(version, HttpResponseStatus.OK, JSON_CONTENT_TYPE, body);
+    }
+
+    static FullHttpResponse text(ByteBufAllocator alloc, HttpVersion version,
+                                 HttpResponseStatus status, String message) {
+        ByteBuf body = alloc.buffer(ByteBufUtil.utf8MaxBytes(message));
+        ByteBufUtil.writeUtf8(body, message);
+        return response(version, status, TEXT_CONTENT_TYPE, body);
+    }
+
+    private static FullHttpResponse response(HttpVersion version, HttpResponseStatus status,
+                                             AsciiString contentType, ByteBuf body) {
+        FullHttpResponse response = new DefaultFullHttpResponse(version, status, body, false, false);
+        response.headers()
+                .set(HttpHeaderNames.CONTENT_TYPE, contentType)
+                .setInt(HttpHeaderNames.CONTENT_LENGTH, body.readableBytes());
+        return response;
+    }
+
+    /**
+     * JSON 문자열 값 작성 (따옴표 제외)
+     *
+     * ID는 대부분 이스케이프가 필요 없으므로 한 번 스캔 후 그대로 UTF-8 인코딩.
+     */
+    private static void writeJsonString(ByteBuf out, String value) {
+        if (!needsEscaping(value)) {
+            ByteBufUtil.writeUtf8(out, value);
+            return;
+        }
+
+        StringBuilder escaped = new StringBuilder(value.length() + 16);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> escaped.append("\\\"");
+                case '\\' -> escaped.append("\\\\");
+                case '\n' -> escaped.append("\\n");
+                case '\r' -> escaped.append("\\r");
+                case '\t' -> escaped.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        escaped.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        escaped.append(c);
+                    }
+                }
+            }
+        }
+        ByteBufUtil.writeUtf8(out, escaped);
+    }
+
+    private static boolean needsEscaping(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x20 || c == '"' || c == '\\') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,129 @@
+package com.readtimeout.presentation.netty.handler;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.HttpUtil;
+import io.netty.util.AttributeKey;
+import io.netty.util.ReferenceCountUtil;
+
+import java.util.ArrayDeque;
+
+/**
+ * 연결(Channel) 단위 HTTP 응답 순서 보장기
+ *
+ * HTTP/1.1 파이프라이닝에서는 요청 순서대로 응답해야 하지만,
+ * Non-blocking/Reactive/Virtual 모드는 다른 스레드에서 응답이 완료되므로 순서가 뒤섞일 수 있음.
+ * - 요청 수신 시 HttpExchange를 큐에 등록
+ * - 응답 완료 시 큐의 앞쪽부터 완료된 응답만 순서대로 write 후 한 번에 flush
+ * - Connection: close 응답 이후 파이프라인된 요청은 처리하지 않음
+ *
+ * 모든 상태는 해당 Channel의 EventLoop에서만 접근함 (락 불필요).
+ * 단, disconnected는 요청 처리 스레드가 deadline 확인 시 읽음.
+ */
+final class HttpResponseSequencer {
+
+    private static final AttributeKey<HttpResponseSequencer> KEY =
+            AttributeKey.valueOf(HttpResponseSequencer.class, "sequencer");
+
+    private final Channel channel;
+    private final int maxRequestsPerConnection;
+    private final ArrayDeque<HttpExchange> inFlight = new ArrayDeque<>();
+
+    private int requestCount;
+    private boolean closing;
+    // 연결 종료 후 true (처리 중인 요청의 Deadline이 참조)
+    private volatile boolean disconnected;
+
+    private HttpResponseSequencer(Channel channel, int maxRequestsPerConnection) {
+        this.channel = channel;
+        this.maxRequestsPerConnection = maxRequestsPerConnection;
+    }
+
+    static HttpResponseSequencer of(ChannelHandlerContext ctx, int maxRequestsPerConnection) {
+        HttpResponseSequencer sequencer = ctx.channel().attr(KEY).get();
+        if (sequencer == null) {
+            sequencer = new HttpResponseSequencer(ctx.channel(), maxRequestsPerConnection);
+            ctx.channel().attr(KEY).set(sequencer);
+        }
+        return sequencer;
+    }
+
+    /**
+     * 새 요청을 등록하고 응답 슬롯을 반환
+     *
+     * @return Connection: close가 이미 결정된 연결이면 null (요청 무시)
+     */
+    HttpExchange begin(ChannelHandlerContext ctx, HttpRequest request) {
+        if (closing) {
+            return null;
+        }
+
+        requestCount++;
+        boolean keepAlive = HttpUtil.isKeepAlive(request)
+                && (maxRequestsPerConnection <= 0 || requestCount < maxRequestsPerConnection);
+        if (!keepAlive) {
+            closing = true;
+        }
+
+        HttpExchange exchange = new HttpExchange(ctx, this, request.protocolVersion(), keepAlive);
+        inFlight.addLast(exchange);
+        return exchange;
+    }
+
+    /**
+     * 연결이 끊겨 더 이상 응답을 보낼 수 없는지 여부 (모든 스레드에서 호출 가능)
+     */
+    boolean isDisconnected() {
+        return disconnected;
+    }
+
+    boolean isIdle() {
+        return inFlight.isEmpty();
+    }
+
+    /**
+     * 응답 완료 처리 (EventLoop에서 호출)
+     */
+    void complete(HttpExchange exchange, FullHttpResponse response) {
+        if (!channel.isActive() || !exchange.setResponse(response)) {
+            ReferenceCountUtil.release(response);
+            return;
+        }
+
+        boolean written = false;
+        HttpExchange head;
+        while ((head = inFlight.peekFirst()) != null && head.response() != null) {
+            inFlight.pollFirst();
+            FullHttpResponse ready = head.response();
+            HttpUtil.setKeepAlive(ready, head.keepAlive());
+
+            if (!head.keepAlive()) {
+                channel.writeAndFlush(ready).addListener(ChannelFutureListener.CLOSE);
+                discardRemaining();
+                return;
+            }
+
+            channel.write(ready, channel.voidPromise());
+            written = true;
+        }
+
+        if (written) {
+            channel.flush();
+        }
+    }
+
+    /**
+     * 연결 종료 시 아직 write되지 않은 응답 해제
+     */
+    void discardRemaining() {
+        closing = true;
+        disconnected = true;
+        HttpExchange exchange;
+        while ((exchange = inFlight.pollFirst()) != null) {
+            exchange.discard();
+        }
+    }
+}
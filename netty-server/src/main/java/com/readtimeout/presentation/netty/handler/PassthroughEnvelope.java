@@ -0,0 +1,62 @@
+package com.readtimeout.presentation.netty.handler;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+/**
+ * passthrough 모드에서 요청 바디의 메시지 객체 원본 바이트 ({ ... } 범위)
+ *
+ * 클라이언트가 AMQP 본문 형식({"id","content","createdAt"})으로 보낸 객체를 다시 직렬화하지 않고 그대로 발행.
+ * id/createdAt이 없으면 여는 중괄호 바로 뒤에 서버가 정한 값을 끼워 넣음 (나머지 바이트는 복사만).
+ *
+ * @param bytes        객체 원본 바이트 (첫 바이트는 '{', 필드가 하나 이상 있음)
+ * @param hasId        원본에 id 필드가 있는지
+ * @param hasCreatedAt 원본에 createdAt 필드가 있는지
+ */
+record PassthroughEnvelope(byte[] bytes, boolean hasId, boolean hasCreatedAt) {
+
+    private static final byte[] ID_FIELD = "\"id\":\"".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] CREATED_AT_FIELD = "\"createdAt\":\"".getBytes(StandardCharsets.US_ASCII);
+
+    /**
+     * @return id/createdAt이 모두 있는 AMQP 본문
+     */
+    byte[] complete(String id, Instant createdAt) {
+        if (hasId && hasCreatedAt) {
+            return bytes;
+        }
+
+        byte[] idValue = hasId ? null : JsonStringEncoder.getInstance().quoteAsUTF8(id);
+        byte[] createdAtValue = hasCreatedAt ? null : createdAt.toString().getBytes(StandardCharsets.US_ASCII);
+
+        int length = bytes.length
+                + (idValue == null ? 0 : ID_FIELD.length + idValue.length + 2)
+                + (createdAtValue == null ? 0 : CREATED_AT_FIELD.length + createdAtValue.length + 2);
+        byte[] payload = new byte[length];
+        payload[0] = '{';
+        int position = 1;
+        if (idValue != null) {
+            position = putField(payload, position, ID_FIELD, idValue);
+        }
+        if (createdAtValue != null) {
+            position = putField(payload, position, CREATED_AT_FIELD, createdAtValue);
+        }
+        System.arraycopy(bytes, 1, payload, position, bytes.length - 1);
+        return payload;
+    }
+
+    /**
+     * "name":"value", 기록
+     */
+    private static int putField(byte[] target, int position, byte[] name, byte[] value) {
+        System.arraycopy(name, 0, target, position, name.length);
+        position += name.length;
+        System.arraycopy(value, 0, target, position, value.length);
+        position += value.length;
+        target[position++] = '"';
+        target[position++] = ',';
+        return position;
+    }
+}
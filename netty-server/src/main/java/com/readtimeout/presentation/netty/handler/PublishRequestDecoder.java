@@ -0,0 +1,297 @@
+package com.readtimeout.presentation.netty.handler;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.readtimeout.core.domain.exception.ValidationException;
+import com.readtimeout.core.domain.model.MessagePriority;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.ByteBufUtil;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 발행 요청 바디 디코더
+ *
+ * ByteBuf → String → Map → MessageRequest 복사 대신
+ * Jackson 스트리밍 파서로 ByteBuf를 직접 읽어 필요한 필드(content, requestId, priority)만 추출.
+ * - 필드명은 Jackson이 canonicalize하므로 비교 시 할당 없음
+ * - 알 수 없는 필드, 길이 초과 값은 String 생성 전에 거부
+ * - 결과로 할당되는 객체는 content/requestId 문자열뿐 (priority는 enum으로 매핑)
+ *
+ * 배치 요청은 JSON 배열([{...},{...}]) 또는 NDJSON(줄마다 {...})을 같은 파서로 읽음.
+ * 항목 단위 오류는 해당 항목만 실패로 기록하고 나머지는 계속 디코딩함.
+ *
+ * passthrough 모드(netty.passthrough)에서는 AMQP 본문 형식의 id, createdAt 필드도 허용하고
+ * 검증을 통과한 객체의 원본 바이트를 PassthroughEnvelope로 함께 반환 (발행 시 재직렬화 생략).
+ */
+final class PublishRequestDecoder {
+
+    // message_log.content VARCHAR(1000)
+    static final int MAX_CONTENT_LENGTH = 1000;
+    // message_log.message_id VARCHAR(255)
+    static final int MAX_REQUEST_ID_LENGTH = 255;
+
+    private static final String FIELD_CONTENT = "content";
+    private static final String FIELD_REQUEST_ID = "requestId";
+    private static final String FIELD_PRIORITY = "priority";
+    private static final String FIELD_ID = "id";
+    private static final String FIELD_CREATED_AT = "createdAt";
+    // "normal".length()
+    private static final int MAX_PRIORITY_LENGTH = 6;
+    // "+1000000000-12-31T23:59:59.999999999Z".length()
+    private static final int MAX_CREATED_AT_LENGTH = 37;
+
+    private final JsonFactory jsonFactory;
+    private final boolean passthrough;
+
+    PublishRequestDecoder(JsonFactory jsonFactory, boolean passthrough) {
+        this.jsonFactory = jsonFactory;
+        this.passthrough = passthrough;
+    }
+
+    AbstractHttpServerHandler.MessageRequest decode(ByteBuf body) {
+        int base = body.readerIndex();
+        try (JsonParser parser = createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalArgumentException("Request body must be a JSON object");
+            }
+
+            BatchItem item = readObject(parser, body, base);
+
+            if (parser.currentToken() != JsonToken.END_OBJECT || parser.nextToken() != null) {
+                throw new IllegalArgumentException("Malformed JSON body");
+            }
+            if (item.error() != null) {
+                throw new IllegalArgumentException(item.error());
+            }
+
+            return item.request();
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Malformed JSON body");
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Unreadable request body");
+        }
+    }
+
+    /**
+     * 배치 요청 디코딩
+     *
+     * @param maxItems 허용 항목 수 (초과 시 요청 전체 거부)
+     * @return 입력 순서대로의 항목 (항목 단위 오류 포함)
+     * @throws IllegalArgumentException JSON 구문 오류, 빈 배치, 항목 수 초과
+     */
+    List<BatchItem> decodeBatch(ByteBuf body, int maxItems) {
+        int base = body.readerIndex();
+        try (JsonParser parser = createParser(body)) {
+            JsonToken token = parser.nextToken();
+            boolean array = token == JsonToken.START_ARRAY;
+            if (array) {
+                token = parser.nextToken();
+            }
+
+            List<BatchItem> items = new ArrayList<>();
+            while (token != null && !(array && token == JsonToken.END_ARRAY)) {
+                if (items.size() >= maxItems) {
+                    throw new IllegalArgumentException("Batch exceeds " + maxItems + " messages");
+                }
+
+                if (token == JsonToken.START_OBJECT) {
+                    items.add(readObject(parser, body, base));
+                } else {
+                    parser.skipChildren();
+                    items.add(BatchItem.invalid("Batch item must be a JSON object"));
+                }
+                token = parser.nextToken();
+            }
+
+            if (array && (token != JsonToken.END_ARRAY || parser.nextToken() != null)) {
+                throw new IllegalArgumentException("Malformed JSON body");
+            }
+            if (items.isEmpty()) {
+                throw new IllegalArgumentException("Batch contains no messages");
+            }
+
+            return items;
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Malformed JSON body");
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Unreadable request body");
+        }
+    }
+
+    private JsonParser createParser(ByteBuf body) throws IOException {
+        if (body.hasArray()) {
+            return jsonFactory.createParser(
+                    body.array(), body.arrayOffset() + body.readerIndex(), body.readableBytes());
+        }
+        // Direct/Composite 버퍼는 Jackson의 재활용 버퍼로 스트리밍
+        return jsonFactory.createParser((InputStream) new ByteBufInputStream(body));
+    }
+
+    /**
+     * START_OBJECT 위치에서 객체 하나를 끝(END_OBJECT)까지 읽음
+     *
+     * 필드 오류가 있어도 객체 끝까지 소비하므로 다음 항목을 이어서 읽을 수 있음.
+     * passthrough 모드에서는 정상 항목에 객체 원본 바이트를 붙임.
+     *
+     * @param base 파싱 시작 시 body의 readerIndex (파서의 byte offset 기준점, 스트림 입력은 readerIndex를 옮기므로 미리 보관)
+     */
+    private BatchItem readObject(JsonParser parser, ByteBuf body, int base) throws IOException {
+        long start = parser.currentTokenLocation().getByteOffset();
+        ItemBuilder item = new ItemBuilder(passthrough);
+
+        String field;
+        while ((field = parser.nextFieldName()) != null) {
+            parser.nextToken();
+            item.field(parser, field);
+            parser.skipChildren();
+        }
+
+        BatchItem built = item.build();
+        if (!passthrough || built.request() == null || !item.rewritable()) {
+            return built;
+        }
+        long end = parser.currentLocation().getByteOffset();
+        byte[] bytes = ByteBufUtil.getBytes(body, base + (int) start, (int) (end - start));
+        return new BatchItem(built.request().withEnvelope(new PassthroughEnvelope(bytes, item.hasId(), item.hasCreatedAt())), null);
+    }
+
+    /**
+     * 항목 하나의 필드 값 누적 (blocking/non-blocking 파서 공용)
+     *
+     * 첫 번째 오류만 기록하고 예외를 던지지 않으므로 호출자는 나머지 토큰을 계속 소비할 수 있음.
+     */
+    static final class ItemBuilder {
+
+        private final boolean passthrough;
+
+        private String content;
+        private String requestId;
+        private String id;
+        private Instant createdAt;
+        private MessagePriority priority = MessagePriority.NORMAL;
+        private String error;
+        // id/createdAt 필드가 null 또는 빈 값으로 있으면 원본에 값을 끼워 넣을 수 없으므로(중복 키) 재직렬화
+        private boolean rewritable = true;
+
+        /**
+         * @param passthrough AMQP 본문 형식의 id, createdAt 필드 허용
+         */
+        ItemBuilder(boolean passthrough) {
+            this.passthrough = passthrough;
+        }
+
+        /**
+         * 현재 토큰(필드 값) 처리. 값이 객체/배열이면 오류로 기록만 하고 건너뛰기는 호출자가 담당.
+         */
+        void field(JsonParser parser, String field) throws IOException {
+            try {
+                switch (field) {
+                    case FIELD_CONTENT -> content = readString(parser, FIELD_CONTENT, MAX_CONTENT_LENGTH);
+                    case FIELD_REQUEST_ID -> requestId = readString(parser, FIELD_REQUEST_ID, MAX_REQUEST_ID_LENGTH);
+                    case FIELD_PRIORITY -> priority = readPriority(parser);
+                    case FIELD_ID -> {
+                        requirePassthrough(field);
+                        id = readString(parser, FIELD_ID, MAX_REQUEST_ID_LENGTH);
+                        if (id == null || id.isBlank()) {
+                            id = null;
+                            rewritable = false;
+                        }
+                    }
+                    case FIELD_CREATED_AT -> {
+                        requirePassthrough(field);
+                        createdAt = readCreatedAt(parser);
+                        rewritable &= createdAt != null;
+                    }
+                    default -> throw new IllegalArgumentException("Unknown field: " + field);
+                }
+            } catch (IllegalArgumentException e) {
+                if (error == null) {
+                    error = e.getMessage();
+                }
+            }
+        }
+
+        BatchItem build() {
+            if (error == null && (content == null || content.isBlank())) {
+                error = "Content is required";
+            }
+            // id는 AMQP 본문 형식의 requestId
+            String messageId = id != null ? id : requestId;
+            return error != null
+                    ? BatchItem.invalid(error)
+                    : new BatchItem(new AbstractHttpServerHandler.MessageRequest(
+                            content, messageId, priority, createdAt, null), null);
+        }
+
+        boolean rewritable() {
+            return rewritable;
+        }
+
+        boolean hasId() {
+            return id != null;
+        }
+
+        boolean hasCreatedAt() {
+            return createdAt != null;
+        }
+
+        private void requirePassthrough(String field) {
+            if (!passthrough) {
+                throw new IllegalArgumentException("Unknown field: " + field);
+            }
+        }
+
+        private static Instant readCreatedAt(JsonParser parser) throws IOException {
+            String value = readString(parser, FIELD_CREATED_AT, MAX_CREATED_AT_LENGTH);
+            try {
+                return value == null ? null : Instant.parse(value);
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("Field '" + FIELD_CREATED_AT + "' must be an ISO-8601 instant");
+            }
+        }
+
+        private static MessagePriority readPriority(JsonParser parser) throws IOException {
+            try {
+                return MessagePriority.parse(readString(parser, FIELD_PRIORITY, MAX_PRIORITY_LENGTH));
+            } catch (ValidationException e) {
+                throw new IllegalArgumentException("Field '" + FIELD_PRIORITY + "' must be one of high, normal, low");
+            }
+        }
+
+        private static String readString(JsonParser parser, String field, int maxLength) throws IOException {
+            JsonToken token = parser.currentToken();
+            if (token == JsonToken.VALUE_NULL) {
+                return null;
+            }
+            if (token != JsonToken.VALUE_STRING) {
+                throw new IllegalArgumentException("Field '" + field + "' must be a string");
+            }
+            if (parser.getTextLength() > maxLength) {
+                throw new IllegalArgumentException("Field '" + field + "' exceeds " + maxLength + " characters");
+            }
+            return parser.getText();
+        }
+    }
+
+    /**
+     * 배치 항목 디코딩 결과
+     *
+     * @param request 디코딩된 요청 (오류 시 null)
+     * @param error 항목 단위 오류 메시지 (정상 시 null)
+     */
+    record BatchItem(AbstractHttpServerHandler.MessageRequest request, String error) {
+
+        static BatchItem invalid(String error) {
+            return new BatchItem(null, error);
+        }
+    }
+}
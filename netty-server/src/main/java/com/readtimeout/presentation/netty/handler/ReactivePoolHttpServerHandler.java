@@ -2,15 +2,21 @@ package com.readtimeout.presentation.netty.handler;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.readtimeout.core.domain.model.SendMessage;
+import com.readtimeout.core.domain.model.SendResult;
 import com.readtimeout.core.domain.port.inbound.ReactiveMessageSendUseCase;
+import com.readtimeout.core.domain.port.outbound.MessageIdGenerator;
+import com.readtimeout.infrastructure.config.NettyProperties;
 import com.readtimeout.infrastructure.support.ConcurrencyLimiter;
 import com.readtimeout.presentation.netty.HttpRequestRouter;
 import io.micrometer.core.instrument.MeterRegistry;
-import io.netty.channel.ChannelHandlerContext;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
 @Slf4j
 @Component
 @ConditionalOnProperty(name = "server.mode", havingValue = "reactive-pool")
@@ -22,27 +28,49 @@ public class ReactivePoolHttpServerHandler extends AbstractHttpServerHandler {
     public ReactivePoolHttpServerHandler(
             HttpRequestRouter router,
             ObjectMapper objectMapper,
+            NettyProperties properties,
+            MessageIdGenerator idGenerator,
             ReactiveMessageSendUseCase useCase,
             ConcurrencyLimiter limiter,
             MeterRegistry meterRegistry) {
-        super(router, objectMapper, meterRegistry);
+        super(router, objectMapper, properties, idGenerator, meterRegistry);
         this.useCase = useCase;
         this.limiter = limiter;
     }
 
     @Override
-    protected void processAndRespond(ChannelHandlerContext ctx, SendMessage sendMessage, String requestId) {
+    protected void processAndRespond(HttpExchange exchange, SendMessage sendMessage, String requestId) {
+        long startTime;
         try {
-            limiter.acquire();
+            startTime = limiter.acquire(sendMessage.getPriority());
         } catch (Exception e) {
-            sendPublishFailureResponse(ctx, sendMessage, e);
+            sendPublishFailureResponse(exchange, sendMessage, e);
             return;
         }
 
         useCase.send(sendMessage)
-                .doFinally(signal -> limiter.release())
-                .doOnSuccess(v -> sendSuccessResponse(ctx, sendMessage, requestId))
-                .doOnError(e -> sendPublishFailureResponse(ctx, sendMessage, e))
+                .doOnSuccess(v -> limiter.release(startTime, null))
+                .doOnError(e -> limiter.release(startTime, e))
+                .doOnCancel(limiter::release)
+                .doOnSuccess(v -> sendSuccessResponse(exchange, sendMessage, requestId))
+                .doOnError(e -> sendPublishFailureResponse(exchange, sendMessage, e))
                 .subscribe();
     }
+
+    @Override
+    protected CompletionStage<List<SendResult>> sendBatch(List<SendMessage> sendMessages) {
+        int permits = sendMessages.size();
+        long startTime;
+        try {
+            startTime = limiter.acquire(permits, batchPriority(sendMessages));
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        return useCase.sendBatch(sendMessages)
+                .doOnSuccess(results -> limiter.release(permits, startTime, null))
+                .doOnError(e -> limiter.release(permits, startTime, e))
+                .doOnCancel(() -> limiter.release(permits))
+                .toFuture();
+    }
 }
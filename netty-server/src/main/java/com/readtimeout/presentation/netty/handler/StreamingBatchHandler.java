@@ -0,0 +1,307 @@
+package com.readtimeout.presentation.netty.handler;
+
+import com.readtimeout.core.domain.model.Deadline;
+import com.readtimeout.core.domain.model.SendMessage;
+import com.readtimeout.core.domain.model.SendResult;
+import com.readtimeout.infrastructure.config.NettyProperties;
+import com.readtimeout.presentation.netty.HttpRequestRouter;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpUtil;
+import io.netty.handler.codec.http.LastHttpContent;
+import io.netty.util.ReferenceCountUtil;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 스트리밍 배치 요청 핸들러 (연결마다 생성, aggregator 앞에 위치)
+ *
+ * POST /api/messages/batch 요청만 가로채고 나머지는 그대로 aggregator로 전달.
+ * - HttpContent 청크가 도착할 때마다 파싱하여 완성된 메시지를 dispatchSize건씩 바로 발행
+ * - 발행 중인 메시지 수가 highWatermark를 넘으면 autoRead를 끄고, lowWatermark 이하로 내려가면 재개
+ *   (버퍼링 대신 TCP/HTTP2 flow control로 업로드 속도를 조절)
+ * - 본문이 끝나고 모든 발행이 완료되면 배치 응답과 같은 형식으로 항목별 결과 응답
+ *
+ * 발행 자체는 모드별 핸들러의 sendBatch()를 그대로 사용함.
+ */
+@Slf4j
+public final class StreamingBatchHandler extends ChannelInboundHandlerAdapter {
+
+    private final AbstractHttpServerHandler handler;
+    private final NettyProperties.StreamingConfig config;
+    private final int maxBatchSize;
+    private final int maxRequestsPerConnection;
+
+    private StreamingBatch current;
+    private boolean discarding;
+
+    public StreamingBatchHandler(AbstractHttpServerHandler handler, NettyProperties properties) {
+        this.handler = handler;
+        this.config = properties.streaming();
+        this.maxBatchSize = properties.maxBatchSize();
+        this.maxRequestsPerConnection = properties.maxRequestsPerConnection();
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) {
+        if (current != null || discarding) {
+            onContent(msg);
+            return;
+        }
+
+        if (msg instanceof HttpRequest request
+                && handler.router.route(request.method(), request.uri()) == HttpRequestRouter.Route.BATCH_PUBLISH) {
+            handler.httpRequestCounter.increment();
+            begin(ctx, request);
+            onContent(msg);
+            return;
+        }
+
+        ctx.fireChannelRead(msg);
+    }
+
+    private void begin(ChannelHandlerContext ctx, HttpRequest request) {
+        HttpExchange exchange = HttpResponseSequencer.of(ctx, maxRequestsPerConnection).begin(ctx, request);
+        if (exchange == null) {
+            // Connection: close 응답이 예정된 연결: 본문만 버림
+            discarding = true;
+            return;
+        }
+
+        if (HttpUtil.is100ContinueExpected(request)) {
+            ctx.writeAndFlush(new DefaultFullHttpResponse(
+                    request.protocolVersion(), HttpResponseStatus.CONTINUE, Unpooled.EMPTY_BUFFER));
+        }
+
+        current = new StreamingBatch(ctx, exchange, handler.requestDeadline(ctx, request));
+    }
+
+    private void onContent(Object msg) {
+        if (!(msg instanceof HttpContent content)) {
+            return;
+        }
+
+        boolean last = content instanceof LastHttpContent;
+        try {
+            if (current != null) {
+                current.onContent(content, last);
+            }
+        } finally {
+            ReferenceCountUtil.release(content);
+        }
+
+        if (last) {
+            current = null;
+            discarding = false;
+        }
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+        if (current != null) {
+            current.abort();
+            current = null;
+        }
+        super.channelInactive(ctx);
+    }
+
+    /**
+     * 진행 중인 배치 요청 하나의 상태 (EventLoop에서만 접근)
+     */
+    private final class StreamingBatch {
+
+        private final ChannelHandlerContext ctx;
+        private final HttpExchange exchange;
+        private final Deadline deadline;
+        private final StreamingPublishRequestDecoder decoder;
+        private final List<SendResult> results = new ArrayList<>();
+
+        private List<SendMessage> pending;
+        private int[] pendingIndexes;
+        private int outstanding;
+        private boolean readPaused;
+        private boolean inputDone;
+        private boolean responded;
+        private String failure;
+
+        private StreamingBatch(ChannelHandlerContext ctx, HttpExchange exchange, Deadline deadline) {
+            this.ctx = ctx;
+            this.exchange = exchange;
+            this.deadline = deadline;
+            this.decoder = new StreamingPublishRequestDecoder(handler.objectMapper.getFactory(), handler.properties.passthrough());
+            resetPending();
+        }
+
+        void onContent(HttpContent content, boolean last) {
+            if (failure == null) {
+                try {
+                    decoder.feed(content.content(), this::onItem);
+                    if (last) {
+                        decoder.finish(this::onItem);
+                    }
+                } catch (IllegalArgumentException e) {
+                    fail(e.getMessage());
+                }
+            }
+
+            if (last) {
+                inputDone = true;
+                decoder.close();
+                dispatch();
+                maybeRespond();
+            }
+        }
+
+        private void onItem(PublishRequestDecoder.BatchItem item) {
+            if (failure != null) {
+                return;
+            }
+
+            int index = results.size();
+            if (index >= maxBatchSize) {
+                fail("Batch exceeds " + maxBatchSize + " messages");
+                return;
+            }
+            results.add(null);
+
+            if (item.error() != null) {
+                results.set(index, SendResult.failure(null, item.error()));
+                return;
+            }
+            try {
+                SendMessage sendMessage = handler.createMessage(item.request(), deadline);
+                pendingIndexes[pending.size()] = index;
+                pending.add(sendMessage);
+            } catch (RuntimeException e) {
+                results.set(index, SendResult.failure(null, e));
+                return;
+            }
+
+            if (pending.size() >= config.dispatchSize()) {
+                dispatch();
+            }
+        }
+
+        private void dispatch() {
+            if (pending.isEmpty() || failure != null) {
+                return;
+            }
+
+            List<SendMessage> batch = pending;
+            int[] indexes = pendingIndexes;
+            resetPending();
+
+            outstanding += batch.size();
+            if (!readPaused && outstanding >= config.highWatermark()) {
+                readPaused = true;
+                ctx.channel().config().setAutoRead(false);
+            }
+
+            CompletionStage<List<SendResult>> published;
+            try {
+                published = handler.sendBatch(batch);
+            } catch (Exception e) {
+                published = CompletableFuture.failedFuture(e);
+            }
+
+            published.whenComplete((publishResults, error) -> runOnEventLoop(
+                    () -> onDispatched(batch, indexes, publishResults, error)));
+        }
+
+        private void onDispatched(List<SendMessage> batch, int[] indexes,
+                                  List<SendResult> publishResults, Throwable error) {
+            // 마이크로 배치 전체 거부(동시성 한도 등)는 해당 항목들만 실패 처리
+            for (int i = 0; i < batch.size(); i++) {
+                results.set(indexes[i], error == null
+                        ? publishResults.get(i)
+                        : SendResult.failure(batch.get(i).getId(), error));
+            }
+
+            outstanding -= batch.size();
+            if (readPaused && outstanding <= config.lowWatermark()) {
+                resumeRead();
+            }
+            maybeRespond();
+        }
+
+        private void maybeRespond() {
+            if (!inputDone || outstanding > 0 || responded) {
+                return;
+            }
+            responded = true;
+            resumeRead();
+
+            if (failure == null && results.isEmpty()) {
+                failure = "Batch contains no messages";
+            }
+            if (failure != null) {
+                // 오류 이전에 발행된 메시지는 되돌릴 수 없으므로 건수를 함께 알려줌
+                int published = publishedCount();
+                String message = published == 0
+                        ? failure
+                        : failure + " (" + published + " messages already published)";
+                exchange.respond(HttpResponseEncoder.text(
+                        exchange.alloc(), exchange.protocolVersion(), HttpResponseStatus.BAD_REQUEST, message));
+                return;
+            }
+            exchange.respond(HttpResponseEncoder.batch(exchange.alloc(), exchange.protocolVersion(), results));
+        }
+
+        private int publishedCount() {
+            int accepted = 0;
+            for (SendResult result : results) {
+                if (result != null && result.published()) {
+                    accepted++;
+                }
+            }
+            return accepted;
+        }
+
+        private void fail(String message) {
+            if (failure == null) {
+                failure = message;
+                resetPending();
+                log.debug("Streaming batch rejected: {}", message);
+            }
+        }
+
+        void abort() {
+            decoder.close();
+            responded = true;
+        }
+
+        private void resumeRead() {
+            if (readPaused) {
+                readPaused = false;
+                ctx.channel().config().setAutoRead(true);
+            }
+        }
+
+        private void resetPending() {
+            pending = new ArrayList<>(config.dispatchSize());
+            pendingIndexes = new int[config.dispatchSize()];
+        }
+
+        private void runOnEventLoop(Runnable task) {
+            if (ctx.executor().inEventLoop()) {
+                task.run();
+                return;
+            }
+            try {
+                ctx.executor().execute(task);
+            } catch (RejectedExecutionException e) {
+                log.debug("Event loop shut down before streaming batch completed");
+            }
+        }
+    }
+}
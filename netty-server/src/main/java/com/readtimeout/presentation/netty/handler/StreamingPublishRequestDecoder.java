@@ -0,0 +1,179 @@
+package com.readtimeout.presentation.netty.handler;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteBufferFeeder;
+import io.netty.buffer.ByteBuf;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
+
+/**
+ * 청크 단위 배치 요청 디코더
+ *
+ * Jackson non-blocking 파서에 HttpContent 청크를 그대로 공급하고,
+ * 항목(JSON 객체)이 완성되는 즉시 콜백으로 전달함.
+ * 본문 전체를 모으지 않으므로 업로드 크기와 무관하게 파서 내부 버퍼만 사용.
+ *
+ * 입력 형식은 PublishRequestDecoder.decodeBatch와 동일 (JSON 배열 또는 NDJSON).
+ * 하나의 요청에서만 사용하며 EventLoop 단일 스레드에서 호출됨.
+ */
+final class StreamingPublishRequestDecoder implements AutoCloseable {
+
+    private enum State {
+        ROOT,
+        ARRAY,
+        ITEM,
+        FIELD_VALUE,
+        SKIP,
+        DONE
+    }
+
+    private final JsonParser parser;
+    private final ByteBufferFeeder feeder;
+    private final boolean passthrough;
+
+    private State state = State.ROOT;
+    private State container = State.ROOT;
+    private State afterSkip;
+    private int skipDepth;
+    private boolean started;
+
+    private PublishRequestDecoder.ItemBuilder item;
+    private String field;
+
+    /**
+     * @param passthrough id, createdAt 필드 허용 (청크 경계 때문에 원본 바이트는 전달하지 않고 발행 시 직렬화)
+     */
+    StreamingPublishRequestDecoder(JsonFactory jsonFactory, boolean passthrough) {
+        this.passthrough = passthrough;
+        try {
+            this.parser = jsonFactory.createNonBlockingByteBufferParser();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        this.feeder = (ByteBufferFeeder) parser.getNonBlockingInputFeeder();
+    }
+
+    /**
+     * 청크 공급 후 완성된 항목을 모두 전달
+     *
+     * @throws IllegalArgumentException JSON 구문 오류
+     */
+    void feed(ByteBuf chunk, Consumer<PublishRequestDecoder.BatchItem> sink) {
+        if (!chunk.isReadable()) {
+            return;
+        }
+        try {
+            for (ByteBuffer buffer : chunk.nioBuffers()) {
+                feeder.feedInput(buffer);
+                drain(sink);
+            }
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Malformed JSON body");
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Unreadable request body");
+        }
+    }
+
+    /**
+     * 입력 종료: 남은 토큰을 처리하고 본문이 완결되었는지 확인
+     *
+     * @throws IllegalArgumentException 본문이 중간에 끊긴 경우
+     */
+    void finish(Consumer<PublishRequestDecoder.BatchItem> sink) {
+        try {
+            feeder.endOfInput();
+            drain(sink);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Malformed JSON body");
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Unreadable request body");
+        }
+
+        boolean complete = state == State.DONE || (state == State.ROOT && started);
+        if (!complete) {
+            throw new IllegalArgumentException(started ? "Malformed JSON body" : "Batch contains no messages");
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            parser.close();
+        } catch (IOException ignored) {
+            // 메모리 입력만 사용하므로 발생하지 않음
+        }
+    }
+
+    private void drain(Consumer<PublishRequestDecoder.BatchItem> sink) throws IOException {
+        JsonToken token;
+        while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+            onToken(token, sink);
+        }
+    }
+
+    private void onToken(JsonToken token, Consumer<PublishRequestDecoder.BatchItem> sink) throws IOException {
+        switch (state) {
+            case ROOT, ARRAY -> {
+                if (state == State.ROOT && !started && token == JsonToken.START_ARRAY) {
+                    started = true;
+                    state = State.ARRAY;
+                    return;
+                }
+                if (state == State.ARRAY && token == JsonToken.END_ARRAY) {
+                    state = State.DONE;
+                    return;
+                }
+
+                started = true;
+                container = state;
+                if (token == JsonToken.START_OBJECT) {
+                    item = new PublishRequestDecoder.ItemBuilder(passthrough);
+                    state = State.ITEM;
+                    return;
+                }
+
+                sink.accept(PublishRequestDecoder.BatchItem.invalid("Batch item must be a JSON object"));
+                if (token.isStructStart()) {
+                    skip(container);
+                }
+            }
+            case ITEM -> {
+                if (token == JsonToken.FIELD_NAME) {
+                    field = parser.currentName();
+                    state = State.FIELD_VALUE;
+                } else if (token == JsonToken.END_OBJECT) {
+                    sink.accept(item.build());
+                    item = null;
+                    state = container;
+                }
+            }
+            case FIELD_VALUE -> {
+                item.field(parser, field);
+                state = State.ITEM;
+                if (token.isStructStart()) {
+                    skip(State.ITEM);
+                }
+            }
+            case SKIP -> {
+                if (token.isStructStart()) {
+                    skipDepth++;
+                } else if (token.isStructEnd() && --skipDepth == 0) {
+                    state = afterSkip;
+                }
+            }
+            case DONE -> throw new IllegalArgumentException("Malformed JSON body");
+        }
+    }
+
+    private void skip(State returnTo) {
+        afterSkip = returnTo;
+        skipDepth = 1;
+        state = State.SKIP;
+    }
+}
@@ -6,15 +6,24 @@ import io.micrometer.core.instrument.MeterRegistry;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.SingleThreadEventLoop;
 import io.netty.util.concurrent.EventExecutor;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
 
 /**
  * EventLoopMetricsCollector - 모든 버전에서 사용
+ *
+ * lag은 메트릭 외에 AdmissionController의 과부하 신호로도 사용 (currentLagMillis).
  */
 @Component
 public class EventLoopMetricsCollector {
@@ -27,6 +36,13 @@ public class EventLoopMetricsCollector {
     private final AtomicInteger totalThreads = new AtomicInteger(0);
     private final AtomicInteger pendingTasks = new AtomicInteger(0);
 
+    private static final long LAG_PROBE_INTERVAL_MS = 100L;
+
+    // EventLoop별 최근 lag과 실행 대기 중인 probe의 스케줄 시각 (0 = 대기 중인 probe 없음)
+    private AtomicLongArray lastLagNanos = new AtomicLongArray(0);
+    private AtomicLongArray probeScheduledAt = new AtomicLongArray(0);
+    private ScheduledExecutorService lagProbeScheduler;
+
     // EventLoop Lag 측정 (핵심 메트릭!)
     private DistributionSummary eventLoopLagSummary;
 
@@ -43,6 +59,8 @@ public class EventLoopMetricsCollector {
             case "non-blocking" -> "v2";
             case "reactive" -> "v3";
             case "virtual" -> "v4";
+            case "micro-batch" -> "v5";
+            case "async-confirm" -> "v6";
             default -> "v1";
         };
     }
@@ -50,6 +68,8 @@ public class EventLoopMetricsCollector {
     public void registerEventLoopGroup(EventLoopGroup workerGroup) {
         this.workerGroup = workerGroup;
         this.totalThreads.set(getEventLoopCount());
+        this.lastLagNanos = new AtomicLongArray(totalThreads.get());
+        this.probeScheduledAt = new AtomicLongArray(totalThreads.get());
 
         Gauge.builder("netty.eventloop.threads", totalThreads, AtomicInteger::get)
                 .description("Total number of EventLoop threads")
@@ -133,16 +153,24 @@ public class EventLoopMetricsCollector {
             return;
         }
 
-        // 각 EventLoop마다 주기적으로 lag 측정
-        for (EventExecutor executor : workerGroup) {
-            executor.scheduleAtFixedRate(() -> {
+        // EventLoop 밖의 스레드에서 각 EventLoop에 probe를 넣어 lag 측정
+        // (EventLoop 자신이 스케줄하면 멈춘 EventLoop는 probe도 만들지 못함, 과부하 판단에 쓰이므로 짧은 주기)
+        List<EventExecutor> loops = new ArrayList<>();
+        workerGroup.forEach(loops::add);
+        lagProbeScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "eventloop-lag-probe");
+            thread.setDaemon(true);
+            return thread;
+        });
+        lagProbeScheduler.scheduleAtFixedRate(() -> {
+            for (int i = 0; i < loops.size(); i++) {
                 try {
-                    measureEventLoopLag(executor);
+                    measureEventLoopLag(loops.get(i), i);
                 } catch (Exception e) {
                     log.error("Error measuring EventLoop lag", e);
                 }
-            }, 1, 1, java.util.concurrent.TimeUnit.SECONDS);
-        }
+            }
+        }, LAG_PROBE_INTERVAL_MS, LAG_PROBE_INTERVAL_MS, TimeUnit.MILLISECONDS);
 
         log.info("EventLoop lag measurement started");
     }
@@ -151,14 +179,21 @@ public class EventLoopMetricsCollector {
      * 실제 EventLoop Lag 측정
      *
      * @param executor EventLoop executor
+     * @param loopIndex lag을 기록할 EventLoop 인덱스
      */
-    private void measureEventLoopLag(EventExecutor executor) {
+    private void measureEventLoopLag(EventExecutor executor, int loopIndex) {
         long scheduleTime = System.nanoTime();
+        if (!probeScheduledAt.compareAndSet(loopIndex, 0L, scheduleTime)) {
+            // 이전 probe가 아직 실행되지 않음 (currentLagMillis가 대기 시간을 반영)
+            return;
+        }
 
         executor.execute(() -> {
             long executeTime = System.nanoTime();
             long lagNanos = executeTime - scheduleTime;
             double lagMs = lagNanos / 1_000_000.0;
+            lastLagNanos.set(loopIndex, lagNanos);
+            probeScheduledAt.set(loopIndex, 0L);
 
             // 메트릭 기록
             if (eventLoopLagSummary != null) {
@@ -172,4 +207,30 @@ public class EventLoopMetricsCollector {
         });
     }
 
+    @PreDestroy
+    public void stop() {
+        if (lagProbeScheduler != null) {
+            lagProbeScheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * EventLoop 중 가장 큰 현재 lag (ms)
+     *
+     * 최근 측정값과, 아직 실행되지 못한 probe의 대기 시간 중 큰 값.
+     * EventLoop가 완전히 멈춰 probe가 실행되지 않는 경우에도 lag이 계속 커지도록 함.
+     */
+    public double currentLagMillis() {
+        long now = System.nanoTime();
+        long max = 0;
+        for (int i = 0; i < lastLagNanos.length(); i++) {
+            long lag = lastLagNanos.get(i);
+            long scheduledAt = probeScheduledAt.get(i);
+            if (scheduledAt != 0L) {
+                lag = Math.max(lag, now - scheduledAt);
+            }
+            max = Math.max(max, lag);
+        }
+        return max / 1_000_000.0;
+    }
 }
@@ -0,0 +1,178 @@
+package com.readtimeout.infrastructure.adapter.journal;
+
+import com.readtimeout.core.domain.model.Deadline;
+import com.readtimeout.core.domain.model.MessagePriority;
+import com.readtimeout.core.domain.model.SendMessage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DisplayName("SpillJournal")
+class SpillJournalTest {
+
+    // 레코드 3~4개마다 세그먼트가 바뀌도록 작게 잡음
+    private static final int SEGMENT_SIZE = 128;
+
+    @TempDir
+    Path directory;
+
+    private SimpleMeterRegistry meterRegistry;
+    private SpillJournal journal;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        meterRegistry = new SimpleMeterRegistry();
+        // flusher가 스스로 fsync하지 않도록 주기를 길게 잡고, 테스트에서 flush()를 직접 호출
+        journal = SpillJournal.open(directory, SEGMENT_SIZE, 64, 1, TimeUnit.HOURS, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        journal.close();
+    }
+
+    @Nested
+    @DisplayName("세그먼트 roll과 relay")
+    class RollAndRelay {
+
+        @Test
+        @DisplayName("봉인된 세그먼트의 fsync가 끝나기 전에는 relay가 다음 세그먼트로 넘어가지 않는다")
+        void shouldNotSkipSealedSegmentBeforeItIsDurable() {
+            // given
+            List<CompletableFuture<Void>> acks = append(0, 10);
+            assertThat(meterRegistry.get("journal.segments").gauge().value()).isGreaterThan(1);
+
+            // when
+            SpillJournal.ReadBatch pending = journal.read(journal.checkpoint(), 100);
+
+            // then
+            assertThat(pending.messages()).isEmpty();
+            assertThat(pending.next()).isEqualTo(journal.checkpoint());
+            assertThat(acks).noneMatch(CompletableFuture::isDone);
+        }
+
+        @Test
+        @DisplayName("fsync 대기 중 roll된 세그먼트를 relay가 commit해도 ack된 레코드를 모두 읽는다")
+        void shouldRelayEveryAckedRecordWhenRollingWhileFlushIsPending() {
+            // given
+            List<CompletableFuture<Void>> acks = new ArrayList<>(append(0, 2));
+            journal.flush();
+            List<String> relayed = new ArrayList<>();
+            SpillJournal.Position cursor = relay(journal.checkpoint(), relayed);
+
+            // when: 다음 append들이 세그먼트를 roll시킨 뒤, fsync 전에 relay가 한 번 돌고 commit
+            acks.addAll(append(2, 8));
+            cursor = relay(cursor, relayed);
+            journal.flush();
+            relay(cursor, relayed);
+
+            // then
+            assertThat(acks).allMatch(future -> future.isDone() && !future.isCompletedExceptionally());
+            assertThat(relayed).containsExactly(
+                    "m-0", "m-1", "m-2", "m-3", "m-4", "m-5", "m-6", "m-7", "m-8", "m-9");
+        }
+    }
+
+    @Nested
+    @DisplayName("레코드 형식")
+    class RecordFormat {
+
+        @Test
+        @DisplayName("relay가 읽은 메시지는 기록한 우선순위를 유지한다")
+        void shouldKeepPriority() {
+            // given
+            Instant createdAt = Instant.parse("2024-01-01T00:00:00.123456789Z");
+            journal.append(new SendMessage("otp", "123456", createdAt, Deadline.none(), MessagePriority.HIGH));
+            journal.append(new SendMessage("campaign", "sale", createdAt, Deadline.none(), MessagePriority.LOW));
+            journal.flush();
+
+            // when
+            List<SendMessage> messages = journal.read(journal.checkpoint(), 100).messages();
+
+            // then
+            assertThat(messages).extracting(SendMessage::getId, SendMessage::getPriority, SendMessage::getCreatedAt)
+                    .containsExactly(
+                            tuple("otp", MessagePriority.HIGH, createdAt),
+                            tuple("campaign", MessagePriority.LOW, createdAt));
+        }
+    }
+
+    @Nested
+    @DisplayName("재시작 복구")
+    class Recovery {
+
+        @Test
+        @DisplayName("끝 표시 뒤에 남은 레코드 위에 이어 쓰지 않아 거부된 레코드가 다시 relay되지 않는다")
+        void shouldNotResurrectRecordsAfterEndMarker() throws IOException {
+            // given: m-1, m-2는 fsync 실패로 거부되어 m-0 뒤에 끝 표시가 남은 상태 (poison과 같은 모양)
+            append(0, 1);
+            journal.flush();
+            append(1, 2);
+            journal.flush();
+            journal.close();
+            markEndAfterFirstRecord(directory.resolve(String.format("%020d.seg", 0)));
+
+            // when: 재시작 후 거부된 레코드와 같은 크기의 레코드를 쓰고 다시 재시작
+            journal = reopen();
+            append(3, 1);
+            journal.flush();
+            journal.close();
+            journal = reopen();
+
+            // then
+            List<String> relayed = new ArrayList<>();
+            relay(journal.checkpoint(), relayed);
+            assertThat(relayed).containsExactly("m-0", "m-3");
+        }
+
+        private void markEndAfterFirstRecord(Path segment) throws IOException {
+            try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                ByteBuffer length = ByteBuffer.allocate(Integer.BYTES);
+                channel.read(length, 0);
+                // length | crc32c | payload
+                int end = 2 * Integer.BYTES + length.flip().getInt();
+                channel.write(ByteBuffer.allocate(Integer.BYTES), end);
+            }
+        }
+
+        private SpillJournal reopen() throws IOException {
+            return SpillJournal.open(directory, SEGMENT_SIZE, 64, 1, TimeUnit.HOURS, meterRegistry);
+        }
+    }
+
+    private List<CompletableFuture<Void>> append(int from, int count) {
+        List<CompletableFuture<Void>> acks = new ArrayList<>(count);
+        for (int i = from; i < from + count; i++) {
+            acks.add(journal.append(new SendMessage("m-" + i, "payload-" + i, Instant.EPOCH.plusSeconds(i))));
+        }
+        return acks;
+    }
+
+    /**
+     * JournalRelay 한 바퀴: 읽은 레코드를 발행했다고 보고 바로 commit
+     */
+    private SpillJournal.Position relay(SpillJournal.Position from, List<String> relayed) {
+        SpillJournal.ReadBatch batch = journal.read(from, 100);
+        batch.messages().forEach(message -> relayed.add(message.getId()));
+        journal.commit(batch.next());
+        return batch.next();
+    }
+}
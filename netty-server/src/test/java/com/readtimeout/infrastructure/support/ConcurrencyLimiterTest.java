@@ -0,0 +1,63 @@
+package com.readtimeout.infrastructure.support;
+
+import com.readtimeout.core.domain.exception.DeadlineExceededException;
+import com.readtimeout.core.domain.exception.MessagePublishException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ConcurrencyLimiter")
+class ConcurrencyLimiterTest {
+
+    private static final int INITIAL_LIMIT = 100;
+    // 샘플 창이 끝나려면 최소 10개 샘플 필요
+    private static final int WINDOW_SAMPLES = 20;
+
+    private ConcurrencyLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        // drop이 있던 창마다 한도를 절반으로
+        LimitAlgorithm halveOnDrop = (limit, sample) -> sample.dropped() ? limit / 2 : limit;
+        limiter = new ConcurrencyLimiter(halveOnDrop, INITIAL_LIMIT, 1, 1000, Duration.ZERO, PriorityBudget.NONE);
+    }
+
+    @Nested
+    @DisplayName("release")
+    class Release {
+
+        @Test
+        @DisplayName("deadline 초과로 끝난 요청은 drop으로 세지 않아 한도가 줄지 않는다")
+        void shouldNotShrinkOnDeadlineExceeded() {
+            // when
+            for (int i = 0; i < WINDOW_SAMPLES; i++) {
+                long startTime = limiter.acquire();
+                limiter.release(startTime, new CompletionException(new DeadlineExceededException("Deadline exceeded before publish")));
+            }
+
+            // then
+            assertThat(limiter.getLimit()).isEqualTo(INITIAL_LIMIT);
+            assertThat(limiter.getInFlight()).isZero();
+        }
+
+        @Test
+        @DisplayName("발행 실패는 drop으로 세어 한도를 줄인다")
+        void shouldShrinkOnPublishFailure() {
+            // when
+            for (int i = 0; i < WINDOW_SAMPLES; i++) {
+                long startTime = limiter.acquire();
+                limiter.release(startTime, new MessagePublishException("confirm timeout"));
+            }
+
+            // then
+            assertThat(limiter.getLimit()).isLessThan(INITIAL_LIMIT);
+            assertThat(limiter.getInFlight()).isZero();
+        }
+    }
+}
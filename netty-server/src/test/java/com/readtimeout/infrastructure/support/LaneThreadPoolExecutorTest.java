@@ -0,0 +1,115 @@
+package com.readtimeout.infrastructure.support;
+
+import com.readtimeout.core.application.service.AsyncMessageSendService;
+import com.readtimeout.core.application.service.PrioritizedTask;
+import com.readtimeout.core.domain.model.Deadline;
+import com.readtimeout.core.domain.model.MessagePriority;
+import com.readtimeout.core.domain.model.SendMessage;
+import com.readtimeout.core.domain.port.outbound.AsyncMessagePublisher;
+import com.readtimeout.core.domain.port.outbound.ExternalApiPort;
+import com.readtimeout.core.domain.port.outbound.MessageLogPort;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@DisplayName("LaneThreadPoolExecutor")
+class LaneThreadPoolExecutorTest {
+
+    private static final int QUEUE_CAPACITY = 10;
+    // LOW 몫: 10 × 0.5 = 5
+    private static final int LOW_LIMIT = 5;
+
+    private final CountDownLatch blocker = new CountDownLatch(1);
+    private LaneThreadPoolExecutor executor;
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        WeightedLaneQueue queue = new WeightedLaneQueue(QUEUE_CAPACITY, new PriorityBudget(0.9, 0.5), Map.of());
+        executor = new LaneThreadPoolExecutor(1, 4, 60, TimeUnit.SECONDS, queue, Thread::new);
+
+        // 유일한 core 스레드를 붙잡아 두고 LOW lane을 몫만큼 채움
+        CountDownLatch started = new CountDownLatch(1);
+        executor.execute(new PrioritizedTask(MessagePriority.HIGH, () -> {
+            started.countDown();
+            awaitQuietly(blocker);
+        }));
+        started.await();
+        for (int i = 0; i < LOW_LIMIT; i++) {
+            executor.execute(new PrioritizedTask(MessagePriority.LOW, () -> { }));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        blocker.countDown();
+        executor.shutdownNow();
+    }
+
+    @Nested
+    @DisplayName("execute")
+    class Execute {
+
+        @Test
+        @DisplayName("몫을 넘긴 LOW 작업은 스레드를 늘리지 않고 거부한다")
+        void shouldRejectOverBudgetWithoutGrowingPool() {
+            // when & then
+            assertThatThrownBy(() -> executor.execute(new PrioritizedTask(MessagePriority.LOW, () -> { })))
+                    .isInstanceOf(RejectedExecutionException.class);
+            assertThat(executor.getPoolSize()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("AsyncMessageSendService와 함께")
+    class WithSendService {
+
+        @Test
+        @DisplayName("lane이 가득 차면 send는 실패한 Future로 끝나고 동시성 permit이 반환된다")
+        void shouldReleasePermitWhenLaneIsFull() {
+            // given
+            ExternalApiPort externalApiPort = mock(ExternalApiPort.class);
+            MessageLogPort messageLogPort = mock(MessageLogPort.class);
+            AsyncMessagePublisher messagePublisher = mock(AsyncMessagePublisher.class);
+            AsyncMessageSendService service =
+                    new AsyncMessageSendService(externalApiPort, messageLogPort, messagePublisher, executor);
+            ConcurrencyLimiter limiter = new ConcurrencyLimiter(
+                    LimitAlgorithm.of("fixed"), 100, 1, 100, Duration.ofSeconds(1), PriorityBudget.NONE);
+            SendMessage message = new SendMessage("msg-1", "campaign", Instant.now(),
+                    Deadline.none(), MessagePriority.LOW);
+
+            // when (핸들러와 같은 순서: acquire → send → whenComplete에서 release)
+            long startTime = limiter.acquire(message.getPriority());
+            CompletableFuture<Void> future = service.send(message)
+                    .whenComplete((v, error) -> limiter.release(startTime, error));
+
+            // then
+            assertThat(future).isCompletedExceptionally();
+            assertThat(future.exceptionNow()).isInstanceOf(RejectedExecutionException.class);
+            assertThat(limiter.getInFlight()).isZero();
+            verifyNoInteractions(externalApiPort, messageLogPort, messagePublisher);
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}